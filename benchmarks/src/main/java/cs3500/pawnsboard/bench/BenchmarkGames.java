@@ -0,0 +1,107 @@
+package cs3500.pawnsboard.bench;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.IBoard;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.PackedBoard;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.IStrategy;
+import cs3500.pawnsboard.strategy.Move;
+
+/**
+ * Shared set up for the benchmarks: locating and reading the deck, building boards and
+ * playing positions forward to a realistic mid or end game state.
+ * The deck defaults to docs/deck.config, looked up from the working directory and its parent,
+ * and can be overridden with the pawnsboard.deck system property.
+ */
+final class BenchmarkGames {
+  static final int HAND_SIZE = 5;
+
+  private BenchmarkGames() {
+  }
+
+  /**
+   * Reads the benchmark deck.
+   * @return the red and blue decks
+   */
+  static List<ICard>[] readDecks() {
+    try {
+      return DeckReader.readDeckFile(deckPath());
+    } catch (FileNotFoundException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Returns the path of the benchmark deck file.
+   * @return the deck path
+   */
+  static String deckPath() {
+    String configured = System.getProperty("pawnsboard.deck");
+    if (configured != null) {
+      return configured;
+    }
+    String local = "docs" + File.separator + "deck.config";
+    if (new File(local).exists()) {
+      return local;
+    }
+    return ".." + File.separator + local;
+  }
+
+  /**
+   * Creates an empty board of the given type.
+   * @param type either "object" for Board or "packed" for PackedBoard
+   * @param rows number of rows
+   * @param cols number of columns
+   * @return the new board
+   */
+  static IBoard newBoard(String type, int rows, int cols) {
+    if (type.equals("packed")) {
+      return new PackedBoard(rows, cols);
+    }
+    return new Board(rows, cols);
+  }
+
+  /**
+   * Creates a started game on the given board with fresh decks.
+   * @param decks the red and blue decks
+   * @param board the board
+   * @return the started model
+   */
+  static PawnsBoardModelImpl newGame(List<ICard>[] decks, IBoard board) {
+    IPlayer red = new HumanPlayer("Red", new Deck(decks[0]), HAND_SIZE);
+    IPlayer blue = new HumanPlayer("Blue", new Deck(decks[1]), HAND_SIZE);
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(board, red, blue, HAND_SIZE);
+    model.startGame();
+    return model;
+  }
+
+  /**
+   * Plays up to the given number of turns with FillFirstStrategy on both sides.
+   * @param model the started model
+   * @param turns the maximum number of turns to play
+   */
+  static void playTurns(PawnsBoardModelImpl model, int turns) {
+    IStrategy strategy = new FillFirstStrategy();
+    for (int turn = 0; turn < turns && !model.isGameOver(); turn++) {
+      IPlayer current = model.isRedTurn() ? model.getRedPlayer() : model.getBluePlayer();
+      Move move = strategy.chooseMove(model, current);
+      if (move.isPass()) {
+        model.passTurn();
+      }
+      else {
+        model.placeCard(move.getRow(), move.getCol(), move.getCard());
+      }
+    }
+  }
+}
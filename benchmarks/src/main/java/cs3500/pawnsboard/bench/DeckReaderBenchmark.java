@@ -0,0 +1,60 @@
+package cs3500.pawnsboard.bench;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.pawnsboard.model.DeckCompiler;
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.ICard;
+
+/**
+ * Measures reading and parsing the deck configuration file into both players' decks, against
+ * loading the same deck compiled by DeckCompiler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeckReaderBenchmark {
+  private String path;
+  private File compiled;
+
+  @Setup
+  public void setUp() throws IOException {
+    path = BenchmarkGames.deckPath();
+    compiled = File.createTempFile("deck", ".pbdk");
+    DeckCompiler.compile(path, compiled.getPath());
+  }
+
+  @TearDown
+  public void tearDown() {
+    compiled.delete();
+  }
+
+  @Benchmark
+  public List<ICard>[] readDeckFile() throws FileNotFoundException {
+    return DeckReader.readDeckFile(path);
+  }
+
+  @Benchmark
+  public List<ICard>[] readCompiledDeckFile() throws IOException {
+    return DeckReader.readCompiledDeckFile(compiled.getPath());
+  }
+}
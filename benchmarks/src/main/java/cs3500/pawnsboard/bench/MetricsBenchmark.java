@@ -0,0 +1,78 @@
+package cs3500.pawnsboard.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.pawnsboard.metrics.InstrumentedPawnsBoardModel;
+import cs3500.pawnsboard.metrics.ModelMetrics;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPawnsBoardModel;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+/**
+ * Measures what InstrumentedPawnsBoardModel adds to the cheapest calls it times, by making the
+ * same isMoveLegal and scoreAtRow calls on a model with and without the decorator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+  @Param({"5x7"})
+  public String size;
+
+  private IPawnsBoardModel plain;
+  private IPawnsBoardModel instrumented;
+  private ICard card;
+  private IPlayer red;
+
+  /**
+   * Plays a position a few turns in and wraps it in an instrumented model.
+   */
+  @Setup
+  public void setUp() {
+    String[] dims = size.split("x");
+    PawnsBoardModelImpl model = BenchmarkGames.newGame(BenchmarkGames.readDecks(),
+            BenchmarkGames.newBoard("object", Integer.parseInt(dims[0]),
+                    Integer.parseInt(dims[1])));
+    BenchmarkGames.playTurns(model, 6);
+    plain = model;
+    instrumented = new InstrumentedPawnsBoardModel(model, new ModelMetrics());
+    red = model.getRedPlayer();
+    card = red.getHand().get(0);
+  }
+
+  @Benchmark
+  public boolean isMoveLegal() {
+    return plain.isMoveLegal(0, 0, card, true);
+  }
+
+  @Benchmark
+  public boolean isMoveLegalInstrumented() {
+    return instrumented.isMoveLegal(0, 0, card, true);
+  }
+
+  @Benchmark
+  public int scoreAtRow() {
+    return plain.scoreAtRow(0, red);
+  }
+
+  @Benchmark
+  public int scoreAtRowInstrumented() {
+    return instrumented.scoreAtRow(0, red);
+  }
+}
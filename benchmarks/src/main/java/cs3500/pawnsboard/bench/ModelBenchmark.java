@@ -0,0 +1,174 @@
+package cs3500.pawnsboard.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.pawnsboard.model.IBoard;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.MoveEncoding;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.Position;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.Move;
+
+/**
+ * Measures the model operations a turn is made of: checking where a card may go, placing it,
+ * spreading its influence and copying the board for a strategy. Listing a whole hand's legal
+ * moves is measured both with isMoveLegal on every card and cell and with legalMoves, and
+ * copying the board is measured against taking a packed Position snapshot. makeUnmake plays a
+ * move with makeMove and takes it back, which is what a search pays per node instead of a copy.
+ * Every benchmark runs on a position a few turns into a game, so the board holds cards and
+ * pawns of both players.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelBenchmark {
+  private static final int TURNS = 6;
+
+  @Param({"3x5", "5x7", "25x25", "101x101"})
+  public String size;
+
+  @Param({"object", "packed"})
+  public String boardType;
+
+  private List<ICard>[] decks;
+  private int rows;
+  private int cols;
+  private PawnsBoardModelImpl model;
+  private ICard card;
+  private boolean isRed;
+  private int[] moves;
+  private int searchMove;
+
+  /**
+   * Plays the shared position a few turns in and picks the card to test legality with.
+   */
+  @Setup
+  public void setUp() {
+    String[] dims = size.split("x");
+    rows = Integer.parseInt(dims[0]);
+    cols = Integer.parseInt(dims[1]);
+    decks = BenchmarkGames.readDecks();
+    model = newPosition();
+    isRed = model.isRedTurn();
+    IPlayer current = isRed ? model.getRedPlayer() : model.getBluePlayer();
+    card = current.getHand().get(0);
+    moves = new int[MoveEncoding.bufferSize(current.getHand().size(), rows, cols)];
+    int count = model.legalMoves(isRed, moves);
+    searchMove = count == 0 ? MoveEncoding.PASS : moves[count / 2];
+  }
+
+  /**
+   * A position of its own for each placeCard call, since placing a card can't be undone.
+   * Building it isn't part of the measured time, and it is a separate state so that only
+   * placeCard pays for it; the other benchmarks' allocation figures would otherwise include
+   * every per-call set up.
+   */
+  @State(Scope.Thread)
+  public static class Placement {
+    private PawnsBoardModelImpl fresh;
+    private Move move;
+
+    @Setup(Level.Invocation)
+    public void setUp(ModelBenchmark benchmark) {
+      fresh = benchmark.newPosition();
+      IPlayer current = fresh.isRedTurn() ? fresh.getRedPlayer() : fresh.getBluePlayer();
+      move = new FillFirstStrategy().chooseMove(fresh, current);
+    }
+  }
+
+  private PawnsBoardModelImpl newPosition() {
+    IBoard board = BenchmarkGames.newBoard(boardType, rows, cols);
+    PawnsBoardModelImpl game = BenchmarkGames.newGame(decks, board);
+    BenchmarkGames.playTurns(game, TURNS);
+    return game;
+  }
+
+  @Benchmark
+  public PawnsBoardModelImpl placeCard(Placement placement) {
+    if (placement.move.isPass()) {
+      placement.fresh.passTurn();
+    }
+    else {
+      placement.fresh.placeCard(placement.move.getRow(), placement.move.getCol(),
+              placement.move.getCard());
+    }
+    return placement.fresh;
+  }
+
+  @Benchmark
+  public IBoard applyInfluence() {
+    IBoard board = model.getBoard();
+    board.applyInfluence(rows / 2, cols / 2, card, isRed);
+    return board;
+  }
+
+  @Benchmark
+  public int isMoveLegal() {
+    int legal = 0;
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        if (model.isMoveLegal(row, col, card, isRed)) {
+          legal++;
+        }
+      }
+    }
+    return legal;
+  }
+
+  @Benchmark
+  public int isMoveLegalHand() {
+    List<ICard> hand = model.getPlayerHand(isRed ? model.getRedPlayer() : model.getBluePlayer());
+    int legal = 0;
+    for (ICard held : hand) {
+      for (int row = 0; row < rows; row++) {
+        for (int col = 0; col < cols; col++) {
+          if (model.isMoveLegal(row, col, held, isRed)) {
+            legal++;
+          }
+        }
+      }
+    }
+    return legal;
+  }
+
+  @Benchmark
+  public int legalMoves() {
+    return model.legalMoves(isRed, moves);
+  }
+
+  @Benchmark
+  public IBoard getBoardCopy() {
+    return model.getBoardCopy();
+  }
+
+  @Benchmark
+  public Position getPosition() {
+    return model.getPosition();
+  }
+
+  @Benchmark
+  public PawnsBoardModelImpl makeUnmake() {
+    model.makeMove(searchMove);
+    model.unmakeMove();
+    return model;
+  }
+}
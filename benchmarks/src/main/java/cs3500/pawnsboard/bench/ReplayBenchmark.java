@@ -0,0 +1,101 @@
+package cs3500.pawnsboard.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPawnsBoardModel;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.replay.GameLog;
+import cs3500.pawnsboard.replay.GameLogWriter;
+import cs3500.pawnsboard.replay.GameReplay;
+import cs3500.pawnsboard.replay.RecordingPawnsBoardModel;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.IStrategy;
+import cs3500.pawnsboard.strategy.Move;
+
+/**
+ * Measures replaying a whole logged game between two FillFirstStrategy players, including
+ * dealing the decks again. The moves counter reports replayed moves per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReplayBenchmark {
+  @Param({"5x7", "25x25"})
+  public String size;
+
+  private GameReplay replay;
+  private GameLog log;
+
+  /**
+   * Counts the moves replayed.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Moves {
+    public long moves;
+  }
+
+  /**
+   * Records a game to replay.
+   */
+  @Setup
+  public void setUp() throws IOException {
+    String[] dims = size.split("x");
+    int rows = Integer.parseInt(dims[0]);
+    int cols = Integer.parseInt(dims[1]);
+    List<ICard>[] decks = BenchmarkGames.readDecks();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GameLogWriter writer = new GameLogWriter(bytes, decks[0], decks[1], rows, cols,
+            BenchmarkGames.HAND_SIZE, 1);
+    IPawnsBoardModel model = new RecordingPawnsBoardModel(new PawnsBoardModelImpl(
+            new Board(rows, cols),
+            new HumanPlayer("Red", new Deck(decks[0], 1), BenchmarkGames.HAND_SIZE),
+            new HumanPlayer("Blue", new Deck(decks[1], 1), BenchmarkGames.HAND_SIZE),
+            BenchmarkGames.HAND_SIZE), writer);
+    model.startGame();
+    IStrategy strategy = new FillFirstStrategy();
+    while (!model.isGameOver()) {
+      Move move = strategy.chooseMove(model,
+              model.isRedTurn() ? model.getRedPlayer() : model.getBluePlayer());
+      if (move.isPass()) {
+        model.passTurn();
+      }
+      else {
+        model.placeCard(move.getRow(), move.getCol(), move.getCard());
+      }
+    }
+    writer.close();
+    log = GameLog.read(new ByteArrayInputStream(bytes.toByteArray()));
+    replay = new GameReplay(log, decks[0], decks[1]);
+  }
+
+  @Benchmark
+  public IPawnsBoardModel replayGame(Moves moves) {
+    moves.moves += log.getMoveCount();
+    return replay.replay();
+  }
+}
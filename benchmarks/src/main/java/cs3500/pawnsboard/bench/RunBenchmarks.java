@@ -0,0 +1,43 @@
+package cs3500.pawnsboard.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Accepts the usual JMH command line, and always adds the
+ * gc profiler, so every run reports allocation rates next to the timings, and writes the
+ * results as JSON to jmh-result.json unless another result file is given.
+ */
+public class RunBenchmarks {
+  /**
+   * Main Method.
+   * @param args JMH command line options
+   * @throws Exception if the options are invalid or a benchmark fails
+   */
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+    if (commandLine.shouldHelp() || commandLine.shouldList()
+            || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+      org.openjdk.jmh.Main.main(args);
+      return;
+    }
+    OptionsBuilder builder = new OptionsBuilder();
+    builder.parent(commandLine).addProfiler(GCProfiler.class);
+    if (!commandLine.getResult().hasValue()) {
+      builder.result("jmh-result.json");
+    }
+    if (!commandLine.getResultFormat().hasValue()) {
+      builder.resultFormat(ResultFormatType.JSON);
+    }
+    run(builder.build());
+  }
+
+  private static void run(Options options) throws RunnerException {
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,120 @@
+package cs3500.pawnsboard.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.pawnsboard.model.IBoard;
+import cs3500.pawnsboard.model.ICell;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+/**
+ * Compares the cached row scores kept by the boards with the column scan that scoreAtRow and
+ * currentScore used to perform on every call.
+ * The scan methods reproduce the previous implementation over the same played position.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreBenchmark {
+  @Param({"3x5", "5x7", "25x25", "101x101"})
+  public String size;
+
+  @Param({"object", "packed"})
+  public String boardType;
+
+  private PawnsBoardModelImpl model;
+  private IBoard board;
+  private IPlayer red;
+  private IPlayer blue;
+
+  /**
+   * Plays a game with both decks exhausted so every row has cards to score.
+   */
+  @Setup
+  public void setUp() {
+    String[] dims = size.split("x");
+    board = BenchmarkGames.newBoard(boardType,
+            Integer.parseInt(dims[0]), Integer.parseInt(dims[1]));
+    model = BenchmarkGames.newGame(BenchmarkGames.readDecks(), board);
+    BenchmarkGames.playTurns(model, Integer.MAX_VALUE);
+    red = model.getRedPlayer();
+    blue = model.getBluePlayer();
+  }
+
+  @Benchmark
+  public int scoreAtRowCached() {
+    int sum = 0;
+    for (int row = 0; row < board.getRows(); row++) {
+      sum += model.scoreAtRow(row, red) + model.scoreAtRow(row, blue);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int scoreAtRowScan() {
+    int sum = 0;
+    for (int row = 0; row < board.getRows(); row++) {
+      sum += scanRow(row, red) + scanRow(row, blue);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int currentScoreCached() {
+    return model.currentScore(red) + model.currentScore(blue);
+  }
+
+  @Benchmark
+  public int currentScoreScan() {
+    return scanCurrentScore(red) + scanCurrentScore(blue);
+  }
+
+  private int scanRow(int row, IPlayer p) {
+    int redTotal = 0;
+    int blueTotal = 0;
+    for (int col = 0; col < board.getCols(); col++) {
+      ICell cell = board.getCell(row, col);
+      if (cell.hasCard()) {
+        if (cell.isOwnedByRed()) {
+          redTotal += cell.getCard().getValue();
+        }
+        else {
+          blueTotal += cell.getCard().getValue();
+        }
+      }
+    }
+    return p.getName().equalsIgnoreCase("red") ? redTotal : blueTotal;
+  }
+
+  private int scanCurrentScore(IPlayer player) {
+    int total = 0;
+    for (int row = 0; row < board.getRows(); row++) {
+      int redScore = scanRow(row, red);
+      int blueScore = scanRow(row, blue);
+      if (player.getName().equalsIgnoreCase("red")) {
+        if (redScore > blueScore) {
+          total += redScore;
+        }
+      }
+      else if (blueScore > redScore) {
+        total += blueScore;
+      }
+    }
+    return total;
+  }
+}
@@ -0,0 +1,70 @@
+package cs3500.pawnsboard.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.IStrategy;
+import cs3500.pawnsboard.strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.strategy.Move;
+
+/**
+ * Measures how long the rule based strategies take to choose a move a few turns into a game.
+ * The search strategies run to a time budget, so their cost is measured in nodes or playouts
+ * rather than here.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StrategyBenchmark {
+  @Param({"3x5", "5x7", "25x25", "101x101"})
+  public String size;
+
+  @Param({"object", "packed"})
+  public String boardType;
+
+  private PawnsBoardModelImpl model;
+  private IPlayer current;
+  private IStrategy fillFirst;
+  private IStrategy maximizeRowScore;
+
+  /**
+   * Plays a few turns so both players have cards on the board.
+   */
+  @Setup
+  public void setUp() {
+    String[] dims = size.split("x");
+    model = BenchmarkGames.newGame(BenchmarkGames.readDecks(), BenchmarkGames.newBoard(
+            boardType, Integer.parseInt(dims[0]), Integer.parseInt(dims[1])));
+    BenchmarkGames.playTurns(model, 6);
+    current = model.isRedTurn() ? model.getRedPlayer() : model.getBluePlayer();
+    fillFirst = new FillFirstStrategy();
+    maximizeRowScore = new MaximizeRowScoreStrategy();
+  }
+
+  @Benchmark
+  public Move fillFirst() {
+    return fillFirst.chooseMove(model, current);
+  }
+
+  @Benchmark
+  public Move maximizeRowScore() {
+    return maximizeRowScore.chooseMove(model, current);
+  }
+}
@@ -2,10 +2,18 @@ package cs3500.pawnsboard;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
+import cs3500.pawnsboard.controller.ExecutorTurnScheduler;
 import cs3500.pawnsboard.controller.PawnsBoardController;
 import cs3500.pawnsboard.gui.GuiPawnsBoardView;
+import cs3500.pawnsboard.metrics.InstrumentedPawnsBoardModel;
+import cs3500.pawnsboard.metrics.InstrumentedReadOnlyPawnsBoardModel;
+import cs3500.pawnsboard.metrics.ModelMetrics;
 import cs3500.pawnsboard.model.Board;
 import cs3500.pawnsboard.model.Deck;
 import cs3500.pawnsboard.model.DeckReader;
@@ -18,16 +26,32 @@ import cs3500.pawnsboard.model.MachinePlayer;
 import cs3500.pawnsboard.model.PawnsBoardModelImpl;
 import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
 import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModelImpl;
+import cs3500.pawnsboard.replay.GameLogWriter;
+import cs3500.pawnsboard.replay.RecordingPawnsBoardModel;
+import cs3500.pawnsboard.strategy.AlphaBetaStrategy;
+import cs3500.pawnsboard.strategy.EndgameSolver;
+import cs3500.pawnsboard.strategy.Evaluator;
 import cs3500.pawnsboard.strategy.FillFirstStrategy;
 import cs3500.pawnsboard.strategy.IStrategy;
 import cs3500.pawnsboard.strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.strategy.MonteCarloStrategy;
+import cs3500.pawnsboard.strategy.OpeningBook;
+import cs3500.pawnsboard.strategy.OpeningBookStrategy;
+import cs3500.pawnsboard.strategy.TranspositionTable;
 
 /**
  * Entry point for the Pawns Board game.
  * Reads a deck configuration file, initializes the game, and runs a
  * sample game.
+ * Setting the system property pawnsboard.metrics to a number of seconds times the model's
+ * calls, publishes the timings over JMX and prints them to standard error at that period.
  */
 public class PawnsBoardGame {
+  // shared by both Monte Carlo players rather than one pool each; its workers are
+  // daemon threads started on demand, so the pool needs no shutdown
+  private static final ForkJoinPool SEARCH_POOL = new ForkJoinPool(
+          Runtime.getRuntime().availableProcessors());
+
   /**
    * Main Method.
    * @param args inputs
@@ -61,41 +85,111 @@ public class PawnsBoardGame {
 
     IStrategy fillStrat = new FillFirstStrategy();
     IStrategy maxStrat = new MaximizeRowScoreStrategy();
+    Evaluator evaluator = Evaluator.DEFAULT;
+    String weightsPath = System.getProperty("pawnsboard.weights");
+    if (weightsPath != null) {
+      try {
+        evaluator = Evaluator.readWeightsFile(weightsPath);
+      } catch (FileNotFoundException e) {
+        System.out.println("Weights file not found");
+        return;
+      } catch (IllegalArgumentException e) {
+        System.out.println("Invalid weights format");
+        return;
+      }
+    }
+    OpeningBook book = null;
+    String bookPath = System.getProperty("pawnsboard.book");
+    if (bookPath != null) {
+      try {
+        book = OpeningBook.readBookFile(bookPath);
+      } catch (IOException | IllegalArgumentException e) {
+        System.out.println("Could not read opening book");
+        return;
+      }
+    }
+
+    long metricsPeriod = 0;
+    String metricsProperty = System.getProperty("pawnsboard.metrics");
+    if (metricsProperty != null) {
+      try {
+        metricsPeriod = Long.parseLong(metricsProperty);
+      } catch (NumberFormatException e) {
+        System.out.println("Invalid metrics period");
+        return;
+      }
+      if (metricsPeriod <= 0) {
+        System.out.println("Invalid metrics period");
+        return;
+      }
+    }
 
     IBoard board = new Board(5, 7);
 
-    IPlayer redPlayer = createPlayer("red", redDeck, redPlayerType, fillStrat, maxStrat);
-    IPlayer bluePlayer = createPlayer("blue", blueDeck, bluePlayerType, fillStrat, maxStrat);
+    IPlayer redPlayer = createPlayer("red", redDeck, redPlayerType, fillStrat, maxStrat,
+            evaluator, book);
+    IPlayer bluePlayer = createPlayer("blue", blueDeck, bluePlayerType, fillStrat, maxStrat,
+            evaluator, book);
 
-    IPawnsBoardModel model = new PawnsBoardModelImpl(board, redPlayer, bluePlayer, 5);
-    ReadOnlyPawnsBoardModel readOnlyModel =
-            new ReadOnlyPawnsBoardModelImpl(board, redPlayer, bluePlayer, 5);
+    ExecutorTurnScheduler scheduler = new ExecutorTurnScheduler();
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(board, redPlayer, bluePlayer, 5,
+            scheduler);
+    IPawnsBoardModel game = model;
+    ReadOnlyPawnsBoardModel readOnlyModel = new ReadOnlyPawnsBoardModelImpl(model);
+    String logPath = System.getProperty("pawnsboard.log");
+    if (logPath != null) {
+      try {
+        // the decks are dealt in order; every move is flushed, so the log needs no closing
+        GameLogWriter log = new GameLogWriter(new FileOutputStream(logPath), decks[0],
+                decks[1], board.getRows(), board.getCols(), 5);
+        game = new RecordingPawnsBoardModel(game, log);
+      } catch (IOException e) {
+        System.out.println("Could not write game log");
+        return;
+      }
+    }
+    if (metricsProperty != null) {
+      ModelMetrics metrics = new ModelMetrics();
+      try {
+        metrics.startDump(System.err, metricsPeriod, TimeUnit.SECONDS);
+        metrics.registerMBeans("game");
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        metrics.stopDump();
+        System.out.println("Could not start metrics: " + e.getMessage());
+        return;
+      }
+      game = new InstrumentedPawnsBoardModel(game, metrics);
+      readOnlyModel = new InstrumentedReadOnlyPawnsBoardModel(readOnlyModel, metrics);
+    }
 
     GuiPawnsBoardView gui = new GuiPawnsBoardView(readOnlyModel);
-    PawnsBoardController redController = new PawnsBoardController(model, redPlayer, gui);
-    PawnsBoardController blueController = new PawnsBoardController(model, bluePlayer, gui);
-    model.startGame();
+    PawnsBoardController redController = new PawnsBoardController(game, redPlayer, gui);
+    PawnsBoardController blueController = new PawnsBoardController(game, bluePlayer, gui);
+    game.startGame();
 
-    if (model.isRedTurn()) {
-      redController.onMyTurn();
+    if (game.isRedTurn()) {
+      scheduler.schedule(redController::onMyTurn);
     }
     else {
-      blueController.onMyTurn();
+      scheduler.schedule(blueController::onMyTurn);
     }
   }
 
   /**
    * Creates a player based on the given player type in the inputs.
-   * the player can either be human, or computer player with two types of strataegies.
+   * the player can either be human, or computer player with three types of strataegies.
    * @param name player name.
    * @param deck player's deck.
    * @param playerType the player type.
    * @param fill fillfirst strategy.
    * @param max  max row score strategy
+   * @param evaluator the evaluator the alpha-beta strategy scores positions with
+   * @param book the opening book the alpha-beta strategy plays from, or null for none
    * @return a new player with the given specifications.
    */
-  private static IPlayer createPlayer(String name, Deck deck,
-                                      String playerType, IStrategy fill, IStrategy max) {
+  private static IPlayer createPlayer(String name, Deck deck, String playerType,
+                                      IStrategy fill, IStrategy max, Evaluator evaluator,
+                                      OpeningBook book) {
     if (playerType.equalsIgnoreCase("human")) {
       return new HumanPlayer(name, deck, 5);
     }
@@ -105,6 +199,20 @@ public class PawnsBoardGame {
     else if (playerType.equalsIgnoreCase("strategy2")) {
       return new MachinePlayer(name, deck, 5, max);
     }
+    else if (playerType.equalsIgnoreCase("strategy3")) {
+      // the solver gives up after 2^20 nodes so the search still fits in the deadline
+      IStrategy search = new EndgameSolver(12, 1 << 20, new TranspositionTable(1 << 16),
+              new AlphaBetaStrategy(500, evaluator));
+      if (book != null) {
+        search = new OpeningBookStrategy(book, search);
+      }
+      return new MachinePlayer(name, deck, 5, search, max, 1000);
+    }
+    else if (playerType.equalsIgnoreCase("strategy4")) {
+      return new MachinePlayer(name, deck, 5, new MonteCarloStrategy(500, SEARCH_POOL,
+              SEARCH_POOL.getParallelism(), MonteCarloStrategy.Playout.RANDOM, System.nanoTime()),
+              max, 1000);
+    }
     else {
       return new HumanPlayer(name, deck, 5);
     }
@@ -0,0 +1,41 @@
+package cs3500.pawnsboard.controller;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs turns one at a time on a dedicated background thread.
+ * Every turn is a separate task on a single thread executor, so the stack depth stays constant
+ * however long the game, and machine players search without blocking the thread that
+ * scheduled their turn, such as the Swing event dispatch thread.
+ * The thread is a daemon thread, so an unfinished game doesn't keep the program running.
+ */
+public class ExecutorTurnScheduler implements TurnScheduler {
+  private final ExecutorService executor;
+
+  /**
+   * Constructs a scheduler with its own turn thread.
+   */
+  public ExecutorTurnScheduler() {
+    this.executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "pawnsboard-turns");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public void schedule(Runnable turn) {
+    if (turn == null) {
+      throw new IllegalArgumentException("turn cannot be null");
+    }
+    executor.execute(turn);
+  }
+
+  /**
+   * Stops the turn thread once the turns already scheduled have run.
+   */
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
@@ -1,5 +1,7 @@
 package cs3500.pawnsboard.controller;
 
+import javax.swing.SwingUtilities;
+
 import cs3500.pawnsboard.gui.GuiPawnsBoardView;
 import cs3500.pawnsboard.model.ICard;
 import cs3500.pawnsboard.model.IPawnsBoardModel;
@@ -11,6 +13,9 @@ import cs3500.pawnsboard.model.IPlayer;
  * confirming, and passing).
  * Also allows it to respond to game state changes from the model (turn changes,
  * and game ending).
+ * Turns may arrive on a background thread from the model's TurnScheduler, so every update of
+ * the view is passed to the Swing event dispatch thread, and only human players' controllers
+ * take input from the view.
  */
 public class PawnsBoardController implements PlayerListener, ModelListener {
   private final IPawnsBoardModel model;
@@ -19,7 +24,7 @@ public class PawnsBoardController implements PlayerListener, ModelListener {
 
   private Integer cardIndex = null;
   private int[] cellIndex = null;
-  private boolean myTurn = false;
+  private volatile boolean myTurn = false;
 
   /**
    * Constructs a PawnsBoardController that mediates between the mode, a player, and the view.
@@ -57,7 +62,7 @@ public class PawnsBoardController implements PlayerListener, ModelListener {
       return;
     }
     if (cardIndex == null || cellIndex == null) {
-      gui.showMessage("Must select card and cell before confirming.");
+      showMessage("Must select card and cell before confirming.");
       return;
     }
 
@@ -65,11 +70,13 @@ public class PawnsBoardController implements PlayerListener, ModelListener {
     int row = cellIndex[0];
     int col = cellIndex[1];
 
+    myTurn = false;
     try {
       model.placeCard(row, col, card);
       resetSelections();
     } catch (IllegalArgumentException | IllegalStateException e) {
-      gui.showMessage("Invalid Move: " + e.getMessage());
+      myTurn = true;
+      showMessage("Invalid Move: " + e.getMessage());
     }
   }
 
@@ -79,11 +86,13 @@ public class PawnsBoardController implements PlayerListener, ModelListener {
       return;
     }
 
+    myTurn = false;
     try {
       model.passTurn();
       resetSelections();
     } catch (IllegalStateException e) {
-      gui.showMessage("Cannot pass: " + e.getMessage());
+      myTurn = true;
+      showMessage("Cannot pass: " + e.getMessage());
     }
   }
 
@@ -93,18 +102,30 @@ public class PawnsBoardController implements PlayerListener, ModelListener {
   private void resetSelections() {
     cardIndex = null;
     cellIndex = null;
-    gui.resetSelections();
+    onView(gui::resetSelections);
+  }
+
+  /**
+   * Shows a message to the player.
+   * @param message the message to show
+   */
+  private void showMessage(String message) {
+    onView(() -> gui.showMessage(message));
   }
 
   @Override
   public void onMyTurn() {
     myTurn = true;
     System.out.println(player.getName());
-    gui.addPlayerListener(this);
-    gui.setTitle(player.getName() + ": Your Turn");
-    gui.setVisible(true);
-    gui.requestBoardFocus();
-    gui.repaint();
+    onView(() -> {
+      if (!player.isMachine()) {
+        gui.addPlayerListener(this);
+      }
+      gui.setTitle(player.getName() + ": Your Turn");
+      gui.setVisible(true);
+      gui.requestBoardFocus();
+      gui.repaint();
+    });
     if (player.isMachine()) {
       player.move(model, this);
     }
@@ -114,7 +135,21 @@ public class PawnsBoardController implements PlayerListener, ModelListener {
   public void onGameOver(String message) {
     myTurn = false;
     resetSelections();
-    gui.showMessage(message);
+    showMessage(message);
+  }
+
+  /**
+   * Runs an update of the view on the Swing event dispatch thread, which turns scheduled on
+   * a background thread must not block or touch the view from.
+   * @param update the view update
+   */
+  private void onView(Runnable update) {
+    if (SwingUtilities.isEventDispatchThread()) {
+      update.run();
+    }
+    else {
+      SwingUtilities.invokeLater(update);
+    }
   }
 
   @Override
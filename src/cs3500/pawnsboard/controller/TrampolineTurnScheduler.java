@@ -0,0 +1,38 @@
+package cs3500.pawnsboard.controller;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Runs turns on the thread that schedules them, one after another.
+ * A turn scheduled while no turn is running runs immediately. A turn scheduled from inside a
+ * running turn is queued and runs once that turn returns, so a whole machine-versus-machine
+ * game is played in a loop at constant stack depth rather than as one ever deeper chain of
+ * calls.
+ * This scheduler is meant to be used by one thread at a time.
+ */
+public class TrampolineTurnScheduler implements TurnScheduler {
+  private final Queue<Runnable> pending = new ArrayDeque<>();
+  private boolean running = false;
+
+  @Override
+  public void schedule(Runnable turn) {
+    if (turn == null) {
+      throw new IllegalArgumentException("turn cannot be null");
+    }
+    pending.add(turn);
+    if (running) {
+      return;
+    }
+    running = true;
+    try {
+      Runnable next;
+      while ((next = pending.poll()) != null) {
+        next.run();
+      }
+    } finally {
+      running = false;
+      pending.clear();
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package cs3500.pawnsboard.controller;
+
+/**
+ * Dispatches turns announced by the model to the listener whose turn it is.
+ * The model hands every turn to its scheduler instead of calling the listener directly, so a
+ * listener that moves from inside its turn, as machine players do, doesn't start the next turn
+ * on top of its own call stack.
+ */
+public interface TurnScheduler {
+
+  /**
+   * Schedules a turn to run after every turn scheduled before it.
+   * @param turn the turn to run
+   */
+  void schedule(Runnable turn);
+}
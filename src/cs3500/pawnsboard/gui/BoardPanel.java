@@ -257,7 +257,7 @@ public class BoardPanel extends JPanel implements IBoardPanel {
               new Color(255, 0, 0, 0));
       g2.drawOval( x, row * cellSize, cellSize, cellSize);
       g2.setColor(Color.BLACK);
-      g2.drawString(Integer.toString(model.scoreAtRow(row, model.getBluePlayer())),
+      g2.drawString(Integer.toString(blueScore),
               x + cellSize / 2, (row * cellSize) + cellSize / 2);
     }
   }
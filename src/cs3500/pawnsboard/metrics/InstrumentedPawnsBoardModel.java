@@ -0,0 +1,62 @@
+package cs3500.pawnsboard.metrics;
+
+import cs3500.pawnsboard.controller.ModelListener;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPawnsBoardModel;
+
+/**
+ * A model that passes every call on to another model and times the calls to placeCard and
+ * passTurn, as well as the read only calls timed by InstrumentedReadOnlyPawnsBoardModel.
+ * A placement or pass is timed up to the model's return, which with a TrampolineTurnScheduler
+ * includes the turns of any machine players it sets off. makeMove and unmakeMove are search
+ * moves and aren't timed.
+ */
+public class InstrumentedPawnsBoardModel extends InstrumentedReadOnlyPawnsBoardModel
+        implements IPawnsBoardModel {
+  private final IPawnsBoardModel model;
+
+  /**
+   * Constructs a model that times the calls made on the given model.
+   * @param model the model to pass calls on to
+   * @param metrics the metrics to record into
+   * @throws IllegalArgumentException if either argument is null
+   */
+  public InstrumentedPawnsBoardModel(IPawnsBoardModel model, ModelMetrics metrics) {
+    super(model, metrics);
+    this.model = model;
+  }
+
+  @Override
+  public void startGame() {
+    model.startGame();
+  }
+
+  @Override
+  public void placeCard(int row, int col, ICard card) {
+    long start = metrics.start(ModelOperation.PLACE_CARD);
+    model.placeCard(row, col, card);
+    metrics.stop(ModelOperation.PLACE_CARD, start);
+  }
+
+  @Override
+  public void passTurn() {
+    long start = metrics.start(ModelOperation.PASS_TURN);
+    model.passTurn();
+    metrics.stop(ModelOperation.PASS_TURN, start);
+  }
+
+  @Override
+  public void makeMove(int move) {
+    model.makeMove(move);
+  }
+
+  @Override
+  public void unmakeMove() {
+    model.unmakeMove();
+  }
+
+  @Override
+  public void addModelListener(ModelListener listener) {
+    model.addModelListener(listener);
+  }
+}
@@ -0,0 +1,129 @@
+package cs3500.pawnsboard.metrics;
+
+import java.util.List;
+
+import cs3500.pawnsboard.model.GameState;
+import cs3500.pawnsboard.model.IBoard;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.Position;
+import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
+
+/**
+ * A read only model that passes every call on to another model and times the calls to
+ * isMoveLegal, scoreAtRow, currentScore and getBoardCopy into a ModelMetrics.
+ * Counting a call costs one counter increment and allocates nothing, and only the calls the
+ * metrics sample also pay for two clock reads and a histogram update, so the decorator can be
+ * left on in a live game. Calls that throw are not recorded.
+ */
+public class InstrumentedReadOnlyPawnsBoardModel implements ReadOnlyPawnsBoardModel {
+  private final ReadOnlyPawnsBoardModel model;
+  protected final ModelMetrics metrics;
+
+  /**
+   * Constructs a model that times the calls made on the given model.
+   * @param model the model to pass calls on to
+   * @param metrics the metrics to record into
+   * @throws IllegalArgumentException if either argument is null
+   */
+  public InstrumentedReadOnlyPawnsBoardModel(ReadOnlyPawnsBoardModel model,
+                                             ModelMetrics metrics) {
+    if (model == null || metrics == null) {
+      throw new IllegalArgumentException("model and metrics cannot be null");
+    }
+    this.model = model;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public ICard getCardAt(int row, int col) {
+    return model.getCardAt(row, col);
+  }
+
+  @Override
+  public List<ICard> getPlayerHand(IPlayer player) {
+    return model.getPlayerHand(player);
+  }
+
+  @Override
+  public int scoreAtRow(int row, IPlayer player) {
+    long start = metrics.start(ModelOperation.SCORE_AT_ROW);
+    int score = model.scoreAtRow(row, player);
+    metrics.stop(ModelOperation.SCORE_AT_ROW, start);
+    return score;
+  }
+
+  @Override
+  public int currentScore(IPlayer player) {
+    long start = metrics.start(ModelOperation.CURRENT_SCORE);
+    int score = model.currentScore(player);
+    metrics.stop(ModelOperation.CURRENT_SCORE, start);
+    return score;
+  }
+
+  @Override
+  public GameState getGameState() {
+    return model.getGameState();
+  }
+
+  @Override
+  public IBoard getBoard() {
+    return model.getBoard();
+  }
+
+  @Override
+  public IBoard getBoardCopy() {
+    long start = metrics.start(ModelOperation.GET_BOARD_COPY);
+    IBoard copy = model.getBoardCopy();
+    metrics.stop(ModelOperation.GET_BOARD_COPY, start);
+    return copy;
+  }
+
+  @Override
+  public Position getPosition() {
+    return model.getPosition();
+  }
+
+  @Override
+  public boolean isRedTurn() {
+    return model.isRedTurn();
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return model.isGameOver();
+  }
+
+  @Override
+  public GameState determineWinner() {
+    return model.determineWinner();
+  }
+
+  @Override
+  public boolean isMoveLegal(int row, int col, ICard card, boolean redCard) {
+    long start = metrics.start(ModelOperation.IS_MOVE_LEGAL);
+    boolean legal = model.isMoveLegal(row, col, card, redCard);
+    metrics.stop(ModelOperation.IS_MOVE_LEGAL, start);
+    return legal;
+  }
+
+  @Override
+  public int legalMoves(boolean redPlayer, int[] buffer) {
+    return model.legalMoves(redPlayer, buffer);
+  }
+
+  @Override
+  public boolean outOfBounds(int row, int col) {
+    return model.outOfBounds(row, col);
+  }
+
+  @Override
+  public IPlayer getRedPlayer() {
+    return model.getRedPlayer();
+  }
+
+  @Override
+  public IPlayer getBluePlayer() {
+    return model.getBluePlayer();
+  }
+}
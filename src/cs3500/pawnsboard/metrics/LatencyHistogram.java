@@ -0,0 +1,137 @@
+package cs3500.pawnsboard.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies in nanoseconds that can be recorded into from any number of threads
+ * without locking.
+ * Like HdrHistogram, buckets are log-linear: values below 32 get a bucket each, and every
+ * power of two above that is split into 32 equal buckets, so a value is reported within about
+ * 3% of what was recorded whatever its magnitude. Recording a value is a bucket index
+ * computation and one atomic increment; the buckets are allocated once and never grow.
+ * Reads are not atomic with respect to concurrent recording, so a snapshot taken while values
+ * are recorded may be off by the values recorded during it.
+ */
+public final class LatencyHistogram {
+  private static final int SUB_BITS = 5;
+  private static final int SUB_COUNT = 1 << SUB_BITS;
+  private static final int BUCKETS = (64 - SUB_BITS) * SUB_COUNT;
+
+  private final AtomicLongArray counts;
+  private final LongAdder total;
+  private final AtomicLong max;
+
+  /**
+   * Constructs an empty histogram.
+   */
+  public LatencyHistogram() {
+    this.counts = new AtomicLongArray(BUCKETS);
+    this.total = new LongAdder();
+    this.max = new AtomicLong();
+  }
+
+  /**
+   * Records one latency.
+   * @param nanos the latency in nanoseconds, where negative values are recorded as 0
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0);
+    counts.getAndIncrement(bucket(value));
+    total.add(value);
+    long largest = max.get();
+    while (value > largest && !max.compareAndSet(largest, value)) {
+      largest = max.get();
+    }
+  }
+
+  /**
+   * Returns the number of latencies recorded.
+   * @return the count
+   */
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      count += counts.get(i);
+    }
+    return count;
+  }
+
+  /**
+   * Returns the largest latency recorded.
+   * @return the maximum in nanoseconds, or 0 if nothing was recorded
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Returns the mean of the recorded latencies.
+   * @return the mean in nanoseconds, or 0 if nothing was recorded
+   */
+  public double getMean() {
+    long count = getCount();
+    return count == 0 ? 0 : (double) total.sum() / count;
+  }
+
+  /**
+   * Returns the latency at or below which the given percentage of recorded latencies fall.
+   * The value is the top of the bucket holding that latency, capped at the maximum.
+   * @param percentile the percentile, between 0 and 100
+   * @return the latency in nanoseconds, or 0 if nothing was recorded
+   * @throws IllegalArgumentException if the percentile is outside 0 to 100
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100");
+    }
+    long count = getCount();
+    if (count == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(highestInBucket(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * Clears every recorded latency.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    total.reset();
+    max.set(0);
+  }
+
+  /**
+   * Returns the bucket of a non-negative value.
+   */
+  static int bucket(long value) {
+    if (value < SUB_COUNT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+    return (shift + 1) * SUB_COUNT + (int) (value >>> shift) - SUB_COUNT;
+  }
+
+  /**
+   * Returns the largest value that falls in a bucket.
+   */
+  static long highestInBucket(int bucket) {
+    if (bucket < SUB_COUNT) {
+      return bucket;
+    }
+    int shift = bucket / SUB_COUNT - 1;
+    long lowest = (long) (bucket % SUB_COUNT + SUB_COUNT) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+}
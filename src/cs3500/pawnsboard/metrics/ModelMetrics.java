@@ -0,0 +1,222 @@
+package cs3500.pawnsboard.metrics;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The call counts and latency histograms of every ModelOperation, shared by the instrumented
+ * models that record into them.
+ * Every call is counted, but reading the clock costs more than the read only operations
+ * themselves, so those are timed on one call in every sample interval; placeCard and passTurn
+ * are timed on every call. The sample ticker isn't synchronized, so calls made at once on
+ * several threads may shift which calls are sampled, never how many are counted.
+ * The histograms can be read directly, published as one JMX MBean per operation under
+ * "cs3500.pawnsboard:type=ModelMetrics,name=NAME,operation=METHOD", and written out as a
+ * text table at a fixed period on a background daemon thread.
+ */
+public final class ModelMetrics {
+  private static final long NOT_TIMED = Long.MIN_VALUE;
+  private static final ModelOperation[] OPERATIONS = ModelOperation.values();
+
+  private final LongSupplier clock;
+  private final int sampleMask;
+  private final LatencyHistogram[] histograms;
+  private final LongAdder[] calls;
+  private final int[] ticks;
+  private final List<ObjectName> registered;
+  private ScheduledExecutorService dumper;
+
+  /**
+   * Constructs empty metrics timed with System.nanoTime, timing one in 16 read only calls.
+   */
+  public ModelMetrics() {
+    this(System::nanoTime, 16);
+  }
+
+  /**
+   * Constructs empty metrics timed with the given clock.
+   * @param clock the clock, in nanoseconds
+   * @param sampleInterval one in this many calls to a sampled operation is timed, where 1
+   *     times every call
+   * @throws IllegalArgumentException if the clock is null or the interval isn't a positive
+   *     power of two
+   */
+  public ModelMetrics(LongSupplier clock, int sampleInterval) {
+    if (clock == null) {
+      throw new IllegalArgumentException("clock cannot be null");
+    }
+    if (sampleInterval <= 0 || Integer.bitCount(sampleInterval) != 1) {
+      throw new IllegalArgumentException("sample interval must be a power of two");
+    }
+    this.clock = clock;
+    this.sampleMask = sampleInterval - 1;
+    this.histograms = new LatencyHistogram[OPERATIONS.length];
+    this.calls = new LongAdder[OPERATIONS.length];
+    for (int i = 0; i < OPERATIONS.length; i++) {
+      histograms[i] = new LatencyHistogram();
+      calls[i] = new LongAdder();
+    }
+    this.ticks = new int[OPERATIONS.length];
+    this.registered = new ArrayList<>();
+  }
+
+  /**
+   * Marks the start of a call to an operation.
+   * @param operation the operation called
+   * @return the token to pass to stop when the call returns
+   */
+  public long start(ModelOperation operation) {
+    if (operation.isSampled() && (ticks[operation.ordinal()]++ & sampleMask) != 0) {
+      return NOT_TIMED;
+    }
+    return clock.getAsLong();
+  }
+
+  /**
+   * Counts a call to an operation that has returned, and records its latency if it was timed.
+   * @param operation the operation called
+   * @param start the token start returned when the call began
+   */
+  public void stop(ModelOperation operation, long start) {
+    calls[operation.ordinal()].increment();
+    if (start != NOT_TIMED) {
+      histograms[operation.ordinal()].record(clock.getAsLong() - start);
+    }
+  }
+
+  /**
+   * Returns the number of calls to an operation that have returned.
+   * @param operation the operation
+   * @return the call count
+   */
+  public long getCount(ModelOperation operation) {
+    return calls[operation.ordinal()].sum();
+  }
+
+  /**
+   * Returns the latency histogram of an operation, which holds only its timed calls.
+   * @param operation the operation
+   * @return its histogram
+   */
+  public LatencyHistogram getHistogram(ModelOperation operation) {
+    return histograms[operation.ordinal()];
+  }
+
+  /**
+   * Clears the count and histogram of an operation.
+   * @param operation the operation
+   */
+  public void reset(ModelOperation operation) {
+    calls[operation.ordinal()].reset();
+    histograms[operation.ordinal()].reset();
+  }
+
+  /**
+   * Clears the counts and histograms of every operation.
+   */
+  public void reset() {
+    for (ModelOperation operation : OPERATIONS) {
+      reset(operation);
+    }
+  }
+
+  /**
+   * Formats every operation's count and latencies as a table, one line per operation, with
+   * latencies in microseconds.
+   * @return the table
+   */
+  public String dump() {
+    StringBuilder text = new StringBuilder(String.format("%-14s %10s %10s %10s %10s %10s %10s%n",
+            "operation", "count", "mean us", "p50 us", "p99 us", "p99.9 us", "max us"));
+    for (ModelOperation operation : OPERATIONS) {
+      LatencyHistogram histogram = getHistogram(operation);
+      text.append(String.format("%-14s %10d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+              operation.getMethodName(), getCount(operation), histogram.getMean() / 1000,
+              histogram.getValueAtPercentile(50) / 1000.0,
+              histogram.getValueAtPercentile(99) / 1000.0,
+              histogram.getValueAtPercentile(99.9) / 1000.0, histogram.getMax() / 1000.0));
+    }
+    return text.toString();
+  }
+
+  /**
+   * Starts writing dump() to a stream at a fixed period, replacing any earlier periodic dump.
+   * @param out the stream to write to
+   * @param period the time between dumps
+   * @param unit the unit of the period
+   * @throws IllegalArgumentException if out or unit is null, or the period isn't positive
+   */
+  public synchronized void startDump(PrintStream out, long period, TimeUnit unit) {
+    if (out == null || unit == null || period <= 0) {
+      throw new IllegalArgumentException("Invalid dump stream or period");
+    }
+    stopDump();
+    dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "pawnsboard-metrics");
+      thread.setDaemon(true);
+      return thread;
+    });
+    dumper.scheduleAtFixedRate(() -> out.print(dump()), period, period, unit);
+  }
+
+  /**
+   * Stops the periodic dump, if one is running.
+   */
+  public synchronized void stopDump() {
+    if (dumper != null) {
+      dumper.shutdownNow();
+      dumper = null;
+    }
+  }
+
+  /**
+   * Publishes one MBean per operation on the platform MBean server.
+   * @param name the name that tells these metrics apart from other games' metrics
+   * @throws IllegalArgumentException if the name is null
+   * @throws IllegalStateException if the MBeans can't be registered, such as when the name is
+   *     already taken
+   */
+  public synchronized void registerMBeans(String name) {
+    if (name == null) {
+      throw new IllegalArgumentException("name cannot be null");
+    }
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      for (ModelOperation operation : OPERATIONS) {
+        ObjectName objectName = new ObjectName("cs3500.pawnsboard:type=ModelMetrics,name="
+                + ObjectName.quote(name) + ",operation=" + operation.getMethodName());
+        server.registerMBean(new OperationStats(this, operation), objectName);
+        registered.add(objectName);
+      }
+    } catch (JMException e) {
+      unregisterMBeans();
+      throw new IllegalStateException("Could not register the model metrics MBeans", e);
+    }
+  }
+
+  /**
+   * Removes the MBeans published by registerMBeans.
+   */
+  public synchronized void unregisterMBeans() {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    for (ObjectName objectName : registered) {
+      try {
+        server.unregisterMBean(objectName);
+      } catch (JMException e) {
+        // already unregistered
+      }
+    }
+    registered.clear();
+  }
+}
@@ -0,0 +1,40 @@
+package cs3500.pawnsboard.metrics;
+
+/**
+ * The model operations whose calls InstrumentedPawnsBoardModel times.
+ * Placements and passes happen once a turn and are timed on every call. The read only
+ * operations are called many times a turn by strategies and take a few nanoseconds, less than
+ * reading the clock, so they are sampled.
+ */
+public enum ModelOperation {
+  PLACE_CARD("placeCard", false),
+  PASS_TURN("passTurn", false),
+  IS_MOVE_LEGAL("isMoveLegal", true),
+  SCORE_AT_ROW("scoreAtRow", true),
+  CURRENT_SCORE("currentScore", true),
+  GET_BOARD_COPY("getBoardCopy", true);
+
+  private final String methodName;
+  private final boolean sampled;
+
+  ModelOperation(String methodName, boolean sampled) {
+    this.methodName = methodName;
+    this.sampled = sampled;
+  }
+
+  /**
+   * Returns the name of the model method this operation times.
+   * @return the method name
+   */
+  public String getMethodName() {
+    return methodName;
+  }
+
+  /**
+   * Returns whether only a sample of this operation's calls is timed.
+   * @return true if calls are sampled, false if every call is timed
+   */
+  public boolean isSampled() {
+    return sampled;
+  }
+}
@@ -0,0 +1,56 @@
+package cs3500.pawnsboard.metrics;
+
+/**
+ * Exposes the count and histogram of one model operation as a standard MBean.
+ */
+final class OperationStats implements OperationStatsMBean {
+  private final ModelMetrics metrics;
+  private final ModelOperation operation;
+  private final LatencyHistogram histogram;
+
+  OperationStats(ModelMetrics metrics, ModelOperation operation) {
+    this.metrics = metrics;
+    this.operation = operation;
+    this.histogram = metrics.getHistogram(operation);
+  }
+
+  @Override
+  public long getCount() {
+    return metrics.getCount(operation);
+  }
+
+  @Override
+  public double getMean() {
+    return histogram.getMean();
+  }
+
+  @Override
+  public long getP50() {
+    return histogram.getValueAtPercentile(50);
+  }
+
+  @Override
+  public long getP90() {
+    return histogram.getValueAtPercentile(90);
+  }
+
+  @Override
+  public long getP99() {
+    return histogram.getValueAtPercentile(99);
+  }
+
+  @Override
+  public long getP999() {
+    return histogram.getValueAtPercentile(99.9);
+  }
+
+  @Override
+  public long getMax() {
+    return histogram.getMax();
+  }
+
+  @Override
+  public void reset() {
+    metrics.reset(operation);
+  }
+}
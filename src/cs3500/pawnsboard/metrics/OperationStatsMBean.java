@@ -0,0 +1,53 @@
+package cs3500.pawnsboard.metrics;
+
+/**
+ * The JMX view of the calls to one model operation. All latencies are in nanoseconds.
+ */
+public interface OperationStatsMBean {
+  /**
+   * Returns the number of calls.
+   * @return the call count
+   */
+  long getCount();
+
+  /**
+   * Returns the mean latency of a call.
+   * @return the mean
+   */
+  double getMean();
+
+  /**
+   * Returns the median latency of a call.
+   * @return the 50th percentile
+   */
+  long getP50();
+
+  /**
+   * Returns the 90th percentile latency of a call.
+   * @return the 90th percentile
+   */
+  long getP90();
+
+  /**
+   * Returns the 99th percentile latency of a call.
+   * @return the 99th percentile
+   */
+  long getP99();
+
+  /**
+   * Returns the 99.9th percentile latency of a call.
+   * @return the 99.9th percentile
+   */
+  long getP999();
+
+  /**
+   * Returns the slowest call.
+   * @return the maximum
+   */
+  long getMax();
+
+  /**
+   * Clears the recorded calls.
+   */
+  void reset();
+}
@@ -0,0 +1,88 @@
+package cs3500.pawnsboard.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The think times and search counts of the moves one strategy chose, and how often it missed
+ * its deadline.
+ * A strategy that misses its deadline still has its think time recorded once it finishes, so
+ * the percentiles show how long it really takes; the move actually played came from the
+ * fallback. Recording is safe from any number of threads.
+ */
+public final class StrategyStats {
+  private final LatencyHistogram thinkTimes;
+  private final LongAdder nodes;
+  private final LongAdder misses;
+
+  /**
+   * Constructs empty statistics.
+   */
+  public StrategyStats() {
+    this.thinkTimes = new LatencyHistogram();
+    this.nodes = new LongAdder();
+    this.misses = new LongAdder();
+  }
+
+  /**
+   * Records one call to the strategy.
+   * @param nanos how long the strategy took to choose its move, in nanoseconds
+   * @param searched how many nodes it searched
+   */
+  public void recordMove(long nanos, long searched) {
+    thinkTimes.record(nanos);
+    nodes.add(searched);
+  }
+
+  /**
+   * Records a move on which the strategy missed its deadline.
+   */
+  public void recordMiss() {
+    misses.increment();
+  }
+
+  /**
+   * Returns the number of moves the strategy finished choosing.
+   * @return the move count
+   */
+  public long getMoves() {
+    return thinkTimes.getCount();
+  }
+
+  /**
+   * Returns the number of moves on which the strategy missed its deadline.
+   * @return the miss count
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the total number of nodes searched over every move.
+   * @return the node count
+   */
+  public long getNodes() {
+    return nodes.sum();
+  }
+
+  /**
+   * Returns the histogram of the strategy's think times, in nanoseconds.
+   * @return the think times
+   */
+  public LatencyHistogram getThinkTimes() {
+    return thinkTimes;
+  }
+
+  /**
+   * Formats the statistics on one line, with times in milliseconds.
+   * @return the summary
+   */
+  @Override
+  public String toString() {
+    long moves = getMoves();
+    return String.format("moves=%d misses=%d think ms p50=%.2f p90=%.2f p99=%.2f max=%.2f"
+                    + " nodes/move=%d", moves, getMisses(),
+            thinkTimes.getValueAtPercentile(50) / 1e6, thinkTimes.getValueAtPercentile(90) / 1e6,
+            thinkTimes.getValueAtPercentile(99) / 1e6, thinkTimes.getMax() / 1e6,
+            moves == 0 ? 0 : getNodes() / moves);
+  }
+}
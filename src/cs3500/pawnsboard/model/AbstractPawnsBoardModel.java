@@ -12,9 +12,8 @@ public abstract class AbstractPawnsBoardModel implements ReadOnlyPawnsBoardModel
   protected final IBoard board;
   protected final IPlayer red;
   protected final IPlayer blue;
-  protected static boolean isRed;
-  protected static GameState gameState;
   protected final int handSize;
+  protected final TurnState state;
 
   /**
    * Constructs a new abstract read only model of the Pawns Board game.
@@ -24,12 +23,26 @@ public abstract class AbstractPawnsBoardModel implements ReadOnlyPawnsBoardModel
    * @param handSize the number of cards each player should hold
    */
   public AbstractPawnsBoardModel(IBoard board, IPlayer red, IPlayer blue, int handSize) {
+    this(board, red, blue, handSize, new TurnState());
+  }
+
+  /**
+   * Constructs a new abstract read only model that observes the given turn state.
+   * Models sharing a TurnState see the same turn and game state, while models with their own
+   * TurnState are fully independent games.
+   * @param board the board
+   * @param red red player
+   * @param blue blue player
+   * @param handSize the number of cards each player should hold
+   * @param state the turn and game state of this game
+   */
+  AbstractPawnsBoardModel(IBoard board, IPlayer red, IPlayer blue, int handSize,
+                          TurnState state) {
     this.board = board;
     this.red = red;
     this.blue = blue;
-    this.isRed = true;
     this.handSize = handSize;
-    this.gameState = GameState.NOT_STARTED;
+    this.state = state;
   }
 
   @Override
@@ -47,43 +60,17 @@ public abstract class AbstractPawnsBoardModel implements ReadOnlyPawnsBoardModel
 
   @Override
   public int scoreAtRow(int row, IPlayer p) {
-    int red = 0;
-    int blue = 0;
-    for (int col = 0; col < board.getCols(); col++) {
-      ICell cell = board.getCell(row, col);
-      if (cell.hasCard()) {
-        ICard card = cell.getCard();
-        if (cell.isOwnedByRed()) {
-          red += card.getValue();
-        }
-        else {
-          blue += card.getValue();
-        }
-      }
-    }
-    if (p.getName().equalsIgnoreCase("red")) {
-      return red;
-    }
-    else {
-      return blue;
-    }
+    return board.getRowScore(row, p.getName().equalsIgnoreCase("red"));
   }
 
   @Override
   public int currentScore(IPlayer player) {
+    boolean isRed = player.getName().equalsIgnoreCase("red");
     int total = 0;
     for (int row = 0; row < board.getRows(); row++) {
-      int redScore = scoreAtRow(row, red);
-      int blueScore = scoreAtRow(row, blue);
-      if (player.getName().equalsIgnoreCase("red")) {
-        if (redScore > blueScore) {
-          total += redScore;
-        }
-      }
-      else {
-        if (blueScore > redScore) {
-          total += blueScore;
-        }
+      int own = board.getRowScore(row, isRed);
+      if (own > board.getRowScore(row, !isRed)) {
+        total += own;
       }
     }
     return total;
@@ -91,7 +78,7 @@ public abstract class AbstractPawnsBoardModel implements ReadOnlyPawnsBoardModel
 
   @Override
   public GameState getGameState() {
-    return gameState;
+    return state.getGameState();
   }
 
   @Override
@@ -101,30 +88,23 @@ public abstract class AbstractPawnsBoardModel implements ReadOnlyPawnsBoardModel
 
   @Override
   public IBoard getBoardCopy() {
-    IBoard copy = new Board(board.getRows(), board.getCols());
-    for (int row = 0; row < board.getRows(); row++) {
-      for (int col = 0; col < board.getCols(); col++) {
-        ICell ogCell = board.getCell(row, col);
-        ICell copyCell = copy.getCell(row, col);
-        if (ogCell.hasPawns()) {
-          copyCell.addPawns(ogCell.getPawnCount(), ogCell.isOwnedByRed());
-        }
-        if (ogCell.hasCard()) {
-          ICard ogCard = ogCell.getCard();
-          copy.placeCard(row, col, ogCard, ogCell.isOwnedByRed());
-        }
-      }
-    }
-    return copy;
+    return getPosition().toBoard();
+  }
+
+  @Override
+  public Position getPosition() {
+    return Position.of(board, red, blue, state.isRedTurn(), state.hasRedPassed(),
+            state.hasBluePassed());
   }
 
   @Override
   public boolean isRedTurn() {
-    return isRed;
+    return state.isRedTurn();
   }
 
   @Override
   public boolean isGameOver() {
+    GameState gameState = state.getGameState();
     return gameState == GameState.DONE
             || gameState == GameState.RED_WINS
             || gameState == GameState.BLUE_WINS
@@ -136,16 +116,20 @@ public abstract class AbstractPawnsBoardModel implements ReadOnlyPawnsBoardModel
     if (!isGameOver()) {
       throw new IllegalStateException("Game is not done");
     }
-    if (currentScore(red) > currentScore(blue)) {
-      gameState = GameState.RED_WINS;
+    int redScore = currentScore(red);
+    int blueScore = currentScore(blue);
+    GameState winner;
+    if (redScore > blueScore) {
+      winner = GameState.RED_WINS;
     }
-    else if (currentScore(blue) > currentScore(red)) {
-      gameState = GameState.BLUE_WINS;
+    else if (blueScore > redScore) {
+      winner = GameState.BLUE_WINS;
     }
     else {
-      gameState = GameState.TIE;
+      winner = GameState.TIE;
     }
-    return gameState;
+    state.setGameState(winner);
+    return winner;
   }
 
   @Override
@@ -163,6 +147,38 @@ public abstract class AbstractPawnsBoardModel implements ReadOnlyPawnsBoardModel
             && board.getCell(rows, cols).getPawnCount() >= c.getCost();
   }
 
+  @Override
+  public int legalMoves(boolean redPlayer, int[] buffer) {
+    List<ICard> hand = (redPlayer ? red : blue).getHand();
+    int rows = board.getRows();
+    int cols = board.getCols();
+    MoveEncoding.bufferSize(hand.size(), rows, cols);
+    int cheapest = Integer.MAX_VALUE;
+    for (ICard card : hand) {
+      cheapest = Math.min(cheapest, card.getCost());
+    }
+    int count = 0;
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        ICell cell = board.getCell(row, col);
+        int pawns = cell.getPawnCount();
+        if (pawns == 0 || pawns < cheapest || cell.isOwnedByRed() != redPlayer
+                || cell.hasCard()) {
+          continue;
+        }
+        for (int i = 0; i < hand.size(); i++) {
+          if (hand.get(i).getCost() <= pawns) {
+            if (count == buffer.length) {
+              throw new IllegalArgumentException("Move buffer too small");
+            }
+            buffer[count++] = MoveEncoding.encode(i, row, col);
+          }
+        }
+      }
+    }
+    return count;
+  }
+
   @Override
   public boolean outOfBounds(int rows, int cols) {
     return rows < 0 || rows > board.getRows() - 1 || cols < 0 || cols > board.getCols() - 1;
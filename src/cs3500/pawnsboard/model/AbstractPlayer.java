@@ -1,17 +1,32 @@
 package cs3500.pawnsboard.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import cs3500.pawnsboard.controller.PlayerListener;
 
 /**
  * Abstract representation of a player in the game.
+ * The hand is handed out as an unmodifiable snapshot, and is also kept as an array of
+ * CardRegistry ids for search code to read without copying. Both only change in drawCard and
+ * removeCard, and in undrawCard and returnCard, which undo them. Those change the hand under a
+ * lock and only count the change, and getHand builds a new snapshot under the same lock the
+ * first time it's asked after a change, so a reader on another thread, such as the GUI, never
+ * sees the hand mid-change. A search that makes and unmakes moves copies nothing, and when the
+ * hand is back to the cards of the last snapshot, getHand hands out that snapshot again.
  */
 public abstract class AbstractPlayer implements IPlayer {
   protected final String name;
   protected final Deck deck;
   protected final List<ICard> hand;
+  private int[] handIds;
+  private final Object handLock = new Object();
+  private List<ICard> handView;
+  private int changes;
+  private int viewChanges;
 
   /**
    * Constructs a player with the given name, deck, and hand size.
@@ -28,6 +43,26 @@ public abstract class AbstractPlayer implements IPlayer {
       throw new IllegalArgumentException("hand size cannot be greater than 1/3 deck size");
     }
     this.hand = new ArrayList<>(handSize);
+    this.handIds = new int[Math.max(handSize, 1)];
+    this.handView = Collections.emptyList();
+  }
+
+  /**
+   * Constructs a player already holding the given hand, which may be of any size, for copying
+   * a player part way through a game.
+   * @param name name of the player
+   * @param deck the cards the player has left to draw
+   * @param hand the cards in the player's hand, in order
+   */
+  AbstractPlayer(String name, Deck deck, List<ICard> hand) {
+    this.name = name;
+    this.deck = deck;
+    this.hand = new ArrayList<>(hand);
+    this.handIds = new int[Math.max(hand.size(), 1)];
+    for (int i = 0; i < hand.size(); i++) {
+      handIds[i] = hand.get(i).getId();
+    }
+    this.handView = Collections.unmodifiableList(new ArrayList<>(hand));
   }
 
   @Override
@@ -37,20 +72,108 @@ public abstract class AbstractPlayer implements IPlayer {
 
   @Override
   public List<ICard> getHand() {
-    return new ArrayList<>(hand);
+    synchronized (handLock) {
+      if (viewChanges != changes) {
+        if (!isHandViewCurrent()) {
+          handView = Collections.unmodifiableList(new ArrayList<>(hand));
+        }
+        viewChanges = changes;
+      }
+      return handView;
+    }
+  }
+
+  /**
+   * Returns whether the last snapshot of the hand holds the same cards as the hand, in order.
+   */
+  private boolean isHandViewCurrent() {
+    if (handView.size() != hand.size()) {
+      return false;
+    }
+    for (int i = 0; i < hand.size(); i++) {
+      if (handView.get(i) != hand.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int getHandSize() {
+    return hand.size();
+  }
+
+  @Override
+  public int getHandCardId(int index) {
+    Objects.checkIndex(index, hand.size());
+    return handIds[index];
+  }
+
+  @Override
+  public int indexOfCard(ICard card) {
+    // a card the registry has never seen can't be in the hand, and mustn't be registered
+    int id = CardRegistry.global().find(card);
+    if (id < 0) {
+      return -1;
+    }
+    for (int i = 0; i < hand.size(); i++) {
+      if (handIds[i] == id) {
+        return i;
+      }
+    }
+    return -1;
   }
 
   @Override
   public void drawCard() {
     ICard drawn = deck.drawCard();
     if (drawn != null) {
-      hand.add(drawn);
+      synchronized (handLock) {
+        if (hand.size() == handIds.length) {
+          handIds = Arrays.copyOf(handIds, handIds.length * 2);
+        }
+        handIds[hand.size()] = drawn.getId();
+        hand.add(drawn);
+        changes++;
+      }
     }
   }
 
   @Override
   public void removeCard(ICard card) {
-    this.hand.remove(card);
+    int index = indexOfCard(card);
+    if (index >= 0) {
+      synchronized (handLock) {
+        hand.remove(index);
+        System.arraycopy(handIds, index + 1, handIds, index, hand.size() - index);
+        changes++;
+      }
+    }
+  }
+
+  @Override
+  public void returnCard(int index, ICard card) {
+    Objects.checkIndex(index, hand.size() + 1);
+    synchronized (handLock) {
+      if (hand.size() == handIds.length) {
+        handIds = Arrays.copyOf(handIds, handIds.length * 2);
+      }
+      System.arraycopy(handIds, index, handIds, index + 1, hand.size() - index);
+      handIds[index] = card.getId();
+      hand.add(index, card);
+      changes++;
+    }
+  }
+
+  @Override
+  public void undrawCard() {
+    if (hand.isEmpty()) {
+      throw new IllegalStateException("The hand is empty");
+    }
+    synchronized (handLock) {
+      deck.putBack(hand.remove(hand.size() - 1));
+      changes++;
+    }
   }
 
   @Override
@@ -2,11 +2,16 @@ package cs3500.pawnsboard.model;
 
 /**
  * Represents the board as a rectangular grid of cells.
+ * The board keeps the red and blue card totals of every row, so row scores are read in
+ * constant time. Its cells report every card placed, removed or changing owner to the board,
+ * so the totals are right whether a cell is changed through the board or through getCell.
  */
 public class Board implements IBoard {
   private final int rows;
   private final int cols;
-  private final ICell[][] grid;
+  private final Cell[][] grid;
+  private final int[] redScores;
+  private final int[] blueScores;
 
   /**
    * Constructs a game board with the given width and height.
@@ -21,12 +26,14 @@ public class Board implements IBoard {
     }
     this.rows = rows;
     this.cols = cols;
-    this.grid = new ICell[rows][cols];
+    this.grid = new Cell[rows][cols];
     for (int r = 0; r < rows; r++) {
       for (int c = 0; c < cols; c++) {
-        grid[r][c] = new Cell();
+        grid[r][c] = new Cell(this, r);
       }
     }
+    this.redScores = new int[rows];
+    this.blueScores = new int[rows];
   }
 
   @Override
@@ -48,4 +55,29 @@ public class Board implements IBoard {
   public void placeCard(int rows, int cols, ICard card, boolean isRed) {
     getCell(rows,cols).placeCard(card,isRed);
   }
+
+  @Override
+  public void restoreCell(int row, int col, int pawns, boolean isRed) {
+    grid[row][col].restore(pawns, isRed);
+  }
+
+  /**
+   * Adds to a player's card total in a row, as a cell's card is placed, removed or changes owner.
+   * @param row the row of the cell
+   * @param isRed true for red's total, false for blue's
+   * @param value the amount to add, negative to take a card out
+   */
+  void addToRow(int row, boolean isRed, int value) {
+    if (isRed) {
+      redScores[row] += value;
+    }
+    else {
+      blueScores[row] += value;
+    }
+  }
+
+  @Override
+  public int getRowScore(int row, boolean isRed) {
+    return isRed ? redScores[row] : blueScores[row];
+  }
 }
@@ -6,12 +6,18 @@ import java.util.Objects;
  * Represents a card in the Pawns Board.
  * Each card has a name, a cost in pawns, a value score, and a 5x5 influence grid
  * that defines how it affects the board.
+ * The hash code is computed once, from the card's contents, when the card is constructed.
+ * Cards created by a CardRegistry also carry their registry id, so looking up the id of a
+ * canonical card doesn't touch the registry's tables.
  */
 public class Card implements ICard {
   private final String name;
   private final int cost;
   private final int value;
   private final InfluenceGrid influence;
+  private final int hash;
+  private final CardRegistry registry;
+  private final int id;
 
   /**
    * Constructs a Card with the given arguments.
@@ -24,6 +30,20 @@ public class Card implements ICard {
    * @throws IllegalArgumentException if cost is not between 1 and 3 or value isn't positive.
    */
   public Card(String name, int cost, int value, InfluenceGrid influence) {
+    this(name, cost, value, influence, null, -1);
+  }
+
+  /**
+   * Constructs the canonical card a registry hands out, with its registry id.
+   * @param name the name of the card
+   * @param cost the cost in pawns required to play
+   * @param value the point value of the card
+   * @param influence the 5x5 influence grid
+   * @param registry the registry the card belongs to, or null if it doesn't belong to one
+   * @param id the card's id in the registry
+   */
+  Card(String name, int cost, int value, InfluenceGrid influence, CardRegistry registry,
+       int id) {
     if (cost < 1 || cost > 3) {
       throw new IllegalArgumentException("cost must be between 1 and 3");
     }
@@ -34,6 +54,16 @@ public class Card implements ICard {
     this.cost = cost;
     this.value = value;
     this.influence = influence;
+    this.hash = Objects.hash(name, cost, value, influence);
+    this.registry = registry;
+    this.id = id;
+  }
+
+  /**
+   * Returns this card's id in the given registry, or -1 if the card didn't come from it.
+   */
+  int idIn(CardRegistry owner) {
+    return registry == owner ? id : -1;
   }
 
   @Override
@@ -56,11 +86,22 @@ public class Card implements ICard {
     return this.influence;
   }
 
+  @Override
+  public int getId() {
+    return registry == CardRegistry.global() ? id : CardRegistry.global().id(this);
+  }
+
   @Override
   public boolean equals(Object that) {
+    if (this == that) {
+      return true;
+    }
     if (!(that instanceof ICard)) {
       return false;
     }
+    if (that instanceof Card && ((Card) that).hash != hash) {
+      return false;
+    }
     ICard other = (ICard) that;
     return this.getCost() == other.getCost()
             && this.getValue() == other.getValue()
@@ -70,7 +111,7 @@ public class Card implements ICard {
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, cost, value, influence);
+    return hash;
   }
 
   @Override
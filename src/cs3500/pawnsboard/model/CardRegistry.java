@@ -0,0 +1,279 @@
+package cs3500.pawnsboard.model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of canonical cards, so that every deck loaded in the process shares one immutable
+ * instance per distinct card instead of holding its own copies.
+ * A card is identified by its name, cost, value and influence grid. The first time a card is
+ * interned, the registry creates its canonical instance together with its mirrored variant,
+ * the same card as the other player sees it, and gives each a small int id. Cards whose grid
+ * is symmetric are their own mirror. Equal influence grids are shared between cards as well.
+ * Lookups don't lock; only the first registration of a card does. Canonical cards carry their
+ * own id, so finding the id of a card the registry handed out is a field read. Cards are never
+ * removed, so the registry grows with the number of distinct cards seen, not with the number
+ * of decks. Code that only asks whether a card is known should use find, which never
+ * registers anything.
+ */
+public final class CardRegistry {
+  private static final CardRegistry GLOBAL = new CardRegistry();
+
+  private final Map<Key, Entry> entries;
+  private final Map<InfluenceGrid, InfluenceGrid> grids;
+  private final Map<Integer, InfluenceGrid> masks;
+  private volatile Entry[] byId;
+  private int size;
+
+  /**
+   * Constructs an empty registry. Most callers should share the process-wide one from global.
+   */
+  public CardRegistry() {
+    this.entries = new ConcurrentHashMap<>();
+    this.grids = new ConcurrentHashMap<>();
+    this.masks = new ConcurrentHashMap<>();
+    this.byId = new Entry[16];
+    this.size = 0;
+  }
+
+  /**
+   * Returns the registry shared by the whole process, which DeckReader loads decks into.
+   * @return the global registry
+   */
+  public static CardRegistry global() {
+    return GLOBAL;
+  }
+
+  /**
+   * Returns the canonical card with the given name, cost, value and influence grid,
+   * registering it and its mirrored variant if this is the first time it is seen.
+   * @param name the name of the card
+   * @param cost the cost in pawns required to play
+   * @param value the point value of the card
+   * @param grid the 5x5 influence grid
+   * @return the canonical card
+   * @throws IllegalArgumentException if the grid is null, the cost is not between 1 and 3, or
+   *     the value isn't positive
+   */
+  public ICard intern(String name, int cost, int value, InfluenceGrid grid) {
+    if (grid == null) {
+      throw new IllegalArgumentException("grid cannot be null");
+    }
+    Key key = new Key(name, cost, value, grid);
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      entry = register(key);
+    }
+    return entry.card;
+  }
+
+  /**
+   * Returns the canonical card equal to the given one, registering it if needed.
+   * @param card the card
+   * @return the canonical card
+   * @throws IllegalArgumentException if the card is null
+   */
+  public ICard intern(ICard card) {
+    return entry(card).card;
+  }
+
+  /**
+   * Returns the canonical card with the given name, cost, value and influence mask, as
+   * created by InfluenceGrid.fromMask.
+   * @param name the name of the card
+   * @param cost the cost in pawns required to play
+   * @param value the point value of the card
+   * @param mask the 25 bit influence mask
+   * @return the canonical card
+   * @throws IllegalArgumentException if the mask has bits above the 25th, the cost is not
+   *     between 1 and 3, or the value isn't positive
+   */
+  public ICard intern(String name, int cost, int value, int mask) {
+    InfluenceGrid grid = masks.get(mask);
+    if (grid == null) {
+      grid = internGrid(InfluenceGrid.fromMask(mask));
+      masks.putIfAbsent(mask, grid);
+    }
+    return intern(name, cost, value, grid);
+  }
+
+  /**
+   * Returns the canonical mirrored variant of the given card, the same card with every row of
+   * its influence grid reversed.
+   * @param card the card
+   * @return the canonical mirrored card
+   * @throws IllegalArgumentException if the card is null
+   */
+  public ICard mirrored(ICard card) {
+    return entry(card).mirror.card;
+  }
+
+  /**
+   * Returns the id of the given card, registering it if needed. Ids are small, start at 0 and
+   * never change for the life of the registry.
+   * @param card the card
+   * @return the card's id
+   * @throws IllegalArgumentException if the card is null
+   */
+  public int id(ICard card) {
+    if (card instanceof Card) {
+      int id = ((Card) card).idIn(this);
+      if (id >= 0) {
+        return id;
+      }
+    }
+    return entry(card).id;
+  }
+
+  /**
+   * Returns the id of the given card if it is registered, without registering it.
+   * @param card the card
+   * @return the card's id, or -1 if the card is null or hasn't been registered
+   */
+  public int find(ICard card) {
+    if (card == null) {
+      return -1;
+    }
+    if (card instanceof Card) {
+      int id = ((Card) card).idIn(this);
+      if (id >= 0) {
+        return id;
+      }
+    }
+    Entry entry = entries.get(new Key(card.getName(), card.getCost(), card.getValue(),
+            card.getInfluenceGrid()));
+    return entry == null ? -1 : entry.id;
+  }
+
+  /**
+   * Returns the canonical card with the given id.
+   * @param id the id of the card
+   * @return the canonical card
+   * @throws IllegalArgumentException if no card has the id
+   */
+  public ICard card(int id) {
+    Entry[] snapshot = byId;
+    if (id < 0 || id >= snapshot.length || snapshot[id] == null) {
+      throw new IllegalArgumentException("Unknown card id " + id);
+    }
+    return snapshot[id].card;
+  }
+
+  /**
+   * Returns the number of distinct cards registered, counting mirrored variants.
+   * @return the number of cards
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Returns the canonical influence grid equal to the given one.
+   * @param grid the influence grid
+   * @return the canonical grid
+   * @throws IllegalArgumentException if the grid is null
+   */
+  public InfluenceGrid internGrid(InfluenceGrid grid) {
+    if (grid == null) {
+      throw new IllegalArgumentException("grid cannot be null");
+    }
+    InfluenceGrid canonical = grids.putIfAbsent(grid, grid);
+    return canonical == null ? grid : canonical;
+  }
+
+  private Entry entry(ICard card) {
+    if (card == null) {
+      throw new IllegalArgumentException("card cannot be null");
+    }
+    Key key = new Key(card.getName(), card.getCost(), card.getValue(), card.getInfluenceGrid());
+    Entry entry = entries.get(key);
+    return entry == null ? register(key) : entry;
+  }
+
+  /**
+   * Registers a card and its mirrored variant, unless another thread got there first.
+   * A card and its mirror are always registered together, so if the card is missing its mirror
+   * is too.
+   * @param key the card to register
+   * @return the card's entry
+   */
+  private synchronized Entry register(Key key) {
+    Entry existing = entries.get(key);
+    if (existing != null) {
+      return existing;
+    }
+    InfluenceGrid grid = internGrid(key.grid);
+    Entry entry = newEntry(key.name, key.cost, key.value, grid);
+    InfluenceGrid mirroredGrid = internGrid(grid.mirrored());
+    if (mirroredGrid == grid) {
+      entry.mirror = entry;
+    }
+    else {
+      Entry mirror = newEntry(key.name, key.cost, key.value, mirroredGrid);
+      entry.mirror = mirror;
+      mirror.mirror = entry;
+      entries.put(new Key(key.name, key.cost, key.value, mirroredGrid), mirror);
+    }
+    entries.put(new Key(key.name, key.cost, key.value, grid), entry);
+    return entry;
+  }
+
+  private Entry newEntry(String name, int cost, int value, InfluenceGrid grid) {
+    if (size == byId.length) {
+      byId = Arrays.copyOf(byId, size * 2);
+    }
+    Entry entry = new Entry(new Card(name, cost, value, grid, this, size), size);
+    Entry[] snapshot = byId;
+    snapshot[size++] = entry;
+    byId = snapshot;
+    return entry;
+  }
+
+  /**
+   * A registered card with its id and mirrored variant.
+   */
+  private static final class Entry {
+    private final ICard card;
+    private final int id;
+    private Entry mirror;
+
+    Entry(ICard card, int id) {
+      this.card = card;
+      this.id = id;
+    }
+  }
+
+  /**
+   * The content that identifies a card.
+   */
+  private static final class Key {
+    private final String name;
+    private final int cost;
+    private final int value;
+    private final InfluenceGrid grid;
+
+    Key(String name, int cost, int value, InfluenceGrid grid) {
+      this.name = name;
+      this.cost = cost;
+      this.value = value;
+      this.grid = grid;
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (!(that instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) that;
+      return cost == other.cost && value == other.value && Objects.equals(name, other.name)
+              && Objects.equals(grid, other.grid);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, cost, value, grid);
+    }
+  }
+}
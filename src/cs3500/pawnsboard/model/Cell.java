@@ -4,8 +4,12 @@ package cs3500.pawnsboard.model;
  * Represents a single cell on the board in the game Pawns Board.
  * A cell can contain a card, a number of pawns (0 to 3), or be empty.
  * Pawns can belong to either player and may be influenced by placed cards.
+ * A cell that belongs to a Board reports every change to the card it holds or that card's
+ * owner to the board, so the board's row totals stay right however the cell is changed.
  */
 public class Cell implements ICell {
+  private final Board board;
+  private final int row;
   private ICard card;
   private int pawns;
   private boolean ownedByRed;
@@ -14,6 +18,17 @@ public class Cell implements ICell {
    * Constructs ane mpty cell with no card nor pawns.
    */
   public Cell() {
+    this(null, 0);
+  }
+
+  /**
+   * Constructs an empty cell in the given row of a board, which keeps that row's totals.
+   * @param board the board the cell belongs to, or null for a cell on its own
+   * @param row the row of the cell
+   */
+  Cell(Board board, int row) {
+    this.board = board;
+    this.row = row;
     this.card = null;
     this.pawns = 0;
     this.ownedByRed = false;
@@ -58,6 +73,7 @@ public class Cell implements ICell {
     this.card = c;
     this.pawns = 0;
     this.ownedByRed = isRed;
+    count(1);
   }
 
   @Override
@@ -65,13 +81,39 @@ public class Cell implements ICell {
     if (count < 0) {
       throw new IllegalArgumentException("Count cannot be negative");
     }
+    count(-1);
     this.pawns = Math.min(this.pawns + count, 3);
     this.ownedByRed = isRed;
+    count(1);
+  }
+
+  /**
+   * Sets the cell to the given pawns and owner with no card, undoing whatever happened to it.
+   * @param count the number of pawns
+   * @param isRed true if red owns the cell
+   */
+  void restore(int count, boolean isRed) {
+    count(-1);
+    this.card = null;
+    this.pawns = count;
+    this.ownedByRed = isRed;
   }
 
   @Override
   public void switchPawnsOwnership() {
+    count(-1);
     this.ownedByRed = !this.ownedByRed;
+    count(1);
+  }
+
+  /**
+   * Adds the card on this cell to its owner's row total on the board, or takes it out.
+   * @param sign 1 to add the card, -1 to take it out
+   */
+  private void count(int sign) {
+    if (board != null && card != null) {
+      board.addToRow(row, ownedByRed, sign * card.getValue());
+    }
   }
 
   @Override
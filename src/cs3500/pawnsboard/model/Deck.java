@@ -1,20 +1,37 @@
 package cs3500.pawnsboard.model;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
 
 /**
  * Represents a deck of Card cards in Pawn Board.
+ * The cards are kept in an array with a cursor at the next card to draw, so drawing never
+ * shifts the remaining cards. A deck can be shuffled from a seed, and the same cards shuffled
+ * from the same seed always come out in the same order, so any deal can be replayed exactly.
  */
 public class Deck {
-  private final List<ICard> cards;
+  private final ICard[] cards;
+  private int next;
 
   /**
    * Constructs a deck with a given list of cards.
    * @param cards A list of Card objects
    */
   public Deck(List<ICard> cards) {
-    this.cards = new ArrayList<>(cards);
+    this.cards = cards.toArray(new ICard[0]);
+    this.next = 0;
+  }
+
+  /**
+   * Constructs a deck with the given cards shuffled from the given seed.
+   * @param cards A list of Card objects
+   * @param seed the seed of the shuffle
+   */
+  public Deck(List<ICard> cards, long seed) {
+    this(cards);
+    shuffle(new SplittableRandom(seed));
   }
 
   /**
@@ -22,17 +39,69 @@ public class Deck {
    * @return the drawn card, or null if the deck is empty.
    */
   public ICard drawCard() {
-    if (!cards.isEmpty()) {
-      return cards.remove(0);
+    if (next < cards.length) {
+      ICard card = cards[next];
+      cards[next++] = null;
+      return card;
     }
     return null;
   }
 
+  /**
+   * Puts a drawn card back on top of the deck, so it is the next card drawn again.
+   * This undoes drawCard when a move is taken back.
+   * @param card the card to put back
+   * @throws IllegalStateException if no card has been drawn from the deck
+   */
+  public void putBack(ICard card) {
+    if (next == 0) {
+      throw new IllegalStateException("No card has been drawn from the deck");
+    }
+    cards[--next] = card;
+  }
+
+  /**
+   * Shuffles the cards left in the deck with a Fisher-Yates shuffle.
+   * @param random the random numbers to shuffle with
+   * @throws IllegalArgumentException if random is null
+   */
+  public void shuffle(SplittableRandom random) {
+    if (random == null) {
+      throw new IllegalArgumentException("random cannot be null");
+    }
+    for (int i = cards.length - 1; i > next; i--) {
+      int j = next + random.nextInt(i - next + 1);
+      ICard card = cards[i];
+      cards[i] = cards[j];
+      cards[j] = card;
+    }
+  }
+
+  /**
+   * Returns a card left in the deck without drawing it.
+   * @param offset the number of cards drawn before it, where 0 is the next card to draw
+   * @return the card
+   * @throws IndexOutOfBoundsException if the deck doesn't have that many cards left
+   */
+  public ICard peek(int offset) {
+    Objects.checkIndex(offset, size());
+    return cards[next + offset];
+  }
+
+  /**
+   * Returns a new deck holding the cards left in this one, in the order they will be drawn.
+   * Drawing from either deck doesn't change the other.
+   * @return the copy
+   */
+  public Deck copy() {
+    return new Deck(Arrays.asList(cards).subList(next, cards.length));
+  }
+
   /**
    * Gets the number of remaining cards in the deck.
    * @retrun The number of cards left in the deck.
    */
   public int size() {
-    return cards.size();
+    return cards.length - next;
   }
 }
@@ -0,0 +1,102 @@
+package cs3500.pawnsboard.model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Compiles a text deck configuration file into the binary deck format read by
+ * DeckReader.readCompiledDeckFile. The text format stays the source of truth; the binary file
+ * only saves parsing it again every time the deck is loaded.
+ * A compiled deck holds the red player's cards. Blue's cards are the same cards with their
+ * influence mirrored, so they are derived when the deck is loaded.
+ * The format, with every number big-endian:
+ *  * the magic number MAGIC, the format VERSION and the number of cards, as ints
+ *  * for every card, the length of its UTF-8 name as an unsigned short, the name bytes,
+ *    its cost as a byte, its value as an int, and its influence grid mask as an int
+ */
+public final class DeckCompiler {
+  /**
+   * The first four bytes of every compiled deck, "PBDK".
+   */
+  public static final int MAGIC = 0x5042444B;
+
+  /**
+   * The version of the format written by this compiler.
+   */
+  public static final int VERSION = 1;
+
+  private DeckCompiler() {
+  }
+
+  /**
+   * Compiles a text deck configuration file into a binary deck file.
+   * @param deckPath the path to the deck configuration file
+   * @param compiledPath the path to write the compiled deck to
+   * @throws IOException if either file can't be read or written
+   * @throws IllegalArgumentException if the deck file format is invalid
+   */
+  public static void compile(String deckPath, String compiledPath) throws IOException {
+    List<ICard> redDeck = DeckReader.readDeckFile(deckPath)[0];
+    try (OutputStream out = Files.newOutputStream(Path.of(compiledPath))) {
+      write(redDeck, out);
+    }
+  }
+
+  /**
+   * Writes the red player's deck in the binary deck format.
+   * @param redDeck the red player's cards
+   * @param out the stream to write to, which is flushed but not closed
+   * @throws IOException if the stream can't be written
+   * @throws IllegalArgumentException if the deck is null or a card name is null or longer than
+   *     65535 bytes in UTF-8
+   */
+  public static void write(List<ICard> redDeck, OutputStream out) throws IOException {
+    if (redDeck == null) {
+      throw new IllegalArgumentException("deck cannot be null");
+    }
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(redDeck.size());
+    for (ICard card : redDeck) {
+      if (card.getName() == null) {
+        throw new IllegalArgumentException("card name cannot be null");
+      }
+      byte[] name = card.getName().getBytes(StandardCharsets.UTF_8);
+      if (name.length > 0xFFFF) {
+        throw new IllegalArgumentException("card name is too long: " + card.getName());
+      }
+      data.writeShort(name.length);
+      data.write(name);
+      data.writeByte(card.getCost());
+      data.writeInt(card.getValue());
+      data.writeInt(card.getInfluenceGrid().getMask());
+    }
+    data.flush();
+  }
+
+  /**
+   * Compiles a deck file from the command line.
+   * Usage: deckPath compiledPath.
+   * @param args inputs
+   */
+  public static void main(String[] args) {
+    if (args.length != 2) {
+      System.out.println("Usage: deckPath compiledPath");
+      return;
+    }
+    try {
+      compile(args[0], args[1]);
+    } catch (IOException e) {
+      System.out.println("Could not compile deck: " + e.getMessage());
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+    }
+  }
+}
@@ -2,6 +2,13 @@ package cs3500.pawnsboard.model;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
@@ -12,6 +19,10 @@ import java.util.Scanner;
  * The deck file must follow a format where each card is represented by the card's name,
  * cost, and vlaue. The next five lines contain the card's 5x5 influence grid.
  * This class generates mirrored influence grids for the blue player's cards.
+ * Every card is interned in the global CardRegistry, so decks hold shared canonical cards and
+ * the blue player's cards are the registry's precomputed mirrored variants.
+ * Decks compiled by DeckCompiler are loaded by memory mapping the file and building the cards
+ * straight from its bytes.
  */
 public class DeckReader {
 
@@ -38,7 +49,6 @@ public class DeckReader {
         int cost = Integer.parseInt(firstLine[1]);
         int value = Integer.parseInt(firstLine[2]);
         String[] influenceContentRed = new String[5];
-        String[] influenceContentBlue = new String[5];
         for (int i = 0; i < 5; i++) {
           if (!scan.hasNextLine()) {
             throw new IllegalArgumentException("Invalid format: influence grid incomplete");
@@ -48,12 +58,10 @@ public class DeckReader {
             throw new IllegalArgumentException("Invalid format: row not 5 characters long");
           }
           influenceContentRed[i] = row;
-          influenceContentBlue[i] = new StringBuilder(row).reverse().toString();
         }
-        InfluenceGrid redGrid = new InfluenceGrid(influenceContentRed);
-        InfluenceGrid blueGrid = new InfluenceGrid(influenceContentBlue);
-        ICard redCard = new Card(name, cost, value, redGrid);
-        ICard blueCard = new Card(name, cost, value, blueGrid);
+        ICard redCard = CardRegistry.global().intern(name, cost, value,
+                new InfluenceGrid(influenceContentRed));
+        ICard blueCard = CardRegistry.global().mirrored(redCard);
         redDeck.add(redCard);
         blueDeck.add(blueCard);
       } catch (NumberFormatException e) {
@@ -63,4 +71,70 @@ public class DeckReader {
     scan.close();
     return new List[]{redDeck, blueDeck};
   }
+
+  /**
+   * Reads a deck file compiled by DeckCompiler and returns two decks of cards.
+   * One for red and one for blue player. The file is memory mapped rather than read.
+   * @param filePath the path to the compiled deck file.
+   * @return a list of decks containing the cards for each player.
+   * @throws IOException if the file can't be opened or mapped
+   * @throws IllegalArgumentException if the file isn't a valid compiled deck
+   */
+  public static List<ICard>[] readCompiledDeckFile(String filePath) throws IOException {
+    try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Invalid compiled deck: file too large");
+      }
+      return readCompiledDeck(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Reads a deck in the compiled format from the buffer's position to its limit, and returns
+   * two decks of cards. One for red and one for blue player.
+   * @param buffer the compiled deck, which is read in big-endian order
+   * @return a list of decks containing the cards for each player.
+   * @throws IllegalArgumentException if the buffer doesn't hold exactly one valid compiled deck
+   */
+  public static List<ICard>[] readCompiledDeck(ByteBuffer buffer) {
+    try {
+      if (buffer.getInt() != DeckCompiler.MAGIC) {
+        throw new IllegalArgumentException("Invalid compiled deck: bad magic number");
+      }
+      int version = buffer.getInt();
+      if (version != DeckCompiler.VERSION) {
+        throw new IllegalArgumentException("Invalid compiled deck: unsupported version "
+                + version);
+      }
+      int count = buffer.getInt();
+      if (count < 0) {
+        throw new IllegalArgumentException("Invalid compiled deck: negative card count");
+      }
+      List<ICard> redDeck = new ArrayList<>(Math.min(count, buffer.remaining()));
+      List<ICard> blueDeck = new ArrayList<>(Math.min(count, buffer.remaining()));
+      for (int i = 0; i < count; i++) {
+        byte[] nameBytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(nameBytes);
+        String name = new String(nameBytes, StandardCharsets.UTF_8);
+        int cost = buffer.get();
+        int value = buffer.getInt();
+        int mask = buffer.getInt();
+        if ((mask >>> 25) != 0) {
+          throw new IllegalArgumentException("Invalid compiled deck: bad influence mask");
+        }
+        ICard redCard = CardRegistry.global().intern(name, cost, value, mask);
+        redDeck.add(redCard);
+        blueDeck.add(CardRegistry.global().mirrored(redCard));
+      }
+      if (buffer.hasRemaining()) {
+        throw new IllegalArgumentException("Invalid compiled deck: trailing bytes");
+      }
+      // both elements are List<ICard>, so the generic array is safe
+      @SuppressWarnings({"unchecked", "rawtypes"})
+      List<ICard>[] decks = new List[]{redDeck, blueDeck};
+      return decks;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Invalid compiled deck: truncated");
+    }
+  }
 }
@@ -37,4 +37,65 @@ public interface IBoard {
    */
   void placeCard(int row, int col, ICard card, boolean isRed);
 
+  /**
+   * Sets a cell back to the given pawns and no card, taking any card on it off the board and
+   * out of its row's total. This is how a move is undone, so the pawns and owner are set as
+   * given rather than added.
+   * @param row the row index
+   * @param col the column index
+   * @param pawns the number of pawns the cell holds, between 0 and 3
+   * @param isRed true if red owns the cell, false otherwise
+   */
+  void restoreCell(int row, int col, int pawns, boolean isRed);
+
+  /**
+   * Returns the total value of the cards a player owns in the given row.
+   * Implementations may keep these totals up to date as cards are placed through
+   * placeCard(int, int, ICard, boolean), so this should be preferred over scanning the row.
+   * @param row the row index
+   * @param isRed true for the red player's total, false for the blue player's
+   * @return the sum of the values of that player's cards in the row
+   */
+  default int getRowScore(int row, boolean isRed) {
+    int total = 0;
+    for (int col = 0; col < getCols(); col++) {
+      ICell cell = getCell(row, col);
+      if (cell.hasCard() && cell.isOwnedByRed() == isRed) {
+        total += cell.getCard().getValue();
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Applies the influence pattern of a card placed at the given coordinate.
+   * Every influenced cell without a card gains a pawn if it is empty or already owned by the
+   * placing player, or has its pawns switched to the placing player otherwise.
+   * This uses a 0-indexed coordinate system. The offsets of the influence grid are relative
+   * to the card's position, and influenced cells that fall outside the board are ignored.
+   * Implementations may override this with a faster equivalent.
+   * @param row the row index of the placed card
+   * @param col the column index of the placed card
+   * @param card the card being placed
+   * @param isRed true if the red player placed the card, false otherwise
+   */
+  default void applyInfluence(int row, int col, ICard card, boolean isRed) {
+    InfluenceGrid grid = card.getInfluenceGrid();
+    for (int i = 0; i < grid.getInfluenceCount(); i++) {
+      int targetRow = row + grid.getRowOffset(i);
+      int targetCol = col + grid.getColOffset(i);
+      if (targetRow < 0 || targetRow >= getRows() || targetCol < 0 || targetCol >= getCols()) {
+        continue;
+      }
+      ICell targetCell = getCell(targetRow, targetCol);
+      if (!targetCell.hasCard()) {
+        if (targetCell.hasPawns() && targetCell.isOwnedByRed() != isRed) {
+          targetCell.switchPawnsOwnership();
+        }
+        else {
+          targetCell.addPawns(1, isRed);
+        }
+      }
+    }
+  }
 }
@@ -35,6 +35,15 @@ public interface ICard {
    */
   InfluenceGrid getInfluenceGrid();
 
+  /**
+   * Returns the id of this card in the global CardRegistry, which stays the same for the life
+   * of the process and is shared by every card equal to this one.
+   * @return the card's id
+   */
+  default int getId() {
+    return CardRegistry.global().id(this);
+  }
+
   /**
    * Checks if this card is equal to given card.
    * @param other the given ICard
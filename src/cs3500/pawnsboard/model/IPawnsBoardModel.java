@@ -39,6 +39,27 @@ public interface IPawnsBoardModel extends ReadOnlyPawnsBoardModel {
    */
   void passTurn();
 
+  /**
+   * Makes a move for the current player so that it can be taken back with unmakeMove.
+   * The move is played by the same rules as placeCard and passTurn, drawing a card after a
+   * placement and ending the game when both players pass, but no listener is notified. This is
+   * meant for search code that tries moves on its own model and takes them back again.
+   * @param move the MoveEncoding of a placement, whose card is an index into the current
+   *     player's hand, or MoveEncoding.PASS
+   * @throws IllegalArgumentException if the hand has no card at the index or the placement is
+   *     illegal
+   * @throws IllegalStateException if the game hasn't started or has already ended
+   */
+  void makeMove(int move);
+
+  /**
+   * Takes back the last move made with makeMove, putting back the board, both hands, the
+   * decks, the turn and the game state exactly as they were before it.
+   * No listener is notified.
+   * @throws IllegalStateException if there is no move made with makeMove to take back
+   */
+  void unmakeMove();
+
   /**
    * Registers a listener to receive notifications about turn changes and game end.
    * This allows the model to notify the appropriate controller when it's that player's turn.
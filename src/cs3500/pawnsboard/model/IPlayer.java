@@ -20,10 +20,36 @@ public interface IPlayer {
 
   /**
    * Gets the player's current hand.
+   * The list can't be modified and doesn't change when the hand does; calling this again
+   * without the hand having changed returns the same list without copying.
    * @return A list of cards in the player's hand.
    */
   List<ICard> getHand();
 
+  /**
+   * Gets the number of cards in the player's hand.
+   * @return the hand size
+   */
+  int getHandSize();
+
+  /**
+   * Gets the CardRegistry id of a card in the player's hand, in the same order as getHand.
+   * Together with getHandSize, this reads the hand without building any list.
+   * @param index the position of the card in the hand
+   * @return the id of the card in the global CardRegistry
+   * @throws IndexOutOfBoundsException if the index is outside the hand
+   */
+  int getHandCardId(int index);
+
+  /**
+   * Finds a card in the player's hand by its id, without building the hand list or comparing
+   * influence grids.
+   * @param card the card to find
+   * @return the position of the first card in the hand equal to the given one, or -1 if the
+   *     hand doesn't hold it
+   */
+  int indexOfCard(ICard card);
+
   /**
    * Draws a card from the players' deck.
    */
@@ -34,6 +60,21 @@ public interface IPlayer {
    */
   void removeCard(ICard card);
 
+  /**
+   * Puts a card back into the player's hand at the given position, undoing removeCard.
+   * @param index the position the card was removed from
+   * @param card the card to put back
+   * @throws IndexOutOfBoundsException if the index is outside the hand or one past its end
+   */
+  void returnCard(int index, ICard card);
+
+  /**
+   * Takes the last drawn card out of the player's hand and puts it back on top of the deck,
+   * undoing drawCard.
+   * @throws IllegalStateException if the hand is empty
+   */
+  void undrawCard();
+
   /**
    * Returns the name of the player.
    * @return the player's name.
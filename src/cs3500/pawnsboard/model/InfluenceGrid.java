@@ -1,7 +1,6 @@
 package cs3500.pawnsboard.model;
 
 import java.util.Arrays;
-import java.util.Objects;
 
 /**
  * A concrete implementation of IInfluenceGrid.
@@ -11,9 +10,19 @@ import java.util.Objects;
  *  * - 'X' uninfluenced space
  *  * - 'C' the center card, origin of influence
  *  * the center of the grid is always at position (2,2), using a 0-indexed coordinate system
+ * The grid is compiled once when it is constructed, which DeckReader does as it loads a deck,
+ * into a 25 bit mask of influenced cells, a five bit mask per grid row, and the list of
+ * influenced offsets from the center. Placing a card then only visits the cells it actually
+ * influences instead of checking all 25. The hash code is computed at the same time, and two
+ * grids are only compared cell by cell when their masks and hashes match.
  */
 public class InfluenceGrid {
   private final char[][] grid;
+  private final int mask;
+  private final int[] rowMasks;
+  private final int[] rowOffsets;
+  private final int[] colOffsets;
+  private final int hash;
 
   /**
    * Constructs an InfluenceGrid.
@@ -34,6 +43,28 @@ public class InfluenceGrid {
     for (int i = 0; i < grid.length; i++) {
       this.grid[i] = grid[i].toCharArray();
     }
+
+    int bits = 0;
+    this.rowMasks = new int[5];
+    for (int row = 0; row < 5; row++) {
+      for (int col = 0; col < 5; col++) {
+        if (this.grid[row][col] == 'I') {
+          bits |= 1 << (row * 5 + col);
+          rowMasks[row] |= 1 << col;
+        }
+      }
+    }
+    this.mask = bits;
+    this.rowOffsets = new int[Integer.bitCount(bits)];
+    this.colOffsets = new int[rowOffsets.length];
+    int count = 0;
+    for (int rest = bits; rest != 0; rest &= rest - 1) {
+      int index = Integer.numberOfTrailingZeros(rest);
+      rowOffsets[count] = index / 5 - 2;
+      colOffsets[count] = index % 5 - 2;
+      count++;
+    }
+    this.hash = Arrays.deepHashCode(this.grid);
   }
 
   /**
@@ -43,15 +74,125 @@ public class InfluenceGrid {
    * @return true if the cell is influenced, false otherwise.
    */
   public boolean isInfluenced(int row, int col) {
-    return (row >= 0 && row < 5 && col >= 0 && col < 5 && grid[row][col] == 'I');
+    return row >= 0 && row < 5 && col >= 0 && col < 5 && (mask >>> (row * 5 + col) & 1) != 0;
+  }
+
+  /**
+   * Creates the grid with the given influence mask, the inverse of getMask. The center cell is
+   * 'C' unless it is influenced, every other cell is 'I' or 'X'.
+   * @param mask the 25 bit influence mask, where bit (row * 5 + col) marks an influenced cell
+   * @return the influence grid
+   * @throws IllegalArgumentException if the mask has bits above the 25th
+   */
+  public static InfluenceGrid fromMask(int mask) {
+    if ((mask >>> 25) != 0) {
+      throw new IllegalArgumentException("mask must fit in 25 bits");
+    }
+    String[] rows = new String[5];
+    for (int row = 0; row < 5; row++) {
+      StringBuilder line = new StringBuilder();
+      for (int col = 0; col < 5; col++) {
+        if ((mask >>> (row * 5 + col) & 1) != 0) {
+          line.append('I');
+        }
+        else {
+          line.append(row == 2 && col == 2 ? 'C' : 'X');
+        }
+      }
+      rows[row] = line.toString();
+    }
+    return new InfluenceGrid(rows);
   }
 
   /**
-   * Returns the influence grid.
+   * Returns the given influence mask with every row reversed, which is the mask of the grid as
+   * the other player sees it.
+   * @param mask the 25 bit influence mask
+   * @return the mirrored mask
+   */
+  public static int mirrorMask(int mask) {
+    int mirrored = 0;
+    for (int row = 0; row < 5; row++) {
+      int bits = mask >>> (row * 5) & 0x1F;
+      int reversed = Integer.reverse(bits) >>> 27;
+      mirrored |= reversed << (row * 5);
+    }
+    return mirrored;
+  }
+
+  /**
+   * Returns this grid with every row reversed, which is the grid as the other player sees it.
+   * @return the mirrored grid
+   */
+  public InfluenceGrid mirrored() {
+    String[] rows = new String[5];
+    for (int row = 0; row < 5; row++) {
+      rows[row] = new StringBuilder(new String(grid[row])).reverse().toString();
+    }
+    return new InfluenceGrid(rows);
+  }
+
+  /**
+   * Returns the influenced cells as a 25 bit mask, where bit (row * 5 + col) is set when that
+   * cell of the grid is influenced.
+   * @return the influence mask
+   */
+  public int getMask() {
+    return mask;
+  }
+
+  /**
+   * Returns the influenced columns of one row of the grid as a five bit mask, where bit col is
+   * set when that column is influenced.
+   * @param row the row of the grid, between 0 and 4
+   * @return the row mask
+   * @throws IllegalArgumentException if the row is outside the grid
+   */
+  public int getRowMask(int row) {
+    if (row < 0 || row >= 5) {
+      throw new IllegalArgumentException("row must be between 0 and 4");
+    }
+    return rowMasks[row];
+  }
+
+  /**
+   * Returns the number of influenced cells.
+   * @return the number of influenced cells
+   */
+  public int getInfluenceCount() {
+    return rowOffsets.length;
+  }
+
+  /**
+   * Returns the row offset from the center of the given influenced cell. Influenced cells are
+   * numbered from 0 in reading order.
+   * @param index the index of the influenced cell
+   * @return the row offset, between -2 and 2
+   */
+  public int getRowOffset(int index) {
+    return rowOffsets[index];
+  }
+
+  /**
+   * Returns the column offset from the center of the given influenced cell. Influenced cells
+   * are numbered from 0 in reading order.
+   * @param index the index of the influenced cell
+   * @return the column offset, between -2 and 2
+   */
+  public int getColOffset(int index) {
+    return colOffsets[index];
+  }
+
+  /**
+   * Returns a copy of the influence grid.
    * @return the influence grid.
    */
   public char[][] getGrid() {
-    return grid;
+    char[][] copy = new char[5][];
+    for (int row = 0; row < 5; row++) {
+      copy[row] = grid[row].clone();
+    }
+    return copy;
   }
 
   @Override
@@ -60,11 +201,12 @@ public class InfluenceGrid {
       return false;
     }
     InfluenceGrid other = (InfluenceGrid) that;
-    return Arrays.deepEquals(this.getGrid(), other.getGrid());
+    return this == other || (mask == other.mask && hash == other.hash
+            && Arrays.deepEquals(this.grid, other.grid));
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(grid);
+    return hash;
   }
 }
@@ -1,8 +1,15 @@
 package cs3500.pawnsboard.model;
 
-import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import cs3500.pawnsboard.controller.PlayerListener;
+import cs3500.pawnsboard.metrics.StrategyStats;
 import cs3500.pawnsboard.strategy.IStrategy;
 import cs3500.pawnsboard.strategy.Move;
 
@@ -12,25 +19,94 @@ import cs3500.pawnsboard.strategy.Move;
  * its moves.
  * The machine player delegates to its strategy to compute the best action.
  * It differs from HumanPlayer as it doesn't wait for user input through the gui.
+ * A machine player can be given a deadline per move. Its strategy then runs on a worker thread
+ * and, if it hasn't chosen by the deadline, the move comes from a cheaper fallback strategy,
+ * or is a pass. A strategy that overran keeps running until it finishes, and the player uses
+ * the fallback for every move until it has, so one strategy never runs twice at once.
+ * The worker never sees the live game: the game is copied with
+ * ReadOnlyPawnsBoardModelImpl.snapshotOf on the thread asking for the move, and the strategy
+ * is given the copy and this player's copy in it, so a late strategy keeps reading the
+ * position it was asked about while the game moves on.
+ * Every move's think time and nodes searched are recorded in the player's StrategyStats.
  */
 public class MachinePlayer extends AbstractPlayer {
+  private static final ExecutorService SHARED_EXECUTOR = Executors.newCachedThreadPool(
+      runnable -> {
+        Thread thread = new Thread(runnable, "pawnsboard-strategy");
+        thread.setDaemon(true);
+        return thread;
+      });
+
   IStrategy strategy;
+  private final IStrategy fallback;
+  private final long deadlineMillis;
+  private final ExecutorService executor;
+  private final AtomicBoolean thinking;
+  private final StrategyStats stats;
 
   /**
    * Constructs a new machine player with the specified name, deck, hand size, and strategy.
+   * The strategy runs on the thread that asks for a move, with no deadline.
    * @param name the name of the player
    * @param deck the deck from which this player draws card
    * @param handSize the number of cards this player holds
    * @param strategy the strategy implemntation that will determine this player's moves.
    */
   public MachinePlayer(String name, Deck deck, int handSize, IStrategy strategy) {
+    this(name, deck, handSize, strategy, null, 0, null);
+  }
+
+  /**
+   * Constructs a machine player whose strategy runs on a shared pool of daemon threads and has
+   * to choose each move within the given deadline.
+   * @param name the name of the player
+   * @param deck the deck from which this player draws card
+   * @param handSize the number of cards this player holds
+   * @param strategy the strategy that determines this player's moves
+   * @param fallback the strategy that moves when the deadline is missed, or null to pass
+   * @param deadlineMillis the time the strategy has for each move, in milliseconds
+   * @throws IllegalArgumentException if the deadline isn't positive
+   */
+  public MachinePlayer(String name, Deck deck, int handSize, IStrategy strategy,
+                       IStrategy fallback, long deadlineMillis) {
+    this(name, deck, handSize, strategy, fallback, deadlineMillis, SHARED_EXECUTOR);
+    if (deadlineMillis <= 0) {
+      throw new IllegalArgumentException("deadline must be positive");
+    }
+  }
+
+  /**
+   * Constructs a machine player whose strategy runs on the given executor and has to choose
+   * each move within the given deadline.
+   * @param name the name of the player
+   * @param deck the deck from which this player draws card
+   * @param handSize the number of cards this player holds
+   * @param strategy the strategy that determines this player's moves
+   * @param fallback the strategy that moves when the deadline is missed, or null to pass
+   * @param deadlineMillis the time the strategy has for each move, in milliseconds, or 0 for
+   *     no deadline
+   * @param executor the executor the strategy runs on, or null to run it on the calling thread
+   *     with no deadline
+   * @throws IllegalArgumentException if the deadline is negative, or positive without an
+   *     executor
+   */
+  public MachinePlayer(String name, Deck deck, int handSize, IStrategy strategy,
+                       IStrategy fallback, long deadlineMillis, ExecutorService executor) {
     super(name, deck, handSize);
+    if (deadlineMillis < 0 || (deadlineMillis > 0 && executor == null)) {
+      throw new IllegalArgumentException("A deadline needs an executor to run on");
+    }
     this.strategy = strategy;
+    this.fallback = fallback;
+    this.deadlineMillis = deadlineMillis;
+    this.executor = deadlineMillis > 0 ? executor : null;
+    this.thinking = new AtomicBoolean();
+    this.stats = new StrategyStats();
   }
 
   @Override
   public void move(ReadOnlyPawnsBoardModel model, PlayerListener listener) {
-    Move move = strategy.chooseMove(model, this);
+    Move move = chooseMove(model);
     if (move.isPass()) {
       listener.onPass();
     }
@@ -39,8 +115,7 @@ public class MachinePlayer extends AbstractPlayer {
       int row = move.getRow();
       int col = move.getCol();
 
-      List<ICard> hand = model.getPlayerHand(this);
-      int cardIndex = hand.indexOf(card);
+      int cardIndex = indexOfCard(card);
       if (cardIndex == -1) {
         listener.onPass();
         return;
@@ -52,6 +127,71 @@ public class MachinePlayer extends AbstractPlayer {
     }
   }
 
+  /**
+   * Asks the strategy for a move, under the deadline if there is one.
+   * @param model the game
+   * @return the strategy's move, or the fallback's if the strategy is late
+   */
+  private Move chooseMove(ReadOnlyPawnsBoardModel model) {
+    if (executor == null) {
+      return think(model, this);
+    }
+    if (!thinking.compareAndSet(false, true)) {
+      // the strategy is still working on an earlier move
+      stats.recordMiss();
+      return fallbackMove(model);
+    }
+    Future<Move> task;
+    try {
+      ReadOnlyPawnsBoardModel snapshot = ReadOnlyPawnsBoardModelImpl.snapshotOf(model);
+      IPlayer self = model.getRedPlayer() == this ? snapshot.getRedPlayer()
+              : snapshot.getBluePlayer();
+      task = executor.submit(() -> {
+        try {
+          return think(snapshot, self);
+        } finally {
+          thinking.set(false);
+        }
+      });
+    } catch (RuntimeException e) {
+      thinking.set(false);
+      throw e;
+    }
+    try {
+      return task.get(deadlineMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      stats.recordMiss();
+      return fallbackMove(model);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return fallbackMove(model);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Strategy failed", e.getCause());
+    }
+  }
+
+  private Move think(ReadOnlyPawnsBoardModel model, IPlayer player) {
+    long start = System.nanoTime();
+    Move move = strategy.chooseMove(model, player);
+    stats.recordMove(System.nanoTime() - start, strategy.getNodesSearched());
+    return move;
+  }
+
+  private Move fallbackMove(ReadOnlyPawnsBoardModel model) {
+    return fallback == null ? Move.pass() : fallback.chooseMove(model, this);
+  }
+
+  /**
+   * Returns the think times, nodes searched and missed deadlines of this player's strategy.
+   * @return the statistics
+   */
+  public StrategyStats getStats() {
+    return stats;
+  }
+
   @Override
   public boolean isMachine() {
     return true;
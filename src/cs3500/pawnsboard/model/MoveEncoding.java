@@ -0,0 +1,80 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * Packs a placement into a single int, as written by ReadOnlyPawnsBoardModel.legalMoves.
+ * An encoded move holds the index of the card in the player's hand in bits 24 to 30, the row
+ * in bits 12 to 23 and the column in bits 0 to 11, so hands of up to 128 cards and boards of
+ * up to 4096 rows and columns can be encoded.
+ * Encoded moves compare like (card index, row, column) tuples, so the smallest encoded move is
+ * the first card of the hand on its first legal cell in reading order. A pass is encoded as
+ * PASS.
+ */
+public final class MoveEncoding {
+  public static final int MAX_HAND = 1 << 7;
+  public static final int MAX_SIZE = 1 << 12;
+
+  /**
+   * The move that passes the turn, which no placement encodes to.
+   */
+  public static final int PASS = -1;
+
+  private static final int CARD_SHIFT = 24;
+  private static final int ROW_SHIFT = 12;
+  private static final int MASK = MAX_SIZE - 1;
+
+  private MoveEncoding() {
+  }
+
+  /**
+   * Encodes a placement.
+   * @param cardIndex the index of the card in the player's hand
+   * @param row the row index
+   * @param col the column index
+   * @return the encoded move
+   */
+  public static int encode(int cardIndex, int row, int col) {
+    return (cardIndex << CARD_SHIFT) | (row << ROW_SHIFT) | col;
+  }
+
+  /**
+   * Returns the hand index of the card of an encoded move.
+   * @param move the encoded move
+   * @return the card's index in the player's hand
+   */
+  public static int cardIndex(int move) {
+    return move >>> CARD_SHIFT;
+  }
+
+  /**
+   * Returns the row of an encoded move.
+   * @param move the encoded move
+   * @return the row index
+   */
+  public static int row(int move) {
+    return (move >>> ROW_SHIFT) & MASK;
+  }
+
+  /**
+   * Returns the column of an encoded move.
+   * @param move the encoded move
+   * @return the column index
+   */
+  public static int col(int move) {
+    return move & MASK;
+  }
+
+  /**
+   * Returns a buffer size that can hold every legal move of a hand on a board.
+   * @param handSize the number of cards in the hand
+   * @param rows the number of rows of the board
+   * @param cols the number of columns of the board
+   * @return the number of moves the buffer needs room for
+   * @throws IllegalArgumentException if the hand or board is too large to encode
+   */
+  public static int bufferSize(int handSize, int rows, int cols) {
+    if (handSize > MAX_HAND || rows > MAX_SIZE || cols > MAX_SIZE) {
+      throw new IllegalArgumentException("Hand or board too large to encode moves");
+    }
+    return handSize * rows * cols;
+  }
+}
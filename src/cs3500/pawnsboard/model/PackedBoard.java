@@ -0,0 +1,302 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * Represents the board as packed bit planes instead of a grid of Cell objects.
+ * Each row is stored as one or more 64-bit words, where bit i of word w is column 64 * w + i.
+ * Four planes describe the board:
+ * - lo and hi hold the pawn count of each cell as a two bit number (0 to 3)
+ * - red is set where the pawns or card of a cell are owned by the red player
+ * - card is set where a cell holds a card
+ * The cards themselves are kept in a flat array indexed by row * cols + col, and the red and
+ * blue card totals of every row are updated as cards are placed, removed or change owner,
+ * whether through the board or through a cell from getCell.
+ * Influence is applied a whole row at a time with mask shifts and bitwise operations, so
+ * placing a card never allocates. getCell returns a lightweight view backed by the planes,
+ * created on first access and reused after that.
+ * This board behaves exactly like Board, and can be used anywhere an IBoard is expected.
+ */
+public class PackedBoard implements IBoard {
+  private final int rows;
+  private final int cols;
+  private final int words;
+  private final long[] lo;
+  private final long[] hi;
+  private final long[] red;
+  private final long[] card;
+  private final ICard[] cards;
+  private final ICell[] views;
+  private final int[] redScores;
+  private final int[] blueScores;
+
+  /**
+   * Constructs a packed game board with the given width and height.
+   * INVARIANT: The number of columns is odd and greater than 1.
+   * INVARIANT: the number of rows is greater than 0;
+   * @param rows number of rows.
+   * @param cols number of columns
+   */
+  public PackedBoard(int rows, int cols) {
+    if (rows <= 0 || cols <= 1 || cols % 2 == 0) {
+      throw new IllegalArgumentException("Invalid board dimensions");
+    }
+    this.rows = rows;
+    this.cols = cols;
+    this.words = (cols + 63) >>> 6;
+    this.lo = new long[rows * words];
+    this.hi = new long[rows * words];
+    this.red = new long[rows * words];
+    this.card = new long[rows * words];
+    this.cards = new ICard[rows * cols];
+    this.views = new ICell[rows * cols];
+    this.redScores = new int[rows];
+    this.blueScores = new int[rows];
+  }
+
+  @Override
+  public int getRows() {
+    return rows;
+  }
+
+  @Override
+  public int getCols() {
+    return cols;
+  }
+
+  @Override
+  public ICell getCell(int row, int col) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols) {
+      throw new IndexOutOfBoundsException("Index " + row + ", " + col + " out of bounds");
+    }
+    int index = row * cols + col;
+    ICell view = views[index];
+    if (view == null) {
+      view = new PackedCell(row, col);
+      views[index] = view;
+    }
+    return view;
+  }
+
+  @Override
+  public void placeCard(int row, int col, ICard c, boolean isRed) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols) {
+      throw new IndexOutOfBoundsException("Index " + row + ", " + col + " out of bounds");
+    }
+    int word = row * words + (col >>> 6);
+    long bit = 1L << col;
+    if ((card[word] & bit) != 0) {
+      throw new IllegalStateException("Cell occupied");
+    }
+    int pawns = pawnCount(word, bit);
+    if (c.getCost() > pawns) {
+      throw new IllegalArgumentException("The cost is more than the number of pawns");
+    }
+    if (pawns > 0 && ((red[word] & bit) != 0) != isRed) {
+      throw new IllegalArgumentException("The pawns are not owned by the player");
+    }
+    card[word] |= bit;
+    lo[word] &= ~bit;
+    hi[word] &= ~bit;
+    setOwner(word, bit, isRed);
+    cards[row * cols + col] = c;
+    if (isRed) {
+      redScores[row] += c.getValue();
+    }
+    else {
+      blueScores[row] += c.getValue();
+    }
+  }
+
+  @Override
+  public void restoreCell(int row, int col, int pawns, boolean isRed) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols) {
+      throw new IndexOutOfBoundsException("Index " + row + ", " + col + " out of bounds");
+    }
+    int word = row * words + (col >>> 6);
+    long bit = 1L << col;
+    if ((card[word] & bit) != 0) {
+      ICard placed = cards[row * cols + col];
+      if ((red[word] & bit) != 0) {
+        redScores[row] -= placed.getValue();
+      }
+      else {
+        blueScores[row] -= placed.getValue();
+      }
+      card[word] &= ~bit;
+      cards[row * cols + col] = null;
+    }
+    setPawnCount(word, bit, pawns);
+    setOwner(word, bit, isRed);
+  }
+
+  @Override
+  public int getRowScore(int row, boolean isRed) {
+    return isRed ? redScores[row] : blueScores[row];
+  }
+
+  @Override
+  public void applyInfluence(int row, int col, ICard c, boolean isRed) {
+    InfluenceGrid grid = c.getInfluenceGrid();
+    for (int gridRow = 0; gridRow < 5; gridRow++) {
+      int target = row + gridRow - 2;
+      if (target < 0 || target >= rows) {
+        continue;
+      }
+      long mask = grid.getRowMask(gridRow);
+      int start = col - 2;
+      if (start < 0) {
+        mask >>>= -start;
+        start = 0;
+      }
+      if (cols - start < 5) {
+        mask &= (1L << (cols - start)) - 1;
+      }
+      if (mask == 0) {
+        continue;
+      }
+      int word = target * words + (start >>> 6);
+      int shift = start & 63;
+      influenceWord(word, mask << shift, isRed);
+      if (shift > 59 && (mask >>> (64 - shift)) != 0) {
+        influenceWord(word + 1, mask >>> (64 - shift), isRed);
+      }
+    }
+  }
+
+  /**
+   * Applies influence to every cell selected by the mask within one word of the board.
+   * Cells with a card are unaffected. Enemy pawns switch owner, and every other cell gains a
+   * pawn, saturating at three. Every affected cell ends up owned by the placing player.
+   * @param word the index of the word in the bit planes
+   * @param mask the influenced cells within that word
+   * @param isRed true if the red player placed the card, false otherwise
+   */
+  private void influenceWord(int word, long mask, boolean isRed) {
+    long affected = mask & ~card[word];
+    long low = lo[word];
+    long high = hi[word];
+    long enemy = affected & (low | high) & (isRed ? ~red[word] : red[word]);
+    long increment = affected & ~enemy & ~(low & high);
+    lo[word] = low ^ increment;
+    hi[word] = high ^ (increment & low);
+    setOwner(word, affected, isRed);
+  }
+
+  private int pawnCount(int word, long bit) {
+    return ((lo[word] & bit) != 0 ? 1 : 0) + ((hi[word] & bit) != 0 ? 2 : 0);
+  }
+
+  private void setPawnCount(int word, long bit, int count) {
+    lo[word] = (count & 1) != 0 ? lo[word] | bit : lo[word] & ~bit;
+    hi[word] = (count & 2) != 0 ? hi[word] | bit : hi[word] & ~bit;
+  }
+
+  private void setOwner(int word, long bits, boolean isRed) {
+    red[word] = isRed ? red[word] | bits : red[word] & ~bits;
+  }
+
+  /**
+   * A view of a single cell of a PackedBoard.
+   * The view holds no state of its own, every query and update goes to the board's planes.
+   */
+  private final class PackedCell implements ICell {
+    private final int row;
+    private final int col;
+    private final int word;
+    private final long bit;
+
+    /**
+     * Constructs a view of the cell at the given coordinate.
+     * @param row the row index
+     * @param col the column index
+     */
+    private PackedCell(int row, int col) {
+      this.row = row;
+      this.col = col;
+      this.word = row * words + (col >>> 6);
+      this.bit = 1L << col;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return !hasCard() && !hasPawns();
+    }
+
+    @Override
+    public boolean hasCard() {
+      return (card[word] & bit) != 0;
+    }
+
+    @Override
+    public boolean hasPawns() {
+      return ((lo[word] | hi[word]) & bit) != 0;
+    }
+
+    @Override
+    public int getPawnCount() {
+      return pawnCount(word, bit);
+    }
+
+    @Override
+    public ICard getCard() {
+      return cards[row * cols + col];
+    }
+
+    @Override
+    public void placeCard(ICard c, boolean isRed) {
+      PackedBoard.this.placeCard(row, col, c, isRed);
+    }
+
+    @Override
+    public void addPawns(int count, boolean isRed) {
+      if (count < 0) {
+        throw new IllegalArgumentException("Count cannot be negative");
+      }
+      count(-1);
+      setPawnCount(word, bit, Math.min(pawnCount(word, bit) + count, 3));
+      setOwner(word, bit, isRed);
+      count(1);
+    }
+
+    @Override
+    public void switchPawnsOwnership() {
+      count(-1);
+      red[word] ^= bit;
+      count(1);
+    }
+
+    /**
+     * Adds the card on this cell to its owner's row total, or takes it out, around a change
+     * of owner.
+     * @param sign 1 to add the card, -1 to take it out
+     */
+    private void count(int sign) {
+      if (hasCard()) {
+        int value = sign * getCard().getValue();
+        if (isOwnedByRed()) {
+          redScores[row] += value;
+        }
+        else {
+          blueScores[row] += value;
+        }
+      }
+    }
+
+    @Override
+    public boolean isOwnedByRed() {
+      return (red[word] & bit) != 0;
+    }
+
+    @Override
+    public String toString() {
+      if (hasCard()) {
+        return (isOwnedByRed() ? "R" : "B") + getCard().toString();
+      }
+      else if (hasPawns()) {
+        return Integer.toString(getPawnCount());
+      }
+      else {
+        return "_";
+      }
+    }
+  }
+}
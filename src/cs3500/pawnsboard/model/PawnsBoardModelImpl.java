@@ -1,7 +1,10 @@
 package cs3500.pawnsboard.model;
 
+import java.util.Arrays;
 
 import cs3500.pawnsboard.controller.ModelListener;
+import cs3500.pawnsboard.controller.TrampolineTurnScheduler;
+import cs3500.pawnsboard.controller.TurnScheduler;
 
 /**
  * A full implementation of the mutable IPawnsBoardModel interface for the Pawns
@@ -18,29 +21,56 @@ import cs3500.pawnsboard.controller.ModelListener;
  * - A player cannot play a card they don't possess
  * - The game ends when there are no valid moves left for the players, or both player passes
  * The board never contains a card on a cell that is already occupied by another card.
+ * Moves made with makeMove are recorded on an undo stack of ints, one frame per move, so that
+ * unmakeMove can take them back without copying the board. A placement's frame holds the
+ * pawns and owner each cell it changed had before the move, the hand index and CardRegistry
+ * id of the placed card and whether a card was drawn; every frame ends with the turn and game
+ * state from before the move. placeCard and passTurn clear the stack, since moves made before
+ * them can no longer be taken back in order.
  */
 public class PawnsBoardModelImpl extends AbstractPawnsBoardModel implements IPawnsBoardModel {
-  private boolean redPassed;
-  private boolean bluePassed;
   private final java.util.Map<IPlayer, ModelListener> modellisteners = new java.util.HashMap<>();
+  private final TurnScheduler scheduler;
+  private int[] undo = new int[64];
+  private int undoSize;
+
+  private static final int PLACED = 1 << 3;
+  private static final int STATE_SHIFT = 4;
+  private static final GameState[] STATES = GameState.values();
 
   /**
    * Constructs a new Pawns Board game model with the specified board and players.
-   * The game starts with red player.
+   * The game starts with red player. Turns run on the thread that ends the previous turn.
    * @param board the board on which the game is played on
    * @param red red player
    * @param blue blue player
    * @param handSize number of cards in the player's hand
    */
   public PawnsBoardModelImpl(IBoard board, IPlayer red, IPlayer blue, int handSize) {
+    this(board, red, blue, handSize, new TrampolineTurnScheduler());
+  }
+
+  /**
+   * Constructs a new Pawns Board game model whose turns are dispatched by the given scheduler.
+   * @param board the board on which the game is played on
+   * @param red red player
+   * @param blue blue player
+   * @param handSize number of cards in the player's hand
+   * @param scheduler the scheduler that runs each listener's turn
+   * @throws IllegalArgumentException if the scheduler is null
+   */
+  public PawnsBoardModelImpl(IBoard board, IPlayer red, IPlayer blue, int handSize,
+                             TurnScheduler scheduler) {
     super(board, red, blue, handSize);
-    this.redPassed = false;
-    this.bluePassed = false;
+    if (scheduler == null) {
+      throw new IllegalArgumentException("scheduler cannot be null");
+    }
+    this.scheduler = scheduler;
   }
 
   @Override
   public void startGame() {
-    if (gameState != GameState.NOT_STARTED) {
+    if (state.getGameState() != GameState.NOT_STARTED) {
       throw new IllegalStateException("Game has already started");
     }
     for (int i = 0; i < handSize; i++) {
@@ -51,11 +81,12 @@ public class PawnsBoardModelImpl extends AbstractPawnsBoardModel implements IPaw
       board.getCell(row, 0).addPawns(1, true);
       board.getCell(row, board.getCols() - 1).addPawns(1, false);
     }
-    gameState = GameState.ONGOING;
+    state.setGameState(GameState.ONGOING);
   }
 
   @Override
   public void placeCard(int row, int col, ICard card) {
+    GameState gameState = state.getGameState();
     if (gameState == GameState.NOT_STARTED) {
       throw new IllegalStateException("Game hasn't started");
     }
@@ -63,14 +94,15 @@ public class PawnsBoardModelImpl extends AbstractPawnsBoardModel implements IPaw
       throw new IllegalStateException("Game has ended");
     }
 
+    boolean isRed = state.isRedTurn();
     IPlayer current = isRed ? red : blue;
-    if (!current.getHand().contains(card)) {
+    if (current.indexOfCard(card) < 0) {
       throw new IllegalArgumentException("Current player doesn't have the card");
     }
 
     try {
       board.placeCard(row,col,card,isRed);
-      applyInfluence(row,col,card);
+      board.applyInfluence(row,col,card,isRed);
       current.removeCard(card);
       current.drawCard();
     } catch (Exception e) {
@@ -78,54 +110,115 @@ public class PawnsBoardModelImpl extends AbstractPawnsBoardModel implements IPaw
       throw e;
     }
 
-    if (isRed) {
-      redPassed = false;
+    undoSize = 0;
+    state.recordPlacement();
+    notifyNextTurn();
+  }
+
+  @Override
+  public void makeMove(int move) {
+    GameState gameState = state.getGameState();
+    if (gameState == GameState.NOT_STARTED) {
+      throw new IllegalStateException("Game hasn't started");
     }
-    else {
-      bluePassed = false;
+    if (gameState != GameState.ONGOING) {
+      throw new IllegalStateException("Game has ended");
     }
-    isRed = !isRed;
-    notifyNextTurn();
+    int before = (state.isRedTurn() ? 1 : 0) | (state.hasRedPassed() ? 2 : 0)
+            | (state.hasBluePassed() ? 4 : 0) | (gameState.ordinal() << STATE_SHIFT);
+    if (move == MoveEncoding.PASS) {
+      if (state.recordPass()) {
+        state.setGameState(GameState.DONE);
+        determineWinner();
+      }
+      push(before);
+      return;
+    }
+
+    boolean isRed = state.isRedTurn();
+    IPlayer current = isRed ? red : blue;
+    int cardIndex = MoveEncoding.cardIndex(move);
+    if (move < 0 || cardIndex >= current.getHandSize()) {
+      throw new IllegalArgumentException("Current player doesn't have a card at " + cardIndex);
+    }
+    int row = MoveEncoding.row(move);
+    int col = MoveEncoding.col(move);
+    int cardId = current.getHandCardId(cardIndex);
+    ICard card = CardRegistry.global().card(cardId);
+    if (!isMoveLegal(row, col, card, isRed)) {
+      throw new IllegalArgumentException("Illegal move at " + row + ", " + col);
+    }
+
+    int cells = 1;
+    pushCell(row, col);
+    InfluenceGrid grid = card.getInfluenceGrid();
+    for (int i = 0; i < grid.getInfluenceCount(); i++) {
+      int targetRow = row + grid.getRowOffset(i);
+      int targetCol = col + grid.getColOffset(i);
+      if (!outOfBounds(targetRow, targetCol) && (targetRow != row || targetCol != col)
+              && !board.getCell(targetRow, targetCol).hasCard()) {
+        pushCell(targetRow, targetCol);
+        cells++;
+      }
+    }
+    // removeCard takes out the first equal card, which has the same id
+    int removed = current.indexOfCard(card);
+    int handSize = current.getHandSize();
+    board.placeCard(row, col, card, isRed);
+    board.applyInfluence(row, col, card, isRed);
+    current.removeCard(card);
+    current.drawCard();
+    push(removed);
+    push(cardId);
+    push(current.getHandSize() == handSize ? 1 : 0);
+    push(cells);
+    push(before | PLACED);
+    state.recordPlacement();
+  }
+
+  @Override
+  public void unmakeMove() {
+    if (undoSize == 0) {
+      throw new IllegalStateException("No move to take back");
+    }
+    int before = undo[--undoSize];
+    boolean redTurn = (before & 1) != 0;
+    if ((before & PLACED) != 0) {
+      int cells = undo[--undoSize];
+      boolean drew = undo[--undoSize] != 0;
+      int cardId = undo[--undoSize];
+      int removed = undo[--undoSize];
+      IPlayer mover = redTurn ? red : blue;
+      if (drew) {
+        mover.undrawCard();
+      }
+      mover.returnCard(removed, CardRegistry.global().card(cardId));
+      int cols = board.getCols();
+      for (int i = 0; i < cells; i++) {
+        int cell = undo[--undoSize];
+        int index = cell >>> 3;
+        board.restoreCell(index / cols, index % cols, cell & 3, (cell & 4) != 0);
+      }
+    }
+    state.restore(redTurn, (before & 2) != 0, (before & 4) != 0,
+            STATES[before >>> STATE_SHIFT]);
   }
 
   /**
-   * Applies the influence pattern of the placed card to the board.
-   * This method uses a 0-indexed coordinate system.
-   * The offsetX and offsetY represent a coordinate system with the card's position as the origin.
-   * @param row the row index
-   * @param col the column index
-   * @param card the card being placed
+   * Pushes a cell's pawn count and owner onto the undo stack as
+   * (row * cols + col) << 3 | owner << 2 | pawns.
    */
-  private void applyInfluence(int row, int col, ICard card) {
-    InfluenceGrid grid = card.getInfluenceGrid();
-    for (int offsetY = -2; offsetY <= 2; offsetY++) {
-      for (int offsetX = -2; offsetX <= 2; offsetX++) {
-        int targetX = row + offsetY;
-        int targetY = col + offsetX;
-        if (outOfBounds(targetX,targetY)) {
-          continue;
-        }
+  private void pushCell(int row, int col) {
+    ICell cell = board.getCell(row, col);
+    push((row * board.getCols() + col) << 3 | (cell.isOwnedByRed() ? 4 : 0)
+            | cell.getPawnCount());
+  }
 
-        boolean isEffected = grid.isInfluenced(offsetY + 2, offsetX + 2);
-        if (isEffected) {
-          ICell targetCell = board.getCell(targetX, targetY);
-          if (!targetCell.hasCard()) {
-            if (!targetCell.hasPawns()) {
-              targetCell.addPawns(1, isRed);
-            }
-            else {
-              if ((isRed && !targetCell.isOwnedByRed()) ||
-                      (!isRed && targetCell.isOwnedByRed())) {
-                targetCell.switchPawnsOwnership();
-              }
-              else {
-                targetCell.addPawns(1, isRed);
-              }
-            }
-          }
-        }
-      }
+  private void push(int value) {
+    if (undoSize == undo.length) {
+      undo = Arrays.copyOf(undo, undo.length * 2);
     }
+    undo[undoSize++] = value;
   }
 
   /**
@@ -151,6 +244,7 @@ public class PawnsBoardModelImpl extends AbstractPawnsBoardModel implements IPaw
 
   @Override
   public void passTurn() {
+    GameState gameState = state.getGameState();
     if (gameState == GameState.NOT_STARTED) {
       throw new IllegalStateException("Game hasn't started");
     }
@@ -158,18 +252,11 @@ public class PawnsBoardModelImpl extends AbstractPawnsBoardModel implements IPaw
       throw new IllegalStateException("Game has ended");
     }
 
-    if (isRed) {
-      redPassed = true;
-    }
-    else {
-      bluePassed = true;
-    }
-
-    if (redPassed && bluePassed) {
-      gameState = GameState.DONE;
+    undoSize = 0;
+    if (state.recordPass()) {
+      state.setGameState(GameState.DONE);
       determineWinner();
     }
-    isRed = !isRed;
     notifyNextTurn();
   }
 
@@ -181,8 +268,11 @@ public class PawnsBoardModelImpl extends AbstractPawnsBoardModel implements IPaw
   /**
    * Notifies the appropriate listener about turn changes or game end.
    * This method is called after any action that change whose turn it is or end the game.
+   * Notifications go through the turn scheduler, so a machine player moving from inside its
+   * turn doesn't start the next turn on its own call stack.
    */
   private void notifyNextTurn() {
+    GameState gameState = state.getGameState();
     if (gameState != GameState.ONGOING) {
       String message = "";
       if (gameState == GameState.RED_WINS) {
@@ -197,15 +287,16 @@ public class PawnsBoardModelImpl extends AbstractPawnsBoardModel implements IPaw
       else if (gameState == GameState.DONE) {
         message = "Game over: no moves left.";
       }
+      String outcome = message;
       for (ModelListener l : modellisteners.values()) {
-        l.onGameOver(message);
+        scheduler.schedule(() -> l.onGameOver(outcome));
       }
       return;
     }
-    IPlayer next = isRed ? red : blue;
+    IPlayer next = state.isRedTurn() ? red : blue;
     ModelListener nextListener = modellisteners.get(next);
     if (nextListener != null) {
-      nextListener.onMyTurn();
+      scheduler.schedule(nextListener::onMyTurn);
     }
   }
 }
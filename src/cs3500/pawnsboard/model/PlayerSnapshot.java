@@ -0,0 +1,31 @@
+package cs3500.pawnsboard.model;
+
+import cs3500.pawnsboard.controller.PlayerListener;
+
+/**
+ * A copy of a player part way through a game, with their name, hand and the cards left in
+ * their deck, held by a snapshot of the game in place of the live player.
+ * A snapshot only answers questions about the position it was taken in, so it never moves.
+ */
+final class PlayerSnapshot extends AbstractPlayer {
+  private final boolean machine;
+
+  /**
+   * Copies the given player as they are now.
+   * @param player the player to copy
+   */
+  PlayerSnapshot(IPlayer player) {
+    super(player.getName(), player.getDeck().copy(), player.getHand());
+    this.machine = player.isMachine();
+  }
+
+  @Override
+  public boolean isMachine() {
+    return machine;
+  }
+
+  @Override
+  public void move(ReadOnlyPawnsBoardModel model, PlayerListener listener) {
+    throw new IllegalStateException("A snapshot of a player can't move");
+  }
+}
@@ -0,0 +1,257 @@
+package cs3500.pawnsboard.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable snapshot of a Pawns Board position: every cell of the board, both hands, the
+ * side to move and which players passed last.
+ * The whole position is packed into one int array, so taking a snapshot reads every cell once
+ * and allocates once, and comparing or hashing two snapshots is a flat array comparison. Cards
+ * are stored as their CardRegistry ids. Because snapshots never change, a stack of them can be
+ * kept as an undo history, and search code can build its own state from one without touching
+ * the model.
+ * A cell is packed as its pawn count in bits 0 and 1, whether red owns it in bit 2, and the
+ * id of its card plus one from bit 3 up, which is 0 when the cell has no card. An empty cell
+ * has no owner.
+ * This position uses a 0-indexed coordinate system with row and column indexes.
+ */
+public final class Position {
+  private static final int ROWS = 0;
+  private static final int COLS = 1;
+  private static final int FLAGS = 2;
+  private static final int RED_HAND = 3;
+  private static final int BLUE_HAND = 4;
+  private static final int HEADER = 5;
+
+  private static final int RED_TURN = 1;
+  private static final int RED_PASSED = 2;
+  private static final int BLUE_PASSED = 4;
+
+  private static final int PAWN_MASK = 3;
+  private static final int RED_OWNER = 4;
+  private static final int CARD_SHIFT = 3;
+
+  private final int[] data;
+  private final int hash;
+
+  private Position(int[] data) {
+    this.data = data;
+    this.hash = Arrays.hashCode(data);
+  }
+
+  /**
+   * Takes a snapshot of a position.
+   * @param board the board
+   * @param red the red player, whose hand is copied
+   * @param blue the blue player, whose hand is copied
+   * @param redTurn true if red moves next
+   * @param redPassed true if red's last move was a pass
+   * @param bluePassed true if blue's last move was a pass
+   * @return the snapshot
+   * @throws IllegalArgumentException if any argument is null
+   */
+  public static Position of(IBoard board, IPlayer red, IPlayer blue, boolean redTurn,
+                            boolean redPassed, boolean bluePassed) {
+    if (board == null || red == null || blue == null) {
+      throw new IllegalArgumentException("board and players cannot be null");
+    }
+    int rows = board.getRows();
+    int cols = board.getCols();
+    int redHand = red.getHandSize();
+    int blueHand = blue.getHandSize();
+    int[] data = new int[HEADER + rows * cols + redHand + blueHand];
+    data[ROWS] = rows;
+    data[COLS] = cols;
+    data[FLAGS] = (redTurn ? RED_TURN : 0) | (redPassed ? RED_PASSED : 0)
+            | (bluePassed ? BLUE_PASSED : 0);
+    data[RED_HAND] = redHand;
+    data[BLUE_HAND] = blueHand;
+
+    int index = HEADER;
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        ICell cell = board.getCell(row, col);
+        int packed = 0;
+        if (cell.hasCard()) {
+          packed = (CardRegistry.global().id(cell.getCard()) + 1) << CARD_SHIFT;
+        }
+        else if (cell.hasPawns()) {
+          packed = cell.getPawnCount();
+        }
+        if (packed != 0 && cell.isOwnedByRed()) {
+          packed |= RED_OWNER;
+        }
+        data[index++] = packed;
+      }
+    }
+    for (int i = 0; i < redHand; i++) {
+      data[index++] = red.getHandCardId(i);
+    }
+    for (int i = 0; i < blueHand; i++) {
+      data[index++] = blue.getHandCardId(i);
+    }
+    return new Position(data);
+  }
+
+  /**
+   * Returns the number of rows of the board.
+   * @return the row count
+   */
+  public int getRows() {
+    return data[ROWS];
+  }
+
+  /**
+   * Returns the number of columns of the board.
+   * @return the column count
+   */
+  public int getCols() {
+    return data[COLS];
+  }
+
+  /**
+   * Returns whether red moves next.
+   * @return true if it is red's turn
+   */
+  public boolean isRedTurn() {
+    return (data[FLAGS] & RED_TURN) != 0;
+  }
+
+  /**
+   * Returns whether red's last move was a pass.
+   * @return true if red passed
+   */
+  public boolean hasRedPassed() {
+    return (data[FLAGS] & RED_PASSED) != 0;
+  }
+
+  /**
+   * Returns whether blue's last move was a pass.
+   * @return true if blue passed
+   */
+  public boolean hasBluePassed() {
+    return (data[FLAGS] & BLUE_PASSED) != 0;
+  }
+
+  /**
+   * Returns the number of pawns on a cell, which is 0 for a cell with a card.
+   * @param row the row index
+   * @param col the column index
+   * @return the pawn count
+   * @throws IndexOutOfBoundsException if the cell is outside the board
+   */
+  public int getPawnCount(int row, int col) {
+    return cell(row, col) & PAWN_MASK;
+  }
+
+  /**
+   * Returns whether red owns a cell's pawns or card.
+   * @param row the row index
+   * @param col the column index
+   * @return true if red owns the cell
+   * @throws IndexOutOfBoundsException if the cell is outside the board
+   */
+  public boolean isOwnedByRed(int row, int col) {
+    return (cell(row, col) & RED_OWNER) != 0;
+  }
+
+  /**
+   * Returns whether a card is placed on a cell.
+   * @param row the row index
+   * @param col the column index
+   * @return true if the cell has a card
+   * @throws IndexOutOfBoundsException if the cell is outside the board
+   */
+  public boolean hasCard(int row, int col) {
+    return cell(row, col) >>> CARD_SHIFT != 0;
+  }
+
+  /**
+   * Returns the CardRegistry id of the card on a cell.
+   * @param row the row index
+   * @param col the column index
+   * @return the card's id, or -1 if the cell has no card
+   * @throws IndexOutOfBoundsException if the cell is outside the board
+   */
+  public int getCardId(int row, int col) {
+    return (cell(row, col) >>> CARD_SHIFT) - 1;
+  }
+
+  /**
+   * Returns the card on a cell.
+   * @param row the row index
+   * @param col the column index
+   * @return the canonical card from the global CardRegistry, or null if the cell has no card
+   * @throws IndexOutOfBoundsException if the cell is outside the board
+   */
+  public ICard getCard(int row, int col) {
+    int id = getCardId(row, col);
+    return id < 0 ? null : CardRegistry.global().card(id);
+  }
+
+  /**
+   * Returns the number of cards in a player's hand.
+   * @param red true for red's hand, false for blue's
+   * @return the hand size
+   */
+  public int getHandSize(boolean red) {
+    return red ? data[RED_HAND] : data[BLUE_HAND];
+  }
+
+  /**
+   * Returns the CardRegistry id of a card in a player's hand, in hand order.
+   * @param red true for red's hand, false for blue's
+   * @param index the position of the card in the hand
+   * @return the card's id
+   * @throws IndexOutOfBoundsException if the index is outside the hand
+   */
+  public int getHandCardId(boolean red, int index) {
+    int start = HEADER + data[ROWS] * data[COLS] + (red ? 0 : data[RED_HAND]);
+    return data[start + Objects.checkIndex(index, getHandSize(red))];
+  }
+
+  /**
+   * Builds a new board with the cells of this position.
+   * @return the board
+   */
+  public IBoard toBoard() {
+    IBoard board = new Board(getRows(), getCols());
+    for (int row = 0; row < getRows(); row++) {
+      for (int col = 0; col < getCols(); col++) {
+        ICell cell = board.getCell(row, col);
+        boolean red = isOwnedByRed(row, col);
+        if (hasCard(row, col)) {
+          ICard card = getCard(row, col);
+          // a placed card has consumed its pawns, so give the board enough to place it again
+          cell.addPawns(card.getCost(), red);
+          board.placeCard(row, col, card, red);
+        }
+        else if (getPawnCount(row, col) > 0) {
+          cell.addPawns(getPawnCount(row, col), red);
+        }
+      }
+    }
+    return board;
+  }
+
+  private int cell(int row, int col) {
+    Objects.checkIndex(row, data[ROWS]);
+    Objects.checkIndex(col, data[COLS]);
+    return data[HEADER + row * data[COLS] + col];
+  }
+
+  @Override
+  public boolean equals(Object that) {
+    if (!(that instanceof Position)) {
+      return false;
+    }
+    Position other = (Position) that;
+    return hash == other.hash && Arrays.equals(data, other.data);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+}
@@ -62,6 +62,13 @@ public interface ReadOnlyPawnsBoardModel {
    */
   IBoard getBoardCopy();
 
+  /**
+   * Returns an immutable snapshot of the current position: the board, both hands, the side to
+   * move and which players passed last.
+   * @return the position
+   */
+  Position getPosition();
+
   /**
    * Returns whether it is red player's turn.
    * @return true if it is red player's turn, false otherwise.
@@ -91,6 +98,19 @@ public interface ReadOnlyPawnsBoardModel {
    */
   boolean isMoveLegal(int row, int col, ICard card, boolean redCard);
 
+  /**
+   * Writes every legal placement of a player's hand into the buffer in one pass over the
+   * board, as moves encoded with MoveEncoding. Cells without pawns owned by the player are
+   * skipped without looking at the hand.
+   * Moves are written in reading order of their cells, and in hand order for each cell.
+   * @param redPlayer true for the red player's moves, false for the blue player's
+   * @param buffer the buffer to fill, with room for MoveEncoding.bufferSize moves
+   * @return the number of moves written
+   * @throws IllegalArgumentException if the buffer is too small for the legal moves, or the
+   *     hand or board is too large to encode
+   */
+  int legalMoves(boolean redPlayer, int[] buffer);
+
   /**
    * Checks if the given coordinate is out of bounds of the game board.
    * @param row the row index
@@ -20,4 +20,38 @@ public class ReadOnlyPawnsBoardModelImpl extends AbstractPawnsBoardModel
   public ReadOnlyPawnsBoardModelImpl(IBoard board, IPlayer red, IPlayer blue, int handSize) {
     super(board, red, blue, handSize);
   }
+
+  /**
+   * Constructs a read only view of the given game model.
+   * The view shares the model's board, players and turn state, so it always reflects the
+   * game the model is playing rather than a separate game.
+   * @param model the model to observe
+   */
+  public ReadOnlyPawnsBoardModelImpl(AbstractPawnsBoardModel model) {
+    super(model.board, model.red, model.blue, model.handSize, model.state);
+  }
+
+  private ReadOnlyPawnsBoardModelImpl(IBoard board, IPlayer red, IPlayer blue, int handSize,
+                                      TurnState state) {
+    super(board, red, blue, handSize, state);
+  }
+
+  /**
+   * Returns an independent copy of the game the given model shows: the board, both players'
+   * hands and decks, the side to move, the pass flags and the game state.
+   * The copy shares nothing with the game, so it can be read on another thread while the
+   * game goes on. It has to be taken on the thread playing the game.
+   * @param model the game to copy
+   * @return the copy
+   */
+  public static ReadOnlyPawnsBoardModelImpl snapshotOf(ReadOnlyPawnsBoardModel model) {
+    Position position = model.getPosition();
+    IPlayer red = new PlayerSnapshot(model.getRedPlayer());
+    IPlayer blue = new PlayerSnapshot(model.getBluePlayer());
+    TurnState state = new TurnState();
+    state.restore(position.isRedTurn(), position.hasRedPassed(), position.hasBluePassed(),
+            model.getGameState());
+    return new ReadOnlyPawnsBoardModelImpl(position.toBoard(), red, blue,
+            Math.max(red.getHandSize(), blue.getHandSize()), state);
+  }
 }
@@ -0,0 +1,111 @@
+package cs3500.pawnsboard.model;
+
+/**
+ * Holds the mutable turn bookkeeping of a single Pawns Board game: whose turn it is, which
+ * players have passed consecutively, and the current GameState.
+ * Every model owns its own instance, so any number of games can run side by side in one JVM.
+ * A read only model created from a mutable model shares that model's instance, so it observes
+ * the same turn and game state.
+ * The turn and game state fields are volatile so that views reading on another thread (such as
+ * the GUI) see the latest values. A single game is still expected to be mutated by one thread
+ * at a time.
+ */
+final class TurnState {
+  private volatile boolean redTurn;
+  private volatile GameState gameState;
+  private boolean redPassed;
+  private boolean bluePassed;
+
+  /**
+   * Constructs the state of a game that hasn't started yet, with red to move first.
+   */
+  TurnState() {
+    this.redTurn = true;
+    this.gameState = GameState.NOT_STARTED;
+    this.redPassed = false;
+    this.bluePassed = false;
+  }
+
+  /**
+   * Returns whether it is red player's turn.
+   * @return true if red moves next, false otherwise
+   */
+  boolean isRedTurn() {
+    return redTurn;
+  }
+
+  /**
+   * Returns the current state of the game.
+   * @return the current GameState
+   */
+  GameState getGameState() {
+    return gameState;
+  }
+
+  /**
+   * Sets the current state of the game.
+   * @param gameState the new GameState
+   */
+  void setGameState(GameState gameState) {
+    this.gameState = gameState;
+  }
+
+  /**
+   * Records that the current player placed a card, clearing their pass flag, and hands the
+   * turn to the other player.
+   */
+  void recordPlacement() {
+    if (redTurn) {
+      redPassed = false;
+    }
+    else {
+      bluePassed = false;
+    }
+    redTurn = !redTurn;
+  }
+
+  /**
+   * Records that the current player passed, and hands the turn to the other player.
+   * @return true if both players have now passed consecutively, false otherwise
+   */
+  boolean recordPass() {
+    if (redTurn) {
+      redPassed = true;
+    }
+    else {
+      bluePassed = true;
+    }
+    redTurn = !redTurn;
+    return redPassed && bluePassed;
+  }
+
+  /**
+   * Puts the state back to what it was before a move, for a model taking the move back.
+   * @param redTurn whether red moves next
+   * @param redPassed whether red's last action was a pass
+   * @param bluePassed whether blue's last action was a pass
+   * @param gameState the state of the game
+   */
+  void restore(boolean redTurn, boolean redPassed, boolean bluePassed, GameState gameState) {
+    this.redTurn = redTurn;
+    this.redPassed = redPassed;
+    this.bluePassed = bluePassed;
+    this.gameState = gameState;
+  }
+
+  /**
+   * Returns whether the red player passed on their last turn.
+   * @return true if red's last action was a pass
+   */
+  boolean hasRedPassed() {
+    return redPassed;
+  }
+
+  /**
+   * Returns whether the blue player passed on their last turn.
+   * @return true if blue's last action was a pass
+   */
+  boolean hasBluePassed() {
+    return bluePassed;
+  }
+}
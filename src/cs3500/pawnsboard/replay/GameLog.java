@@ -0,0 +1,227 @@
+package cs3500.pawnsboard.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.MoveEncoding;
+
+/**
+ * A recorded game, as read back from the binary log written by GameLogWriter.
+ * The log starts with a header, every number big-endian:
+ *  * the magic number MAGIC and the format VERSION, as ints
+ *  * the hash of both decks from deckHash, as a long
+ *  * the board's rows and columns and the hand size, as ints
+ *  * whether the decks were shuffled, as a byte, and the shuffle seed, as a long
+ * It is followed by one int per move in the order they were made: PASS for a pass, or the
+ * MoveEncoding of a placement, whose card is the index of the placed card in the mover's
+ * hand. Hands are dealt from the decks in order, or by Deck(cards, seed) for both decks when
+ * they were shuffled, so the moves alone determine the whole game.
+ */
+public final class GameLog {
+  /**
+   * The first four bytes of every game log, "PBGL".
+   */
+  public static final int MAGIC = 0x5042474C;
+
+  /**
+   * The version of the format.
+   */
+  public static final int VERSION = 1;
+
+  /**
+   * The logged value of a pass.
+   */
+  public static final int PASS = MoveEncoding.PASS;
+
+  private final long deckHash;
+  private final int rows;
+  private final int cols;
+  private final int handSize;
+  private final boolean shuffled;
+  private final long seed;
+  private final int[] moves;
+
+  /**
+   * Constructs a game log from its header and moves.
+   * @param deckHash the hash of both decks from deckHash
+   * @param rows the number of rows of the board
+   * @param cols the number of columns of the board
+   * @param handSize the hand size
+   * @param shuffled true if both decks were dealt by Deck(cards, seed), false if in order
+   * @param seed the shuffle seed, ignored unless shuffled
+   * @param moves the logged moves, which are copied
+   * @throws IllegalArgumentException if moves is null
+   */
+  public GameLog(long deckHash, int rows, int cols, int handSize, boolean shuffled, long seed,
+                 int[] moves) {
+    if (moves == null) {
+      throw new IllegalArgumentException("moves cannot be null");
+    }
+    this.deckHash = deckHash;
+    this.rows = rows;
+    this.cols = cols;
+    this.handSize = handSize;
+    this.shuffled = shuffled;
+    this.seed = shuffled ? seed : 0;
+    this.moves = moves.clone();
+  }
+
+  /**
+   * Reads a whole game log from the stream, up to its end.
+   * @param in the stream to read, which is not closed
+   * @return the game log
+   * @throws IOException if the stream can't be read
+   * @throws IllegalArgumentException if the stream doesn't hold a valid game log
+   */
+  public static GameLog read(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+    try {
+      if (data.readInt() != MAGIC) {
+        throw new IllegalArgumentException("Invalid game log: bad magic number");
+      }
+      int version = data.readInt();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("Invalid game log: unsupported version " + version);
+      }
+      long deckHash = data.readLong();
+      int rows = data.readInt();
+      int cols = data.readInt();
+      int handSize = data.readInt();
+      boolean shuffled = data.readByte() != 0;
+      long seed = data.readLong();
+
+      byte[] bytes = data.readAllBytes();
+      if (bytes.length % 4 != 0) {
+        throw new IllegalArgumentException("Invalid game log: truncated move");
+      }
+      int[] moves = new int[bytes.length / 4];
+      for (int i = 0; i < moves.length; i++) {
+        moves[i] = (bytes[i * 4] & 0xFF) << 24 | (bytes[i * 4 + 1] & 0xFF) << 16
+                | (bytes[i * 4 + 2] & 0xFF) << 8 | bytes[i * 4 + 3] & 0xFF;
+      }
+      return new GameLog(deckHash, rows, cols, handSize, shuffled, seed, moves);
+    } catch (EOFException e) {
+      throw new IllegalArgumentException("Invalid game log: truncated header");
+    }
+  }
+
+  /**
+   * Returns a hash of the content of both decks in order, which identifies the decks a game
+   * was dealt from.
+   * @param redDeck the red player's cards
+   * @param blueDeck the blue player's cards
+   * @return the deck hash
+   */
+  public static long deckHash(List<ICard> redDeck, List<ICard> blueDeck) {
+    long hash = 0xCBF29CE484222325L;
+    for (List<ICard> deck : List.of(redDeck, blueDeck)) {
+      hash = (hash ^ deck.size()) * 0x100000001B3L;
+      for (ICard card : deck) {
+        hash = (hash ^ card.hashCode()) * 0x100000001B3L;
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * Returns whether a logged move is a pass.
+   * @param move the logged move
+   * @return true if it is a pass
+   */
+  public static boolean isPass(int move) {
+    return move == PASS;
+  }
+
+  /**
+   * Returns the logged value of a placement.
+   * @param cardIndex the index of the placed card in the mover's hand
+   * @param row the row of the placement
+   * @param col the column of the placement
+   * @return the logged move
+   * @throws IllegalArgumentException if the index or coordinates don't fit a MoveEncoding
+   */
+  public static int placement(int cardIndex, int row, int col) {
+    if (cardIndex < 0 || cardIndex >= MoveEncoding.MAX_HAND || row < 0
+            || row >= MoveEncoding.MAX_SIZE || col < 0 || col >= MoveEncoding.MAX_SIZE) {
+      throw new IllegalArgumentException("Move out of range");
+    }
+    return MoveEncoding.encode(cardIndex, row, col);
+  }
+
+  /**
+   * Returns the hash of the decks the game was dealt from.
+   * @return the deck hash
+   */
+  public long getDeckHash() {
+    return deckHash;
+  }
+
+  /**
+   * Returns the number of rows of the board.
+   * @return the row count
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Returns the number of columns of the board.
+   * @return the column count
+   */
+  public int getCols() {
+    return cols;
+  }
+
+  /**
+   * Returns the hand size.
+   * @return the hand size
+   */
+  public int getHandSize() {
+    return handSize;
+  }
+
+  /**
+   * Returns whether both decks were dealt by Deck(cards, seed).
+   * @return true if the decks were shuffled, false if dealt in order
+   */
+  public boolean isShuffled() {
+    return shuffled;
+  }
+
+  /**
+   * Returns the seed both decks were shuffled with, or 0 if they weren't.
+   * @return the shuffle seed
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns the number of logged moves.
+   * @return the move count
+   */
+  public int getMoveCount() {
+    return moves.length;
+  }
+
+  /**
+   * Returns a logged move.
+   * @param index the index of the move, from 0
+   * @return the logged move
+   * @throws IndexOutOfBoundsException if there is no such move
+   */
+  public int getMove(int index) {
+    return moves[index];
+  }
+
+  @Override
+  public String toString() {
+    return "GameLog[" + rows + "x" + cols + ", hand " + handSize
+            + (shuffled ? ", seed " + seed : "") + ", " + moves.length + " moves]";
+  }
+}
@@ -0,0 +1,102 @@
+package cs3500.pawnsboard.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import cs3500.pawnsboard.model.ICard;
+
+/**
+ * Writes a game log in the format described by GameLog, appending one move at a time.
+ * The header is written as soon as the writer is constructed, and every move is flushed to the
+ * stream as it is recorded, so a game that is cut short still leaves a readable log of every
+ * move made before it stopped.
+ */
+public class GameLogWriter implements Closeable {
+  private final DataOutputStream out;
+
+  /**
+   * Constructs a writer for a game whose decks are dealt in order.
+   * @param out the stream to write the log to
+   * @param redDeck the cards red's deck is dealt from
+   * @param blueDeck the cards blue's deck is dealt from
+   * @param rows the number of rows of the board
+   * @param cols the number of columns of the board
+   * @param handSize the hand size
+   * @throws IOException if the header can't be written
+   * @throws IllegalArgumentException if any argument is null
+   */
+  public GameLogWriter(OutputStream out, List<ICard> redDeck, List<ICard> blueDeck, int rows,
+                       int cols, int handSize) throws IOException {
+    this(out, redDeck, blueDeck, rows, cols, handSize, false, 0);
+  }
+
+  /**
+   * Constructs a writer for a game whose decks are both dealt by Deck(cards, seed), with the
+   * same seed. GameReplay deals both decks from the one logged seed, so a game whose decks were
+   * shuffled any other way, such as with a seed per deck, doesn't replay from its log.
+   * @param out the stream to write the log to
+   * @param redDeck the cards red's deck is shuffled from
+   * @param blueDeck the cards blue's deck is shuffled from
+   * @param rows the number of rows of the board
+   * @param cols the number of columns of the board
+   * @param handSize the hand size
+   * @param seed the seed both decks are shuffled with
+   * @throws IOException if the header can't be written
+   * @throws IllegalArgumentException if any argument is null
+   */
+  public GameLogWriter(OutputStream out, List<ICard> redDeck, List<ICard> blueDeck, int rows,
+                       int cols, int handSize, long seed) throws IOException {
+    this(out, redDeck, blueDeck, rows, cols, handSize, true, seed);
+  }
+
+  private GameLogWriter(OutputStream out, List<ICard> redDeck, List<ICard> blueDeck, int rows,
+                        int cols, int handSize, boolean shuffled, long seed) throws IOException {
+    if (out == null || redDeck == null || blueDeck == null) {
+      throw new IllegalArgumentException("stream and decks cannot be null");
+    }
+    this.out = new DataOutputStream(new BufferedOutputStream(out));
+    this.out.writeInt(GameLog.MAGIC);
+    this.out.writeInt(GameLog.VERSION);
+    this.out.writeLong(GameLog.deckHash(redDeck, blueDeck));
+    this.out.writeInt(rows);
+    this.out.writeInt(cols);
+    this.out.writeInt(handSize);
+    this.out.writeByte(shuffled ? 1 : 0);
+    this.out.writeLong(shuffled ? seed : 0);
+    this.out.flush();
+  }
+
+  /**
+   * Appends a placement to the log.
+   * @param cardIndex the index of the placed card in the mover's hand
+   * @param row the row of the placement
+   * @param col the column of the placement
+   * @throws IOException if the move can't be written
+   * @throws IllegalArgumentException if the index or coordinates are out of range
+   */
+  public void recordPlacement(int cardIndex, int row, int col) throws IOException {
+    record(GameLog.placement(cardIndex, row, col));
+  }
+
+  /**
+   * Appends a pass to the log.
+   * @throws IOException if the move can't be written
+   */
+  public void recordPass() throws IOException {
+    record(GameLog.PASS);
+  }
+
+  private void record(int move) throws IOException {
+    out.writeInt(move);
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+}
@@ -0,0 +1,110 @@
+package cs3500.pawnsboard.replay;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPawnsBoardModel;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.MoveEncoding;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+/**
+ * Rebuilds the positions of a logged game by dealing its decks again and re-applying its
+ * moves to a fresh model. No strategy runs during a replay, and the model has no listeners,
+ * so each move costs no more than the placement or pass itself.
+ */
+public class GameReplay {
+  private final GameLog log;
+  private final List<ICard> redDeck;
+  private final List<ICard> blueDeck;
+
+  /**
+   * Constructs a replay of the given log, dealt from the given decks.
+   * @param log the game log
+   * @param redDeck the cards red's deck was dealt from
+   * @param blueDeck the cards blue's deck was dealt from
+   * @throws IllegalArgumentException if any argument is null, or the decks aren't the ones
+   *     the game was logged with
+   */
+  public GameReplay(GameLog log, List<ICard> redDeck, List<ICard> blueDeck) {
+    if (log == null || redDeck == null || blueDeck == null) {
+      throw new IllegalArgumentException("log and decks cannot be null");
+    }
+    if (GameLog.deckHash(redDeck, blueDeck) != log.getDeckHash()) {
+      throw new IllegalArgumentException("Decks don't match the game log");
+    }
+    this.log = log;
+    this.redDeck = new ArrayList<>(redDeck);
+    this.blueDeck = new ArrayList<>(blueDeck);
+  }
+
+  /**
+   * Replays the whole game.
+   * @return a model in the game's final position
+   * @throws IllegalStateException if a logged move is illegal
+   */
+  public IPawnsBoardModel replay() {
+    return replay(log.getMoveCount());
+  }
+
+  /**
+   * Replays the first moves of the game.
+   * @param moves the number of moves to replay
+   * @return a model in the position after those moves
+   * @throws IllegalArgumentException if moves is negative or more than the log holds
+   * @throws IllegalStateException if a logged move is illegal
+   */
+  public IPawnsBoardModel replay(int moves) {
+    if (moves < 0 || moves > log.getMoveCount()) {
+      throw new IllegalArgumentException("The log has " + log.getMoveCount() + " moves");
+    }
+    IPawnsBoardModel model = newGame();
+    for (int i = 0; i < moves; i++) {
+      try {
+        apply(model, log.getMove(i));
+      } catch (IllegalArgumentException | IllegalStateException | IndexOutOfBoundsException e) {
+        throw new IllegalStateException("Move " + i + " of the log is illegal: "
+                + e.getMessage(), e);
+      }
+    }
+    return model;
+  }
+
+  /**
+   * Makes a logged move on a model.
+   * @param model the model to move on
+   * @param move the logged move
+   * @throws IllegalArgumentException if the move is illegal
+   * @throws IllegalStateException if the game isn't ongoing
+   * @throws IndexOutOfBoundsException if the mover has no card at the logged index
+   */
+  public static void apply(IPawnsBoardModel model, int move) {
+    if (GameLog.isPass(move)) {
+      model.passTurn();
+      return;
+    }
+    IPlayer mover = model.isRedTurn() ? model.getRedPlayer() : model.getBluePlayer();
+    ICard card = mover.getHand().get(MoveEncoding.cardIndex(move));
+    model.placeCard(MoveEncoding.row(move), MoveEncoding.col(move), card);
+  }
+
+  /**
+   * Deals a fresh game with the logged board, hands and shuffle. Both decks are shuffled with
+   * the one logged seed, as every writer of a shuffled game must have dealt them.
+   * @return the started game
+   */
+  private IPawnsBoardModel newGame() {
+    Deck red = log.isShuffled() ? new Deck(redDeck, log.getSeed()) : new Deck(redDeck);
+    Deck blue = log.isShuffled() ? new Deck(blueDeck, log.getSeed()) : new Deck(blueDeck);
+    IPlayer redPlayer = new HumanPlayer("Red", red, log.getHandSize());
+    IPlayer bluePlayer = new HumanPlayer("Blue", blue, log.getHandSize());
+    IPawnsBoardModel model = new PawnsBoardModelImpl(new Board(log.getRows(), log.getCols()),
+            redPlayer, bluePlayer, log.getHandSize());
+    model.startGame();
+    return model;
+  }
+}
@@ -0,0 +1,169 @@
+package cs3500.pawnsboard.replay;
+
+import java.io.IOException;
+import java.util.List;
+
+import cs3500.pawnsboard.controller.ModelListener;
+import cs3500.pawnsboard.model.GameState;
+import cs3500.pawnsboard.model.IBoard;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPawnsBoardModel;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.Position;
+
+/**
+ * A model that plays every call on another model and appends each placement and pass that
+ * succeeds to a GameLogWriter.
+ * A move is checked against the model before it is made and logged just before it is passed
+ * on, because the model may start the next player's turn before the call returns and that
+ * player's move has to be logged after this one. Moves the model would reject are passed on
+ * without being logged, so they fail exactly as they would without the log.
+ * Moves made with makeMove are search moves that get taken back, so they are never logged.
+ */
+public class RecordingPawnsBoardModel implements IPawnsBoardModel {
+  private final IPawnsBoardModel model;
+  private final GameLogWriter log;
+
+  /**
+   * Constructs a model that records the moves made on the given model.
+   * @param model the model to play on
+   * @param log the log to append moves to
+   * @throws IllegalArgumentException if either argument is null
+   */
+  public RecordingPawnsBoardModel(IPawnsBoardModel model, GameLogWriter log) {
+    if (model == null || log == null) {
+      throw new IllegalArgumentException("model and log cannot be null");
+    }
+    this.model = model;
+    this.log = log;
+  }
+
+  @Override
+  public void startGame() {
+    model.startGame();
+  }
+
+  @Override
+  public void placeCard(int row, int col, ICard card) {
+    if (model.getGameState() == GameState.ONGOING) {
+      boolean isRed = model.isRedTurn();
+      IPlayer current = isRed ? model.getRedPlayer() : model.getBluePlayer();
+      int cardIndex = current.indexOfCard(card);
+      if (cardIndex >= 0 && model.isMoveLegal(row, col, card, isRed)) {
+        try {
+          log.recordPlacement(cardIndex, row, col);
+        } catch (IOException e) {
+          throw new IllegalStateException("Could not write the game log", e);
+        }
+      }
+    }
+    model.placeCard(row, col, card);
+  }
+
+  @Override
+  public void passTurn() {
+    if (model.getGameState() == GameState.ONGOING) {
+      try {
+        log.recordPass();
+      } catch (IOException e) {
+        throw new IllegalStateException("Could not write the game log", e);
+      }
+    }
+    model.passTurn();
+  }
+
+  @Override
+  public void makeMove(int move) {
+    model.makeMove(move);
+  }
+
+  @Override
+  public void unmakeMove() {
+    model.unmakeMove();
+  }
+
+  @Override
+  public void addModelListener(ModelListener listener) {
+    model.addModelListener(listener);
+  }
+
+  @Override
+  public ICard getCardAt(int row, int col) {
+    return model.getCardAt(row, col);
+  }
+
+  @Override
+  public List<ICard> getPlayerHand(IPlayer player) {
+    return model.getPlayerHand(player);
+  }
+
+  @Override
+  public int scoreAtRow(int row, IPlayer player) {
+    return model.scoreAtRow(row, player);
+  }
+
+  @Override
+  public int currentScore(IPlayer player) {
+    return model.currentScore(player);
+  }
+
+  @Override
+  public GameState getGameState() {
+    return model.getGameState();
+  }
+
+  @Override
+  public IBoard getBoard() {
+    return model.getBoard();
+  }
+
+  @Override
+  public IBoard getBoardCopy() {
+    return model.getBoardCopy();
+  }
+
+  @Override
+  public Position getPosition() {
+    return model.getPosition();
+  }
+
+  @Override
+  public boolean isRedTurn() {
+    return model.isRedTurn();
+  }
+
+  @Override
+  public boolean isGameOver() {
+    return model.isGameOver();
+  }
+
+  @Override
+  public GameState determineWinner() {
+    return model.determineWinner();
+  }
+
+  @Override
+  public boolean isMoveLegal(int row, int col, ICard card, boolean redCard) {
+    return model.isMoveLegal(row, col, card, redCard);
+  }
+
+  @Override
+  public int legalMoves(boolean redPlayer, int[] buffer) {
+    return model.legalMoves(redPlayer, buffer);
+  }
+
+  @Override
+  public boolean outOfBounds(int row, int col) {
+    return model.outOfBounds(row, col);
+  }
+
+  @Override
+  public IPlayer getRedPlayer() {
+    return model.getRedPlayer();
+  }
+
+  @Override
+  public IPlayer getBluePlayer() {
+    return model.getBluePlayer();
+  }
+}
@@ -0,0 +1,286 @@
+package cs3500.pawnsboard.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
+
+/**
+ * Strategy that searches placements and passes with iterative deepening alpha-beta.
+ * Positions are scored by an Evaluator, from the point of view of the player to move, which by
+ * default is the difference between the players' current scores. The search deepens one ply
+ * at a time until the per-move time budget runs out or the maximum depth is reached, and
+ * returns the best move of the deepest completed iteration.
+ * The model is copied once per move into a SearchPosition, and every node of the search is
+ * visited with make and unmake on that copy, so no boards are allocated while searching.
+ * The best move of each iteration is searched first in the next one, and deepening stops
+ * early once an iteration reaches the end of the game on every line.
+ * Results are kept in a TranspositionTable, so positions reached again through a different
+ * move order are cut off or searched best move first. The table may be shared between
+ * strategies and threads.
+ */
+public class AlphaBetaStrategy implements IStrategy {
+  private static final int MAX_DEPTH = 64;
+  private static final int INFINITY = Integer.MAX_VALUE;
+  private static final int CHECK_INTERVAL = 1023;
+  private static final int DEFAULT_TABLE_ENTRIES = 1 << 16;
+
+  private final long budgetMillis;
+  private final int maxDepth;
+  private final TranspositionTable table;
+  private final Evaluator evaluator;
+
+  private SearchPosition position;
+  private List<int[]> buffers;
+  private long deadline;
+  private long nodes;
+  private boolean aborted;
+  private boolean horizon;
+
+  /**
+   * Constructs an alpha-beta strategy that searches as deep as it can within the budget.
+   * @param budgetMillis the time allowed for each move in milliseconds
+   * @throws IllegalArgumentException if the budget isn't positive
+   */
+  public AlphaBetaStrategy(long budgetMillis) {
+    this(budgetMillis, MAX_DEPTH);
+  }
+
+  /**
+   * Constructs an alpha-beta strategy that searches as deep as it can within the budget and
+   * scores positions with the given evaluator.
+   * @param budgetMillis the time allowed for each move in milliseconds
+   * @param evaluator the evaluator that scores the positions the search stops at
+   * @throws IllegalArgumentException if the budget isn't positive or the evaluator is null
+   */
+  public AlphaBetaStrategy(long budgetMillis, Evaluator evaluator) {
+    this(budgetMillis, MAX_DEPTH, new TranspositionTable(DEFAULT_TABLE_ENTRIES), evaluator);
+  }
+
+  /**
+   * Constructs an alpha-beta strategy that stops deepening at the given depth.
+   * @param budgetMillis the time allowed for each move in milliseconds
+   * @param maxDepth the deepest iteration to search, in plies
+   * @throws IllegalArgumentException if the budget or depth isn't positive
+   */
+  public AlphaBetaStrategy(long budgetMillis, int maxDepth) {
+    this(budgetMillis, maxDepth, new TranspositionTable(DEFAULT_TABLE_ENTRIES));
+  }
+
+  /**
+   * Constructs an alpha-beta strategy that stores its results in the given table.
+   * @param budgetMillis the time allowed for each move in milliseconds
+   * @param maxDepth the deepest iteration to search, in plies
+   * @param table the transposition table to use, which may be shared
+   * @throws IllegalArgumentException if the budget or depth isn't positive, or the table is
+   *     null
+   */
+  public AlphaBetaStrategy(long budgetMillis, int maxDepth, TranspositionTable table) {
+    this(budgetMillis, maxDepth, table, Evaluator.DEFAULT);
+  }
+
+  /**
+   * Constructs an alpha-beta strategy that scores positions with the given evaluator.
+   * @param budgetMillis the time allowed for each move in milliseconds
+   * @param maxDepth the deepest iteration to search, in plies
+   * @param table the transposition table to use, which may be shared
+   * @param evaluator the evaluator that scores the positions the search stops at
+   * @throws IllegalArgumentException if the budget or depth isn't positive, or the table or
+   *     evaluator is null
+   */
+  public AlphaBetaStrategy(long budgetMillis, int maxDepth, TranspositionTable table,
+                           Evaluator evaluator) {
+    if (table == null) {
+      throw new IllegalArgumentException("table cannot be null");
+    }
+    if (evaluator == null) {
+      throw new IllegalArgumentException("evaluator cannot be null");
+    }
+    if (budgetMillis <= 0) {
+      throw new IllegalArgumentException("budget must be positive");
+    }
+    if (maxDepth <= 0 || maxDepth > MAX_DEPTH) {
+      throw new IllegalArgumentException("depth must be between 1 and " + MAX_DEPTH);
+    }
+    this.budgetMillis = budgetMillis;
+    this.maxDepth = maxDepth;
+    this.table = table;
+    this.evaluator = evaluator;
+  }
+
+  @Override
+  public Move chooseMove(ReadOnlyPawnsBoardModel model, IPlayer player) {
+    deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+    // the root keeps the game's pass flags, so a pass after the opponent's ends the game
+    position = new SearchPosition(model.getPosition());
+    buffers = new ArrayList<>();
+    nodes = 0;
+    aborted = false;
+    table.newSearch();
+
+    int[] rootMoves = buffer(0);
+    int count = position.generateMoves(rootMoves);
+    int best = rootMoves[0];
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      int iterationBest = searchRoot(rootMoves, count, depth);
+      if (aborted) {
+        if (depth == 1) {
+          best = iterationBest;
+        }
+        break;
+      }
+      best = iterationBest;
+      moveToFront(rootMoves, count, best);
+      if (!horizon) {
+        break;
+      }
+    }
+    Move move = position.toMove(best);
+    position = null;
+    buffers = null;
+    return move;
+  }
+
+  /**
+   * Returns the number of positions visited by the most recent call to chooseMove.
+   * @return the node count of the last search
+   */
+  @Override
+  public long getNodesSearched() {
+    return nodes;
+  }
+
+  /**
+   * Returns the transposition table this strategy searches with.
+   * @return the transposition table
+   */
+  public TranspositionTable getTable() {
+    return table;
+  }
+
+  /**
+   * Searches every root move to the given depth.
+   * @param moves the root moves, best guess first
+   * @param count the number of root moves
+   * @param depth the depth to search, in plies
+   * @return the best root move found, which is only partial if the search was aborted
+   */
+  private int searchRoot(int[] moves, int count, int depth) {
+    horizon = false;
+    int alpha = -INFINITY;
+    int best = moves[0];
+    for (int i = 0; i < count; i++) {
+      position.make(moves[i]);
+      int score = -search(depth - 1, 1, -INFINITY, -alpha);
+      position.unmake();
+      if (aborted) {
+        break;
+      }
+      if (score > alpha) {
+        alpha = score;
+        best = moves[i];
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Negamax alpha-beta search below the root.
+   * @param depth the remaining depth, in plies
+   * @param ply the distance from the root
+   * @param alpha the lower bound of the window
+   * @param beta the upper bound of the window
+   * @return the score of the position for the side to move
+   */
+  private int search(int depth, int ply, int alpha, int beta) {
+    nodes++;
+    if ((nodes & CHECK_INTERVAL) == 0 && System.nanoTime() > deadline) {
+      aborted = true;
+    }
+    if (aborted) {
+      return 0;
+    }
+    if (position.isGameOver()) {
+      return evaluator.evaluate(position);
+    }
+    if (depth == 0) {
+      horizon = true;
+      return evaluator.evaluate(position);
+    }
+
+    long key = position.key();
+    long entry = table.probe(key);
+    if (entry != 0 && TranspositionTable.depth(entry) >= depth) {
+      int stored = TranspositionTable.score(entry);
+      int bound = TranspositionTable.bound(entry);
+      if (bound == TranspositionTable.EXACT
+              || (bound == TranspositionTable.LOWER && stored >= beta)
+              || (bound == TranspositionTable.UPPER && stored <= alpha)) {
+        // the stored line may have been cut at its own horizon, so keep deepening
+        horizon = true;
+        return stored;
+      }
+    }
+
+    int[] moves = buffer(ply);
+    int count = position.generateMoves(moves);
+    if (entry != 0) {
+      moveToFront(moves, count, TranspositionTable.move(entry));
+    }
+    int originalAlpha = alpha;
+    int best = -INFINITY;
+    int bestMove = moves[0];
+    for (int i = 0; i < count; i++) {
+      position.make(moves[i]);
+      int score = -search(depth - 1, ply + 1, -beta, -alpha);
+      position.unmake();
+      if (aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = moves[i];
+        if (score > alpha) {
+          alpha = score;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+    int bound = best <= originalAlpha ? TranspositionTable.UPPER
+            : best >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+    table.store(key, best, bestMove, depth, bound);
+    return best;
+  }
+
+  /**
+   * Returns the move buffer for the given ply, allocating it the first time that ply is
+   * reached during this move's search.
+   * @param ply the distance from the root
+   * @return the buffer for that ply
+   */
+  private int[] buffer(int ply) {
+    while (buffers.size() <= ply) {
+      buffers.add(new int[position.maxMoves()]);
+    }
+    return buffers.get(ply);
+  }
+
+  /**
+   * Moves the given move to the front of the list, keeping the others in order.
+   * @param moves the move list
+   * @param count the number of moves
+   * @param move the move to search first
+   */
+  private static void moveToFront(int[] moves, int count, int move) {
+    for (int i = 0; i < count; i++) {
+      if (moves[i] == move) {
+        System.arraycopy(moves, 0, moves, 1, i);
+        moves[0] = move;
+        return;
+      }
+    }
+  }
+}
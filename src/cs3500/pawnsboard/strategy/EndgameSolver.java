@@ -0,0 +1,224 @@
+package cs3500.pawnsboard.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
+
+/**
+ * Strategy that plays endgames perfectly, and asks another strategy earlier in the game.
+ * Once both players together have at most a given number of legal placements, the position is
+ * copied exactly, with the pass flags and the cards left in both decks, and searched with
+ * negamax alpha-beta all the way to the end of the game, so the move chosen provably maximizes
+ * the final score difference against any reply. Positions reached again are looked up in a
+ * TranspositionTable, where they are stored at TranspositionTable.MAX_DEPTH so that entries
+ * from depth-limited searches sharing the table are never mistaken for solved ones.
+ * A placement can create pawns for more placements, so a position under the threshold can
+ * still have a large tree: a solve that visits more than the node limit is abandoned, and
+ * the other strategy moves instead.
+ * The table should only be shared between solvers playing the same game, since keys don't
+ * cover the order of the cards left in the decks.
+ */
+public class EndgameSolver implements IStrategy {
+  private static final int INFINITY = Integer.MAX_VALUE;
+  private static final long DEFAULT_MAX_NODES = 1L << 22;
+  private static final int DEFAULT_TABLE_ENTRIES = 1 << 18;
+
+  private final int maxPlacements;
+  private final long maxNodes;
+  private final TranspositionTable table;
+  private final IStrategy fallback;
+
+  private SearchPosition position;
+  private List<int[]> buffers;
+  private long nodes;
+  private boolean aborted;
+  private boolean lastSolved;
+  private int lastScore;
+
+  /**
+   * Constructs a solver that takes over below the given number of placements.
+   * @param maxPlacements the most legal placements, counting both players, at which the
+   *     game is solved
+   * @param fallback the strategy that moves before then
+   * @throws IllegalArgumentException if maxPlacements is negative or fallback is null
+   */
+  public EndgameSolver(int maxPlacements, IStrategy fallback) {
+    this(maxPlacements, DEFAULT_MAX_NODES, new TranspositionTable(DEFAULT_TABLE_ENTRIES),
+            fallback);
+  }
+
+  /**
+   * Constructs a solver with the given node limit and table.
+   * @param maxPlacements the most legal placements, counting both players, at which the
+   *     game is solved
+   * @param maxNodes the most positions a solve may visit before it is abandoned
+   * @param table the transposition table to use
+   * @param fallback the strategy that moves when the game isn't solved
+   * @throws IllegalArgumentException if maxPlacements is negative, maxNodes isn't positive,
+   *     or table or fallback is null
+   */
+  public EndgameSolver(int maxPlacements, long maxNodes, TranspositionTable table,
+                       IStrategy fallback) {
+    if (maxPlacements < 0 || maxNodes <= 0) {
+      throw new IllegalArgumentException("Invalid placement or node limit");
+    }
+    if (table == null || fallback == null) {
+      throw new IllegalArgumentException("table and fallback cannot be null");
+    }
+    this.maxPlacements = maxPlacements;
+    this.maxNodes = maxNodes;
+    this.table = table;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public Move chooseMove(ReadOnlyPawnsBoardModel model, IPlayer player) {
+    lastSolved = false;
+    nodes = 0;
+    try {
+      position = SearchPosition.exact(model);
+    } catch (IllegalArgumentException e) {
+      // too many cards to track every draw
+      return fallback.chooseMove(model, player);
+    }
+    if (position.isGameOver() || position.countPlacements(true)
+            + position.countPlacements(false) > maxPlacements) {
+      position = null;
+      return fallback.chooseMove(model, player);
+    }
+
+    buffers = new ArrayList<>();
+    aborted = false;
+    table.newSearch();
+    int[] moves = buffer(0);
+    int count = position.generateMoves(moves);
+    long entry = table.probe(position.key());
+    if (entry != 0) {
+      moveToFront(moves, count, TranspositionTable.move(entry));
+    }
+    int best = moves[0];
+    int alpha = -INFINITY;
+    for (int i = 0; i < count && !aborted; i++) {
+      position.make(moves[i]);
+      int score = -solve(1, -INFINITY, -alpha);
+      position.unmake();
+      if (!aborted && score > alpha) {
+        alpha = score;
+        best = moves[i];
+      }
+    }
+    Move move = aborted ? null : position.toMove(best);
+    position = null;
+    buffers = null;
+    if (move == null) {
+      return fallback.chooseMove(model, player);
+    }
+    lastSolved = true;
+    lastScore = alpha;
+    return move;
+  }
+
+  /**
+   * Negamax alpha-beta search to the end of the game.
+   * @param ply the distance from the root
+   * @param alpha the lower bound of the window
+   * @param beta the upper bound of the window
+   * @return the final score difference for the side to move under perfect play
+   */
+  private int solve(int ply, int alpha, int beta) {
+    if (++nodes > maxNodes) {
+      aborted = true;
+    }
+    if (aborted) {
+      return 0;
+    }
+    if (position.isGameOver()) {
+      int difference = position.score(true) - position.score(false);
+      return position.isRedTurn() ? difference : -difference;
+    }
+
+    long key = position.key();
+    long entry = table.probe(key);
+    if (entry != 0 && TranspositionTable.depth(entry) == TranspositionTable.MAX_DEPTH) {
+      int stored = TranspositionTable.score(entry);
+      int bound = TranspositionTable.bound(entry);
+      if (bound == TranspositionTable.EXACT
+              || (bound == TranspositionTable.LOWER && stored >= beta)
+              || (bound == TranspositionTable.UPPER && stored <= alpha)) {
+        return stored;
+      }
+    }
+
+    int[] moves = buffer(ply);
+    int count = position.generateMoves(moves);
+    if (entry != 0) {
+      moveToFront(moves, count, TranspositionTable.move(entry));
+    }
+    int originalAlpha = alpha;
+    int best = -INFINITY;
+    int bestMove = moves[0];
+    for (int i = 0; i < count; i++) {
+      position.make(moves[i]);
+      int score = -solve(ply + 1, -beta, -alpha);
+      position.unmake();
+      if (aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = moves[i];
+        if (score > alpha) {
+          alpha = score;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+    int bound = best <= originalAlpha ? TranspositionTable.UPPER
+            : best >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+    table.store(key, best, bestMove, TranspositionTable.MAX_DEPTH, bound);
+    return best;
+  }
+
+  /**
+   * Returns whether the last move chosen was solved rather than left to the other strategy.
+   * @return true if the last move is provably optimal
+   */
+  public boolean isLastMoveSolved() {
+    return lastSolved;
+  }
+
+  /**
+   * Returns the final score difference, from the mover's point of view, that the last solved
+   * move guarantees.
+   * @return the score difference, or 0 if the last move wasn't solved
+   */
+  public int getLastScore() {
+    return lastSolved ? lastScore : 0;
+  }
+
+  @Override
+  public long getNodesSearched() {
+    return lastSolved ? nodes : fallback.getNodesSearched();
+  }
+
+  private int[] buffer(int ply) {
+    while (buffers.size() <= ply) {
+      buffers.add(new int[position.maxMoves()]);
+    }
+    return buffers.get(ply);
+  }
+
+  private static void moveToFront(int[] moves, int count, int move) {
+    for (int i = 0; i < count; i++) {
+      if (moves[i] == move) {
+        System.arraycopy(moves, 0, moves, 1, i);
+        moves[0] = move;
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,305 @@
+package cs3500.pawnsboard.strategy;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Scanner;
+
+import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
+
+/**
+ * Scores Pawns Board positions as a weighted sum of features, from the point of view of the
+ * player to move.
+ * Every Feature is the player to move's measure minus the opponent's, so swapping the players
+ * negates the evaluation. Weights are ints, because search scores are, and only their ratios
+ * matter. The default weights count only the score difference, which is what the search used
+ * before evaluators existed.
+ * An evaluation reads the row totals of the position in one loop, and the cells and hands in a
+ * second loop only when a feature that needs them has a weight, so it allocates nothing and
+ * costs a few multiplications and adds per row and cell.
+ * Weights can be read from and written to a text file with one "feature weight" pair per line,
+ * where features are named as in Feature.getName and '#' starts a comment.
+ * Once the game is over only the score difference counts, weighed by the SCORE weight.
+ */
+public final class Evaluator {
+  /**
+   * The features an evaluator weighs. Each is the player to move's measure minus the
+   * opponent's.
+   */
+  public enum Feature {
+    /** The players' current scores, the sum of the rows they lead. */
+    SCORE("score"),
+    /** The sum over rows of the difference between the players' row totals, capped at
+     * MARGIN_CAP either way so a row won by a lot counts no more than one won safely. */
+    ROW_MARGIN("row-margin"),
+    /** The number of rows a player leads by at most NARROW_LEAD, which the other player
+     * could still take. */
+    CONTESTED("contested"),
+    /** The number of pawns a player has on the board, which are the places left to play. */
+    MOBILITY("mobility"),
+    /** The total value of the cards a player still holds. */
+    HAND_VALUE("hand-value"),
+    /** The total cost of the cards a player holds that some cell of theirs has the pawns to
+     * pay for. */
+    PLAYABLE("playable");
+
+    private final String name;
+
+    Feature(String name) {
+      this.name = name;
+    }
+
+    /**
+     * Returns the name of this feature in a weights file.
+     * @return the name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Returns the feature with the given name in a weights file.
+     * @param name the name
+     * @return the feature
+     * @throws IllegalArgumentException if no feature has that name
+     */
+    public static Feature forName(String name) {
+      for (Feature feature : values()) {
+        if (feature.name.equals(name)) {
+          return feature;
+        }
+      }
+      throw new IllegalArgumentException("Unknown feature " + name);
+    }
+  }
+
+  /**
+   * The most a single row's margin contributes to ROW_MARGIN.
+   */
+  public static final int MARGIN_CAP = 8;
+
+  /**
+   * The largest lead for which a row counts as CONTESTED.
+   */
+  public static final int NARROW_LEAD = 3;
+
+  /**
+   * The largest evaluation either way, which keeps evaluations inside the searches' infinite
+   * bounds however large the weights.
+   */
+  public static final int LIMIT = Integer.MAX_VALUE - 1;
+
+  private static final Feature[] FEATURES = Feature.values();
+  private static final int SCORE = Feature.SCORE.ordinal();
+  private static final int ROW_MARGIN = Feature.ROW_MARGIN.ordinal();
+  private static final int CONTESTED = Feature.CONTESTED.ordinal();
+  private static final int MOBILITY = Feature.MOBILITY.ordinal();
+  private static final int HAND_VALUE = Feature.HAND_VALUE.ordinal();
+  private static final int PLAYABLE = Feature.PLAYABLE.ordinal();
+
+  /**
+   * The evaluator that counts the score difference and nothing else.
+   */
+  public static final Evaluator DEFAULT = new Evaluator(1, 0, 0, 0, 0, 0);
+
+  private final int[] weights;
+  private final boolean readsCells;
+
+  /**
+   * Constructs an evaluator with the given weights, one per Feature in declaration order.
+   * @param weights the weights
+   * @throws IllegalArgumentException if weights is null or doesn't have one weight per feature
+   */
+  public Evaluator(int... weights) {
+    if (weights == null || weights.length != FEATURES.length) {
+      throw new IllegalArgumentException("Expected " + FEATURES.length + " weights");
+    }
+    this.weights = weights.clone();
+    this.readsCells = weights[MOBILITY] != 0 || weights[HAND_VALUE] != 0
+            || weights[PLAYABLE] != 0;
+  }
+
+  /**
+   * Returns the weight of a feature.
+   * @param feature the feature
+   * @return its weight
+   */
+  public int getWeight(Feature feature) {
+    return weights[feature.ordinal()];
+  }
+
+  /**
+   * Returns every weight, one per Feature in declaration order.
+   * @return a copy of the weights
+   */
+  public int[] getWeights() {
+    return weights.clone();
+  }
+
+  /**
+   * Returns an evaluator with the same weights as this one except for the given feature.
+   * @param feature the feature to reweigh
+   * @param weight its new weight
+   * @return the new evaluator
+   */
+  public Evaluator withWeight(Feature feature, int weight) {
+    int[] changed = weights.clone();
+    changed[feature.ordinal()] = weight;
+    return new Evaluator(changed);
+  }
+
+  /**
+   * Scores the position of a game from the point of view of the given player. The position
+   * keeps the game's side to move and pass flags, so a finished game counts only its score.
+   * @param model the game
+   * @param forRed true to score for red, false for blue
+   * @return the evaluation
+   * @throws IllegalArgumentException if model is null
+   */
+  public int evaluate(ReadOnlyPawnsBoardModel model, boolean forRed) {
+    if (model == null) {
+      throw new IllegalArgumentException("model cannot be null");
+    }
+    SearchPosition position = new SearchPosition(model.getPosition());
+    int value = evaluate(position);
+    return position.isRedTurn() == forRed ? value : -value;
+  }
+
+  /**
+   * Scores a search position from the point of view of the side to move. The weighted sum is
+   * taken in long and clamped to LIMIT either way, so large weights can't overflow it.
+   * @param position the position
+   * @return the evaluation
+   */
+  int evaluate(SearchPosition position) {
+    int[] redRows = position.rowTotals(true);
+    int[] blueRows = position.rowTotals(false);
+    int score = 0;
+    int margin = 0;
+    int contested = 0;
+    for (int row = 0; row < redRows.length; row++) {
+      int lead = redRows[row] - blueRows[row];
+      score += (lead > 0 ? redRows[row] : 0) - (lead < 0 ? blueRows[row] : 0);
+      margin += Math.max(-MARGIN_CAP, Math.min(MARGIN_CAP, lead));
+      contested += (lead > 0 && lead <= NARROW_LEAD ? 1 : 0)
+              - (lead < 0 && lead >= -NARROW_LEAD ? 1 : 0);
+    }
+    long total = (long) weights[SCORE] * score;
+    if (!position.isGameOver()) {
+      total += (long) weights[ROW_MARGIN] * margin + (long) weights[CONTESTED] * contested;
+      if (readsCells) {
+        total += evaluateCellsAndHands(position);
+      }
+    }
+    int clamped = (int) Math.max(-LIMIT, Math.min(LIMIT, total));
+    return position.isRedTurn() ? clamped : -clamped;
+  }
+
+  /**
+   * Returns the weighted MOBILITY, HAND_VALUE and PLAYABLE features of a position, from red's
+   * point of view.
+   */
+  private long evaluateCellsAndHands(SearchPosition position) {
+    byte[] pawns = position.pawnCounts();
+    boolean[] owners = position.owners();
+    int mobility = 0;
+    int redMost = 0;
+    int blueMost = 0;
+    for (int cell = 0; cell < pawns.length; cell++) {
+      int count = pawns[cell];
+      boolean isRed = owners[cell];
+      mobility += isRed ? count : -count;
+      redMost = Math.max(redMost, isRed ? count : 0);
+      blueMost = Math.max(blueMost, isRed ? 0 : count);
+    }
+    int handValue = 0;
+    int playable = 0;
+    for (int side = 0; side < 2; side++) {
+      boolean isRed = side == 1;
+      long held = position.held(isRed);
+      int[] costs = position.handCosts(isRed);
+      int[] values = position.handValues(isRed);
+      int most = isRed ? redMost : blueMost;
+      int sign = isRed ? 1 : -1;
+      while (held != 0) {
+        int slot = Long.numberOfTrailingZeros(held);
+        held &= held - 1;
+        handValue += sign * values[slot];
+        playable += costs[slot] <= most ? sign * costs[slot] : 0;
+      }
+    }
+    return (long) weights[MOBILITY] * mobility + (long) weights[HAND_VALUE] * handValue
+            + (long) weights[PLAYABLE] * playable;
+  }
+
+  /**
+   * Reads an evaluator from a weights file. Features the file doesn't name have weight 0.
+   * @param filePath the path of the file
+   * @return the evaluator
+   * @throws FileNotFoundException if the file is not found
+   * @throws IllegalArgumentException if a line isn't a known feature and an int weight, or a
+   *     feature is named twice
+   */
+  public static Evaluator readWeightsFile(String filePath) throws FileNotFoundException {
+    int[] weights = new int[FEATURES.length];
+    boolean[] seen = new boolean[FEATURES.length];
+    try (Scanner scanner = new Scanner(new File(filePath))) {
+      int lineNumber = 0;
+      while (scanner.hasNextLine()) {
+        lineNumber++;
+        String line = scanner.nextLine();
+        int comment = line.indexOf('#');
+        if (comment >= 0) {
+          line = line.substring(0, comment);
+        }
+        line = line.trim();
+        if (line.isEmpty()) {
+          continue;
+        }
+        String[] parts = line.split("\\s+");
+        if (parts.length != 2) {
+          throw new IllegalArgumentException("Expected a feature and a weight on line "
+                  + lineNumber);
+        }
+        int feature = Feature.forName(parts[0]).ordinal();
+        if (seen[feature]) {
+          throw new IllegalArgumentException("Feature " + parts[0] + " is weighed twice");
+        }
+        seen[feature] = true;
+        try {
+          weights[feature] = Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+          throw new IllegalArgumentException("Invalid weight on line " + lineNumber);
+        }
+      }
+    }
+    return new Evaluator(weights);
+  }
+
+  /**
+   * Writes the weights of this evaluator to a file that readWeightsFile reads back.
+   * @param filePath the path of the file, which is replaced if it exists
+   * @throws IOException if the file can't be written
+   */
+  public void writeWeightsFile(String filePath) throws IOException {
+    try (Writer writer = new FileWriter(filePath)) {
+      writer.write(toString());
+    }
+  }
+
+  /**
+   * Returns the weights of this evaluator in the format of a weights file.
+   * @return one "feature weight" line per feature
+   */
+  @Override
+  public String toString() {
+    StringBuilder text = new StringBuilder();
+    for (Feature feature : FEATURES) {
+      text.append(feature.getName()).append(' ').append(weights[feature.ordinal()])
+              .append(System.lineSeparator());
+    }
+    return text.toString();
+  }
+}
@@ -2,13 +2,16 @@ package cs3500.pawnsboard.strategy;
 
 import java.util.List;
 
-import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
-import cs3500.pawnsboard.model.ICard;
 import cs3500.pawnsboard.model.IBoard;
+import cs3500.pawnsboard.model.ICard;
 import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.MoveEncoding;
+import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
 
 /**
  * Strategy that selects the first legal move by scanning cards and position.
+ * The legal moves are listed once by the model, and the first card of the hand that can be
+ * placed is played on the first cell it can be placed on, which is the smallest encoded move.
  * the strategy uses a 0-indexed coordinate system with row and column indexes.
  */
 public class FillFirstStrategy implements IStrategy {
@@ -18,16 +21,18 @@ public class FillFirstStrategy implements IStrategy {
     boolean isRed = player.getName().equalsIgnoreCase("red");
 
     List<ICard> hand = model.getPlayerHand(player);
+    int[] moves = MoveBuffers.get(
+            MoveEncoding.bufferSize(hand.size(), board.getRows(), board.getCols()));
+    int count = model.legalMoves(isRed, moves);
+    if (count == 0) {
+      return Move.pass();
+    }
 
-    for (ICard card : hand) {
-      for (int row = 0; row < board.getRows(); row++) {
-        for (int col = 0; col < board.getCols(); col++) {
-          if (model.isMoveLegal(row, col, card, isRed)) {
-            return Move.placementMove(card, row, col);
-          }
-        }
-      }
+    int first = moves[0];
+    for (int i = 1; i < count; i++) {
+      first = Math.min(first, moves[i]);
     }
-    return Move.pass();
+    return Move.placementMove(hand.get(MoveEncoding.cardIndex(first)),
+            MoveEncoding.row(first), MoveEncoding.col(first));
   }
 }
@@ -16,4 +16,13 @@ public interface IStrategy {
    * @return a list of move candidates
    */
   Move chooseMove(ReadOnlyPawnsBoardModel model, IPlayer player);
+
+  /**
+   * Returns how much searching the most recent call to chooseMove did, such as the positions
+   * a tree search visited, for comparing strategies' speed under a time budget.
+   * @return the work count of the last call, or 0 for a strategy that doesn't search
+   */
+  default long getNodesSearched() {
+    return 0;
+  }
 }
@@ -5,12 +5,15 @@ import java.util.List;
 import cs3500.pawnsboard.model.IBoard;
 import cs3500.pawnsboard.model.IPlayer;
 import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.MoveEncoding;
 import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
 
 /**
  * Strategy that tries to win the earliest possible row by outscoring the opponent.
  * The strategy visits the board top down and returns the first move that will
  * allow the player to outscore their opponent on the particular row.
+ * The legal moves are listed once by the model in row order, and each row only looks at its
+ * own moves, taking the first card of the hand that wins the row, on its leftmost cell.
  * This strategy uses a 0-indexed coordinate system with row and column index.
  */
 public class MaximizeRowScoreStrategy implements IStrategy {
@@ -23,23 +26,27 @@ public class MaximizeRowScoreStrategy implements IStrategy {
 
     int rows = board.getRows();
     int cols = board.getCols();
+    int[] moves = MoveBuffers.get(MoveEncoding.bufferSize(hand.size(), rows, cols));
+    int count = model.legalMoves(isRed, moves);
 
+    int next = 0;
     for (int row = 0; row < rows; row++) {
       int playerScore = model.scoreAtRow(row, player);
       int opponentScore = model.scoreAtRow(row, opponent);
 
-      if (playerScore <= opponentScore) {
-        for (ICard card : hand) {
-          for (int col = 0; col < cols; col++) {
-            if (model.isMoveLegal(row, col, card, isRed)) {
-              int newScore = playerScore + card.getValue();
-              if (newScore > opponentScore) {
-                return Move.placementMove(card, row, col);
-              }
-            }
-          }
+      int best = -1;
+      for (; next < count && MoveEncoding.row(moves[next]) == row; next++) {
+        int move = moves[next];
+        int newScore = playerScore + hand.get(MoveEncoding.cardIndex(move)).getValue();
+        if (playerScore <= opponentScore && newScore > opponentScore
+                && (best < 0 || move < best)) {
+          best = move;
         }
       }
+      if (best >= 0) {
+        return Move.placementMove(hand.get(MoveEncoding.cardIndex(best)), row,
+                MoveEncoding.col(best));
+      }
     }
     return Move.pass();
   }
@@ -12,6 +12,8 @@ import cs3500.pawnsboard.model.IBoard;
 import cs3500.pawnsboard.model.ICard;
 import cs3500.pawnsboard.model.ICell;
 import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.MoveEncoding;
+import cs3500.pawnsboard.model.Position;
 import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
 
 
@@ -103,6 +105,24 @@ public class MockModel implements ReadOnlyPawnsBoardModel {
     return legalMoves.contains(validMove(card, x, y, isRed));
   }
 
+  @Override
+  public int legalMoves(boolean redPlayer, int[] buffer) {
+    IPlayer player = redPlayer ? red : blue;
+    log.add("generated legal moves for player " + player.getName());
+    List<ICard> hand = player.getHand();
+    int count = 0;
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        for (int i = 0; i < hand.size(); i++) {
+          if (legalMoves.contains(validMove(hand.get(i), row, col, redPlayer))) {
+            buffer[count++] = MoveEncoding.encode(i, row, col);
+          }
+        }
+      }
+    }
+    return count;
+  }
+
   @Override
   public int scoreAtRow(int row, IPlayer player) {
     log.add("checked scoreAtRow for " + player.getName() + " at row " + row);
@@ -144,9 +164,19 @@ public class MockModel implements ReadOnlyPawnsBoardModel {
       public void placeCard(int row, int col, ICard card, boolean isRed) {
         // mock model doesn't place card
       }
+
+      public void restoreCell(int row, int col, int pawns, boolean isRed) {
+        // mock model doesn't change cells
+      }
     };
   }
 
+  @Override
+  public Position getPosition() {
+    log.add("getPosition");
+    return null;
+  }
+
   @Override
   public IBoard getBoardCopy() {
     return new IBoard() {
@@ -166,6 +196,10 @@ public class MockModel implements ReadOnlyPawnsBoardModel {
       public void placeCard(int row, int col, ICard card, boolean isRed) {
         // mock model doens't place card
       }
+
+      public void restoreCell(int row, int col, int pawns, boolean isRed) {
+        // mock model doesn't change cells
+      }
     };
   }
 
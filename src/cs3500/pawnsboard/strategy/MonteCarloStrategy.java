@@ -0,0 +1,360 @@
+package cs3500.pawnsboard.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.Position;
+import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
+
+/**
+ * Strategy that chooses moves with Monte Carlo Tree Search.
+ * Every iteration walks down a shared search tree with UCT, expands the leaf it reaches, plays
+ * the game out to the end from there, and adds the result to every node on the path. When the
+ * time budget runs out, the most visited move at the root is played.
+ * Iterations run in parallel on a ForkJoinPool, one worker per thread, all growing the same
+ * tree. Visit and win counts are atomic, and a worker walking through a node adds a virtual
+ * loss to it until its playout is back, so workers running at the same time spread over
+ * different lines instead of all following the current best one.
+ * Each worker walks on its own SearchPosition with make and unmake, so playouts allocate
+ * nothing. Playouts never pass while a placement is possible; they pick placements at random,
+ * or, when guided, follow FillFirstStrategy's choice half of the time.
+ */
+public class MonteCarloStrategy implements IStrategy {
+  /**
+   * How playouts choose their moves.
+   */
+  public enum Playout {
+    RANDOM, FILL_FIRST
+  }
+
+  private static final double EXPLORATION = Math.sqrt(2);
+  private static final int VIRTUAL_LOSS = 1;
+
+  private final long budgetMillis;
+  private final ForkJoinPool pool;
+  private final int workers;
+  private final Playout playout;
+  private final SplittableRandom seeds;
+  private final LongAdder playouts;
+
+  /**
+   * Constructs a strategy that searches on every available processor with random playouts.
+   * The strategy makes its own pool, so callers creating several should share one instead.
+   * @param budgetMillis the time allowed for each move in milliseconds
+   * @throws IllegalArgumentException if the budget isn't positive
+   */
+  public MonteCarloStrategy(long budgetMillis) {
+    this(budgetMillis, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructs a strategy that searches with the given number of threads and random playouts.
+   * @param budgetMillis the time allowed for each move in milliseconds
+   * @param threads the number of threads to search with
+   * @throws IllegalArgumentException if the budget or thread count isn't positive
+   */
+  public MonteCarloStrategy(long budgetMillis, int threads) {
+    this(budgetMillis, newPool(threads), threads, Playout.RANDOM, System.nanoTime());
+  }
+
+  /**
+   * Constructs a strategy that runs the given number of workers on the given pool.
+   * @param budgetMillis the time allowed for each move in milliseconds
+   * @param pool the pool to run workers on, which may be shared
+   * @param workers the number of workers to run for each move
+   * @param playout how playouts choose their moves
+   * @param seed the seed of the playouts' random numbers
+   * @throws IllegalArgumentException if the budget or worker count isn't positive, or the
+   *     pool or playout is null
+   */
+  public MonteCarloStrategy(long budgetMillis, ForkJoinPool pool, int workers, Playout playout,
+                            long seed) {
+    if (pool == null || playout == null) {
+      throw new IllegalArgumentException("pool and playout cannot be null");
+    }
+    if (budgetMillis <= 0) {
+      throw new IllegalArgumentException("budget must be positive");
+    }
+    if (workers <= 0) {
+      throw new IllegalArgumentException("workers must be positive");
+    }
+    this.budgetMillis = budgetMillis;
+    this.pool = pool;
+    this.workers = workers;
+    this.playout = playout;
+    this.seeds = new SplittableRandom(seed);
+    this.playouts = new LongAdder();
+  }
+
+  /**
+   * Creates a pool with the given number of threads.
+   * @param threads the number of threads
+   * @return the new pool
+   * @throws IllegalArgumentException if the thread count isn't positive
+   */
+  private static ForkJoinPool newPool(int threads) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("threads must be positive");
+    }
+    return new ForkJoinPool(threads);
+  }
+
+  @Override
+  public Move chooseMove(ReadOnlyPawnsBoardModel model, IPlayer player) {
+    long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+    Position snapshot = model.getPosition();
+    // the game's own side to move and pass flags, so lines through a second pass end there
+    boolean isRed = snapshot.isRedTurn();
+    SearchPosition root = new SearchPosition(snapshot);
+    playouts.reset();
+
+    int[] moves = new int[root.maxMoves()];
+    int count = root.generateMoves(moves);
+    if (count == 1) {
+      return Move.pass();
+    }
+    Node tree = new Node(SearchPosition.PASS, !isRed);
+    tree.expand(root);
+
+    List<Worker> tasks = new ArrayList<>();
+    for (int i = 0; i < workers; i++) {
+      tasks.add(new Worker(tree, new SearchPosition(snapshot), deadline, seeds.split()));
+    }
+    List<Future<Void>> results = new ArrayList<>();
+    for (Worker task : tasks) {
+      results.add(pool.submit(task));
+    }
+    try {
+      for (Future<Void> result : results) {
+        result.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Search failed", e.getCause());
+    }
+    return root.toMove(tree.mostVisited().move);
+  }
+
+  /**
+   * Returns the number of playouts run by the most recent call to chooseMove.
+   * @return the playout count of the last search
+   */
+  public long getPlayouts() {
+    return playouts.sum();
+  }
+
+  /**
+   * Returns the number of playouts run by the most recent call to chooseMove, since each
+   * playout is this search's unit of work.
+   * @return the playout count of the last search
+   */
+  @Override
+  public long getNodesSearched() {
+    return getPlayouts();
+  }
+
+  /**
+   * A node of the search tree, reached by playing its move from its parent.
+   * Wins are counted in half points, two for a win and one for a tie, from the point of view of
+   * the player who made the move.
+   */
+  private static final class Node {
+    private final int move;
+    private final boolean redMoved;
+    private final AtomicLong visits;
+    private final AtomicLong wins;
+    private volatile Node[] children;
+
+    /**
+     * Constructs an unvisited node.
+     * @param move the encoded move leading to this node
+     * @param redMoved true if red made the move, false otherwise
+     */
+    Node(int move, boolean redMoved) {
+      this.move = move;
+      this.redMoved = redMoved;
+      this.visits = new AtomicLong();
+      this.wins = new AtomicLong();
+    }
+
+    /**
+     * Creates a child for every legal move of the given position, unless another worker
+     * already did.
+     * @param position the position at this node
+     */
+    void expand(SearchPosition position) {
+      synchronized (this) {
+        if (children != null) {
+          return;
+        }
+        int[] moves = new int[position.maxMoves()];
+        int count = position.generateMoves(moves);
+        Node[] created = new Node[count];
+        for (int i = 0; i < count; i++) {
+          created[i] = new Node(moves[i], position.isRedTurn());
+        }
+        children = created;
+      }
+    }
+
+    /**
+     * Chooses the child to walk through with UCT. Unvisited children come first, and children
+     * other workers are walking through count their virtual losses.
+     * @return the selected child
+     */
+    Node select() {
+      Node[] options = children;
+      double logVisits = Math.log(Math.max(1, visits.get()));
+      Node best = options[0];
+      double bestValue = Double.NEGATIVE_INFINITY;
+      for (Node child : options) {
+        long n = child.visits.get();
+        if (n == 0) {
+          return child;
+        }
+        double value = child.wins.get() / (2.0 * n) + EXPLORATION * Math.sqrt(logVisits / n);
+        if (value > bestValue) {
+          bestValue = value;
+          best = child;
+        }
+      }
+      return best;
+    }
+
+    /**
+     * Returns the child that was visited the most.
+     * @return the most visited child
+     */
+    Node mostVisited() {
+      Node best = children[0];
+      for (Node child : children) {
+        if (child.visits.get() > best.visits.get()) {
+          best = child;
+        }
+      }
+      return best;
+    }
+  }
+
+  /**
+   * Runs iterations on the shared tree until the deadline passes.
+   */
+  private final class Worker implements Callable<Void> {
+    private final Node root;
+    private final SearchPosition position;
+    private final long deadline;
+    private final SplittableRandom random;
+    private final Node[] path;
+    private final int[] moves;
+
+    /**
+     * Constructs a worker.
+     * @param root the root of the shared tree
+     * @param position this worker's copy of the root position
+     * @param deadline the System.nanoTime() at which to stop
+     * @param random this worker's random numbers
+     */
+    Worker(Node root, SearchPosition position, long deadline, SplittableRandom random) {
+      this.root = root;
+      this.position = position;
+      this.deadline = deadline;
+      this.random = random;
+      this.path = new Node[position.maxMoves() * 2 + 2];
+      this.moves = new int[position.maxMoves()];
+    }
+
+    @Override
+    public Void call() {
+      do {
+        iterate();
+        playouts.increment();
+      } while (System.nanoTime() < deadline);
+      return null;
+    }
+
+    /**
+     * Runs one selection, expansion, playout and backup, leaving the position at the root.
+     */
+    private void iterate() {
+      int depth = 0;
+      Node node = root;
+      path[depth++] = node;
+      node.visits.addAndGet(VIRTUAL_LOSS);
+      while (node.children != null && !position.isGameOver()) {
+        node = node.select();
+        node.visits.addAndGet(VIRTUAL_LOSS);
+        position.make(node.move);
+        path[depth++] = node;
+      }
+      if (!position.isGameOver() && node.visits.get() > VIRTUAL_LOSS) {
+        node.expand(position);
+        node = node.select();
+        node.visits.addAndGet(VIRTUAL_LOSS);
+        position.make(node.move);
+        path[depth++] = node;
+      }
+
+      int played = playOut();
+      int red = position.score(true);
+      int blue = position.score(false);
+      for (int i = 0; i < played + depth - 1; i++) {
+        position.unmake();
+      }
+
+      for (int i = 0; i < depth; i++) {
+        Node visited = path[i];
+        int difference = visited.redMoved ? red - blue : blue - red;
+        visited.wins.addAndGet(difference > 0 ? 2 : difference == 0 ? 1 : 0);
+        visited.visits.addAndGet(1 - VIRTUAL_LOSS);
+      }
+    }
+
+    /**
+     * Plays the position out to the end of the game.
+     * @return the number of moves made
+     */
+    private int playOut() {
+      int played = 0;
+      while (!position.isGameOver()) {
+        int count = position.generateMoves(moves);
+        int move;
+        if (count == 1) {
+          move = SearchPosition.PASS;
+        }
+        else if (playout == Playout.FILL_FIRST && random.nextBoolean()) {
+          move = fillFirst(count);
+        }
+        else {
+          move = moves[random.nextInt(count - 1)];
+        }
+        position.make(move);
+        played++;
+      }
+      return played;
+    }
+
+    /**
+     * Returns the placement FillFirstStrategy would choose: the first card of the hand that
+     * can be placed, on the first cell it can be placed on. Slots follow hand order and cells
+     * scan order, so that is the smallest encoded placement.
+     * @param count the number of generated moves, the last of which is a pass
+     * @return the encoded placement
+     */
+    private int fillFirst(int count) {
+      int first = moves[0];
+      for (int i = 1; i < count - 1; i++) {
+        first = Math.min(first, moves[i]);
+      }
+      return first;
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package cs3500.pawnsboard.strategy;
+
+/**
+ * Per-thread move buffers for strategies that list legal moves with
+ * ReadOnlyPawnsBoardModel.legalMoves. A strategy may be shared by games on several threads,
+ * so each thread reuses its own buffer, grown to the largest size it has needed.
+ */
+final class MoveBuffers {
+  private static final ThreadLocal<int[]> BUFFER = ThreadLocal.withInitial(() -> new int[256]);
+
+  private MoveBuffers() {
+  }
+
+  /**
+   * Returns this thread's buffer, with room for at least the given number of moves.
+   * @param size the number of moves the buffer must hold
+   * @return the buffer
+   */
+  static int[] get(int size) {
+    int[] buffer = BUFFER.get();
+    if (buffer.length < size) {
+      buffer = new int[Math.max(size, buffer.length * 2)];
+      BUFFER.set(buffer);
+    }
+    return buffer;
+  }
+}
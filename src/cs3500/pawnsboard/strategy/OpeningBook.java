@@ -0,0 +1,264 @@
+package cs3500.pawnsboard.strategy;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.MoveEncoding;
+import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
+
+/**
+ * A precomputed table of the move to play in opening positions of one board size, built by
+ * OpeningBookBuilder.
+ * Positions are keyed by the Zobrist key of their SearchPosition, which covers the board, both
+ * hands, the side to move and both players' pass flags, and moves are stored as MoveEncoding
+ * ints. Keys are held in one sorted long array and moves in a parallel int array, so a lookup
+ * is a binary search with no allocation.
+ * Keys are hashes, so probe still checks a book placement is legal in the model before
+ * returning it.
+ * The file format, with every number big-endian:
+ *  * the magic number MAGIC, the format VERSION, the board's rows and columns and the number
+ *    of entries, as ints
+ *  * for every entry in increasing key order, the key as a long and the encoded move as an int
+ */
+public final class OpeningBook {
+  /**
+   * The first four bytes of every book file, "PBBK".
+   */
+  public static final int MAGIC = 0x5042424B;
+
+  /**
+   * The version of the format written by this class.
+   */
+  public static final int VERSION = 1;
+
+  /**
+   * The value lookup returns for a position that isn't in the book.
+   */
+  public static final int NOT_FOUND = Integer.MIN_VALUE;
+
+  private static final int HEADER_BYTES = 5 * Integer.BYTES;
+  private static final int ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+
+  private final int rows;
+  private final int cols;
+  private final long[] keys;
+  private final int[] moves;
+
+  /**
+   * Constructs a book from positions' keys and their moves.
+   * @param rows the number of rows of the board the book is for
+   * @param cols the number of columns of the board the book is for
+   * @param entries the encoded move for each position key
+   * @throws IllegalArgumentException if the board dimensions aren't positive or entries is
+   *     null
+   */
+  public OpeningBook(int rows, int cols, SortedMap<Long, Integer> entries) {
+    if (entries == null) {
+      throw new IllegalArgumentException("entries cannot be null");
+    }
+    if (rows <= 0 || cols <= 0) {
+      throw new IllegalArgumentException("Invalid board dimensions");
+    }
+    this.rows = rows;
+    this.cols = cols;
+    this.keys = new long[entries.size()];
+    this.moves = new int[entries.size()];
+    int i = 0;
+    for (Map.Entry<Long, Integer> entry : entries.entrySet()) {
+      keys[i] = entry.getKey();
+      moves[i] = entry.getValue();
+      i++;
+    }
+  }
+
+  private OpeningBook(int rows, int cols, long[] keys, int[] moves) {
+    if (rows <= 0 || cols <= 0) {
+      throw new IllegalArgumentException("Invalid board dimensions");
+    }
+    this.rows = rows;
+    this.cols = cols;
+    this.keys = keys;
+    this.moves = moves;
+  }
+
+  /**
+   * Returns the key a position is stored under: the Zobrist key of the game's position with
+   * the current player to move and both players' pass flags, so a position where a player
+   * has just passed never shares an entry with the same board where nobody has.
+   * @param model the game
+   * @return the key
+   */
+  public static long key(ReadOnlyPawnsBoardModel model) {
+    return new SearchPosition(model.getPosition()).key();
+  }
+
+  /**
+   * Returns the number of rows of the board this book is for.
+   * @return the row count
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Returns the number of columns of the board this book is for.
+   * @return the column count
+   */
+  public int getCols() {
+    return cols;
+  }
+
+  /**
+   * Returns the number of positions in this book.
+   * @return the entry count
+   */
+  public int size() {
+    return keys.length;
+  }
+
+  /**
+   * Returns the encoded move stored for a position key.
+   * @param key the position's key
+   * @return the MoveEncoding of the move, MoveEncoding.PASS, or NOT_FOUND
+   */
+  public int lookup(long key) {
+    int index = Arrays.binarySearch(keys, key);
+    return index >= 0 ? moves[index] : NOT_FOUND;
+  }
+
+  /**
+   * Returns the book move of the player to move in a game, if the position is in the book and
+   * the move is legal there.
+   * @param model the game
+   * @param player the player to move
+   * @return the move, or null if the game is out of book
+   */
+  public Move probe(ReadOnlyPawnsBoardModel model, IPlayer player) {
+    if (model.getBoard().getRows() != rows || model.getBoard().getCols() != cols
+            || keys.length == 0) {
+      return null;
+    }
+    int move = lookup(key(model));
+    if (move == NOT_FOUND) {
+      return null;
+    }
+    if (move == MoveEncoding.PASS) {
+      return Move.pass();
+    }
+    List<ICard> hand = model.getPlayerHand(player);
+    int index = MoveEncoding.cardIndex(move);
+    if (index >= hand.size()) {
+      return null;
+    }
+    ICard card = hand.get(index);
+    int row = MoveEncoding.row(move);
+    int col = MoveEncoding.col(move);
+    if (!model.isMoveLegal(row, col, card, model.isRedTurn())) {
+      return null;
+    }
+    return Move.placementMove(card, row, col);
+  }
+
+  /**
+   * Writes this book to a file.
+   * @param filePath the path of the file, which is replaced if it exists
+   * @throws IOException if the file can't be written
+   */
+  public void writeBookFile(String filePath) throws IOException {
+    try (OutputStream out = Files.newOutputStream(Path.of(filePath))) {
+      write(out);
+    }
+  }
+
+  /**
+   * Writes this book in the book file format.
+   * @param out the stream to write to, which is flushed but not closed
+   * @throws IOException if the stream can't be written
+   */
+  public void write(OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(rows);
+    data.writeInt(cols);
+    data.writeInt(keys.length);
+    for (int i = 0; i < keys.length; i++) {
+      data.writeLong(keys[i]);
+      data.writeInt(moves[i]);
+    }
+    data.flush();
+  }
+
+  /**
+   * Reads a book file by mapping it into memory.
+   * @param filePath the path of the file
+   * @return the book
+   * @throws IOException if the file can't be opened or mapped
+   * @throws IllegalArgumentException if the file isn't a valid book
+   */
+  public static OpeningBook readBookFile(String filePath) throws IOException {
+    try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Invalid opening book: file too large");
+      }
+      return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Reads a book in the book file format from the buffer's position to its limit.
+   * @param buffer the book, which is read in big-endian order
+   * @return the book
+   * @throws IllegalArgumentException if the buffer doesn't hold exactly one valid book
+   */
+  public static OpeningBook read(ByteBuffer buffer) {
+    try {
+      if (buffer.getInt() != MAGIC) {
+        throw new IllegalArgumentException("Invalid opening book: bad magic number");
+      }
+      int version = buffer.getInt();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("Invalid opening book: unsupported version "
+                + version);
+      }
+      int rows = buffer.getInt();
+      int cols = buffer.getInt();
+      int count = buffer.getInt();
+      if (count < 0 || (long) count * ENTRY_BYTES != buffer.remaining()) {
+        throw new IllegalArgumentException("Invalid opening book: wrong entry count");
+      }
+      long[] keys = new long[count];
+      int[] moves = new int[count];
+      for (int i = 0; i < count; i++) {
+        keys[i] = buffer.getLong();
+        moves[i] = buffer.getInt();
+        if (i > 0 && keys[i] <= keys[i - 1]) {
+          throw new IllegalArgumentException("Invalid opening book: keys out of order");
+        }
+      }
+      return new OpeningBook(rows, cols, keys, moves);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Invalid opening book: truncated");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "OpeningBook " + rows + "x" + cols + " with " + keys.length + " positions ("
+            + (HEADER_BYTES + (long) keys.length * ENTRY_BYTES) + " bytes)";
+  }
+}
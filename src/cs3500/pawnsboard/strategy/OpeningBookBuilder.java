@@ -0,0 +1,164 @@
+package cs3500.pawnsboard.strategy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.MoveEncoding;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
+import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModelImpl;
+
+/**
+ * Builds an OpeningBook offline for one deck order and board size.
+ * Starting from the position after startGame, with both decks in file order as the game deals
+ * them, every position within the given number of plies that the book reaches is searched with
+ * a slow, strong strategy, whose move is stored. The lines followed from each position are
+ * that move and the moves a set of cheaper reply strategies would play there, so the book
+ * covers the openings the game's own strategies actually lead to rather than every legal
+ * line, passes included. Moves are tried and taken back on one model with makeMove and
+ * unmakeMove, and a position reached again through another move order is searched only once.
+ */
+public final class OpeningBookBuilder {
+  private final List<ICard> redDeck;
+  private final List<ICard> blueDeck;
+  private final int rows;
+  private final int cols;
+  private final int handSize;
+
+  /**
+   * Constructs a builder for games on boards of the given size with the given decks.
+   * @param redDeck red's cards, in the order they are dealt
+   * @param blueDeck blue's cards, in the order they are dealt
+   * @param rows the number of rows of the board
+   * @param cols the number of columns of the board
+   * @param handSize the number of cards each player starts with
+   * @throws IllegalArgumentException if a deck is null, the board dimensions are invalid or
+   *     the hand size isn't positive
+   */
+  public OpeningBookBuilder(List<ICard> redDeck, List<ICard> blueDeck, int rows, int cols,
+                            int handSize) {
+    if (redDeck == null || blueDeck == null) {
+      throw new IllegalArgumentException("decks cannot be null");
+    }
+    if (rows <= 0 || cols <= 1 || cols % 2 == 0) {
+      throw new IllegalArgumentException("Invalid board dimensions");
+    }
+    if (handSize <= 0) {
+      throw new IllegalArgumentException("hand size must be positive");
+    }
+    this.redDeck = new ArrayList<>(redDeck);
+    this.blueDeck = new ArrayList<>(blueDeck);
+    this.rows = rows;
+    this.cols = cols;
+    this.handSize = handSize;
+  }
+
+  /**
+   * Builds a book of the positions within the given number of plies of the start.
+   * @param plies the number of moves from the start to store moves for
+   * @param search the strategy whose moves are stored
+   * @param replies the strategies whose moves are followed besides the stored move
+   * @return the book
+   * @throws IllegalArgumentException if plies is negative, or search or replies is null
+   */
+  public OpeningBook build(int plies, IStrategy search, List<IStrategy> replies) {
+    if (plies < 0) {
+      throw new IllegalArgumentException("plies cannot be negative");
+    }
+    if (search == null || replies == null) {
+      throw new IllegalArgumentException("strategies cannot be null");
+    }
+    IPlayer red = new HumanPlayer("Red", new Deck(redDeck), handSize);
+    IPlayer blue = new HumanPlayer("Blue", new Deck(blueDeck), handSize);
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(new Board(rows, cols), red, blue,
+            handSize);
+    model.startGame();
+    SortedMap<Long, Integer> entries = new TreeMap<>();
+    expand(model, new ReadOnlyPawnsBoardModelImpl(model), plies, search, replies, entries);
+    return new OpeningBook(rows, cols, entries);
+  }
+
+  /**
+   * Stores the search's move for the model's position and follows the lines from it.
+   */
+  private void expand(PawnsBoardModelImpl model, ReadOnlyPawnsBoardModel view, int plies,
+                      IStrategy search, List<IStrategy> replies,
+                      SortedMap<Long, Integer> entries) {
+    if (plies == 0 || model.isGameOver()) {
+      return;
+    }
+    long key = OpeningBook.key(model);
+    if (entries.containsKey(key)) {
+      return;
+    }
+    IPlayer player = model.isRedTurn() ? model.getRedPlayer() : model.getBluePlayer();
+    int best = encode(search.chooseMove(view, player), player);
+    entries.put(key, best);
+
+    List<Integer> lines = new ArrayList<>();
+    lines.add(best);
+    for (IStrategy reply : replies) {
+      int move = encode(reply.chooseMove(view, player), player);
+      if (!lines.contains(move)) {
+        lines.add(move);
+      }
+    }
+    for (int move : lines) {
+      model.makeMove(move);
+      expand(model, view, plies - 1, search, replies, entries);
+      model.unmakeMove();
+    }
+  }
+
+  private static int encode(Move move, IPlayer player) {
+    if (move.isPass()) {
+      return MoveEncoding.PASS;
+    }
+    return MoveEncoding.encode(player.indexOfCard(move.getCard()), move.getRow(),
+            move.getCol());
+  }
+
+  /**
+   * Builds a book file from the command line, searching each position with alpha-beta and
+   * following the fill first and maximize row score strategies' replies.
+   * Usage: deckPath bookPath [plies rows cols handSize budgetMillis].
+   * By default the book covers 4 plies on a 5x7 board with hands of 5, searching each
+   * position for 2 seconds.
+   * @param args inputs
+   */
+  public static void main(String[] args) {
+    if (args.length < 2) {
+      System.out.println("Usage: deckPath bookPath [plies rows cols handSize budgetMillis]");
+      return;
+    }
+    try {
+      List<ICard>[] decks = DeckReader.readDeckFile(args[0]);
+      int plies = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+      int rows = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+      int cols = args.length > 4 ? Integer.parseInt(args[4]) : 7;
+      int handSize = args.length > 5 ? Integer.parseInt(args[5]) : 5;
+      long budget = args.length > 6 ? Long.parseLong(args[6]) : 2000;
+
+      OpeningBook book = new OpeningBookBuilder(decks[0], decks[1], rows, cols, handSize)
+              .build(plies, new AlphaBetaStrategy(budget),
+                      List.of(new FillFirstStrategy(), new MaximizeRowScoreStrategy()));
+      book.writeBookFile(args[1]);
+      System.out.println(book);
+    } catch (IOException e) {
+      System.out.println("Could not build book: " + e.getMessage());
+    } catch (NumberFormatException e) {
+      System.out.println("Invalid number: " + e.getMessage());
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      System.out.println(e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package cs3500.pawnsboard.strategy;
+
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
+
+/**
+ * Strategy that plays the move an OpeningBook stores for the current position, and asks
+ * another strategy once the game is out of book.
+ * A book move costs one key computation and a binary search, so book positions are answered
+ * instantly instead of searched again every game.
+ */
+public class OpeningBookStrategy implements IStrategy {
+  private final OpeningBook book;
+  private final IStrategy fallback;
+  private boolean lastFromBook;
+
+  /**
+   * Constructs a strategy that plays from the given book before the given strategy.
+   * @param book the opening book
+   * @param fallback the strategy that moves in positions outside the book
+   * @throws IllegalArgumentException if book or fallback is null
+   */
+  public OpeningBookStrategy(OpeningBook book, IStrategy fallback) {
+    if (book == null || fallback == null) {
+      throw new IllegalArgumentException("book and fallback cannot be null");
+    }
+    this.book = book;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public Move chooseMove(ReadOnlyPawnsBoardModel model, IPlayer player) {
+    Move move = book.probe(model, player);
+    lastFromBook = move != null;
+    return lastFromBook ? move : fallback.chooseMove(model, player);
+  }
+
+  /**
+   * Returns whether the last move chosen came from the book.
+   * @return true if it was a book move
+   */
+  public boolean isLastMoveFromBook() {
+    return lastFromBook;
+  }
+
+  @Override
+  public long getNodesSearched() {
+    return lastFromBook ? 0 : fallback.getNodesSearched();
+  }
+}
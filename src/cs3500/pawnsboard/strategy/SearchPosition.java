@@ -0,0 +1,603 @@
+package cs3500.pawnsboard.strategy;
+
+import java.util.Arrays;
+
+import cs3500.pawnsboard.model.CardRegistry;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.InfluenceGrid;
+import cs3500.pawnsboard.model.Position;
+import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModel;
+
+/**
+ * A lightweight, mutable copy of a Pawns Board position used by search based strategies.
+ * The board is held in flat primitive arrays indexed by row * cols + col, and both hands are
+ * fixed arrays of cards with a bitmask of the cards still held.
+ * Moves are applied with make methods and reverted with unmake, which records every changed
+ * cell on a primitive undo stack, so a search walks the whole tree on one position without
+ * allocating.
+ * Moves are encoded as ints: a placement is (hand slot shifted left by SLOT_SHIFT) | cell
+ * index, and PASS represents a pass.
+ * Every position carries a Zobrist key that make and unmake keep up to date, so equal
+ * positions reached through different move orders can be recognised in a TranspositionTable.
+ * By default cards drawn after a placement are not modelled: the search only sees the hands
+ * the players hold at the root, and neither player has passed. An exact position also takes
+ * the pass flags and the cards left in each deck from the game, and every placement draws the
+ * next card into the hand slot after the last one drawn, as the game does.
+ * This position uses a 0-indexed coordinate system with row and column indexes.
+ */
+final class SearchPosition {
+  static final int PASS = -1;
+  static final int SLOT_SHIFT = 20;
+  private static final int CELL_MASK = (1 << SLOT_SHIFT) - 1;
+
+  private final int rows;
+  private final int cols;
+  private final byte[] pawns;
+  private final boolean[] red;
+  private final int[] value;
+  private final long[] placed;
+  private final int[] redRows;
+  private final int[] blueRows;
+
+  private final ICard[][] hands;
+  private final int[][] costs;
+  private final int[][] values;
+  private final int[][][] offsets;
+  private final long[][] cardKeys;
+  private final long[] held;
+  private final int[] deckStart;
+  private final int[] drawn;
+
+  private boolean redTurn;
+  private boolean redPassed;
+  private boolean bluePassed;
+
+  private int[] undo;
+  private int undoSize;
+  private long key;
+  private long[] history;
+  private int moves;
+
+  /**
+   * Copies the position of the given model, with the given side to move.
+   * @param model the model to copy
+   * @param redToMove true if red moves first in this position, false otherwise
+   * @throws IllegalArgumentException if a hand holds more than 64 cards or the board has
+   *     more cells than a move can encode
+   */
+  SearchPosition(ReadOnlyPawnsBoardModel model, boolean redToMove) {
+    this(model.getPosition(), redToMove);
+  }
+
+  /**
+   * Copies a position snapshot, with the given side to move.
+   * This reads every cell of the snapshot once, and never touches the model, so any number
+   * of search positions can be built from one snapshot.
+   * @param position the snapshot to copy
+   * @param redToMove true if red moves first in this position, false otherwise
+   * @throws IllegalArgumentException if a hand holds more than 64 cards or the board has
+   *     more cells than a move can encode
+   */
+  SearchPosition(Position position, boolean redToMove) {
+    this(position, redToMove, false, false, new ICard[0], new ICard[0]);
+  }
+
+  /**
+   * Copies a position snapshot with its own side to move and pass flags, but not the decks.
+   * @param position the snapshot to copy
+   * @throws IllegalArgumentException if a hand holds more than 64 cards or the board has
+   *     more cells than a move can encode
+   */
+  SearchPosition(Position position) {
+    this(position, position.isRedTurn(), position.hasRedPassed(), position.hasBluePassed(),
+            new ICard[0], new ICard[0]);
+  }
+
+  /**
+   * Copies the exact position of a game: its side to move and pass flags, and the cards left
+   * in both players' decks, which placements draw in order.
+   * @param model the model to copy
+   * @return the position
+   * @throws IllegalArgumentException if a hand and deck together hold more than 64 cards or
+   *     the board has more cells than a move can encode
+   */
+  static SearchPosition exact(ReadOnlyPawnsBoardModel model) {
+    Position position = model.getPosition();
+    return new SearchPosition(position, position.isRedTurn(), position.hasRedPassed(),
+            position.hasBluePassed(), deckCards(model.getRedPlayer().getDeck()),
+            deckCards(model.getBluePlayer().getDeck()));
+  }
+
+  private static ICard[] deckCards(Deck deck) {
+    ICard[] cards = new ICard[deck.size()];
+    for (int i = 0; i < cards.length; i++) {
+      cards[i] = deck.peek(i);
+    }
+    return cards;
+  }
+
+  /**
+   * Copies a position snapshot with the given side to move, pass flags and cards left to draw.
+   * @param position the snapshot to copy
+   * @param redToMove true if red moves first in this position, false otherwise
+   * @param redPassed true if red's last move was a pass
+   * @param bluePassed true if blue's last move was a pass
+   * @param redDeck the cards red draws, in order
+   * @param blueDeck the cards blue draws, in order
+   * @throws IllegalArgumentException if a hand and deck together hold more than 64 cards or
+   *     the board has more cells than a move can encode
+   */
+  private SearchPosition(Position position, boolean redToMove, boolean redPassed,
+                         boolean bluePassed, ICard[] redDeck, ICard[] blueDeck) {
+    this.rows = position.getRows();
+    this.cols = position.getCols();
+    if (rows * cols > CELL_MASK) {
+      throw new IllegalArgumentException("Board too large to search");
+    }
+    this.pawns = new byte[rows * cols];
+    this.red = new boolean[rows * cols];
+    this.value = new int[rows * cols];
+    this.placed = new long[rows * cols];
+    this.redRows = new int[rows];
+    this.blueRows = new int[rows];
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        int index = row * cols + col;
+        pawns[index] = (byte) position.getPawnCount(row, col);
+        red[index] = position.isOwnedByRed(row, col);
+        if (position.hasCard(row, col)) {
+          ICard card = position.getCard(row, col);
+          value[index] = card.getValue();
+          placed[index] = Zobrist.card(card);
+          if (red[index]) {
+            redRows[row] += card.getValue();
+          }
+          else {
+            blueRows[row] += card.getValue();
+          }
+        }
+      }
+    }
+
+    this.hands = new ICard[2][];
+    this.costs = new int[2][];
+    this.values = new int[2][];
+    this.offsets = new int[2][][];
+    this.cardKeys = new long[2][];
+    this.held = new long[2];
+    this.deckStart = new int[2];
+    this.drawn = new int[2];
+    loadHand(0, position, false, blueDeck);
+    loadHand(1, position, true, redDeck);
+
+    this.redTurn = redToMove;
+    this.redPassed = redPassed;
+    this.bluePassed = bluePassed;
+    this.undo = new int[64];
+    this.undoSize = 0;
+    this.key = computeKey();
+    this.history = new long[16];
+    this.moves = 0;
+  }
+
+  /**
+   * Copies a player's hand from a snapshot, followed by the cards they will draw, into the
+   * given side's arrays.
+   * @param side 1 for red, 0 for blue
+   * @param position the snapshot
+   * @param isRed true to copy red's hand, false for blue's
+   * @param deck the cards the player draws, in order
+   */
+  private void loadHand(int side, Position position, boolean isRed, ICard[] deck) {
+    int size = position.getHandSize(isRed);
+    int slots = size + deck.length;
+    if (slots > 64) {
+      throw new IllegalArgumentException("Hand too large to search");
+    }
+    hands[side] = new ICard[slots];
+    costs[side] = new int[slots];
+    values[side] = new int[slots];
+    offsets[side] = new int[slots][];
+    cardKeys[side] = new long[slots];
+    for (int slot = 0; slot < slots; slot++) {
+      ICard card = slot < size
+              ? CardRegistry.global().card(position.getHandCardId(isRed, slot))
+              : deck[slot - size];
+      hands[side][slot] = card;
+      costs[side][slot] = card.getCost();
+      values[side][slot] = card.getValue();
+      offsets[side][slot] = influenceOffsets(card.getInfluenceGrid());
+      cardKeys[side][slot] = Zobrist.card(card);
+    }
+    held[side] = size == 64 ? -1L : (1L << size) - 1;
+    deckStart[side] = size;
+  }
+
+  /**
+   * Lists the influenced offsets of a grid as consecutive (row offset, column offset) pairs.
+   * @param grid the influence grid
+   * @return the offsets relative to the card's position
+   */
+  private static int[] influenceOffsets(InfluenceGrid grid) {
+    int[] pairs = new int[grid.getInfluenceCount() * 2];
+    for (int i = 0; i < grid.getInfluenceCount(); i++) {
+      pairs[i * 2] = grid.getRowOffset(i);
+      pairs[i * 2 + 1] = grid.getColOffset(i);
+    }
+    return pairs;
+  }
+
+  /**
+   * Returns the largest number of moves generateMoves can produce for this position.
+   * @return the size a move buffer needs
+   */
+  int maxMoves() {
+    return rows * cols * Math.max(hands[0].length, hands[1].length) + 1;
+  }
+
+  /**
+   * Returns whether it is red's turn in this position.
+   * @return true if red moves next
+   */
+  boolean isRedTurn() {
+    return redTurn;
+  }
+
+  /**
+   * Returns the Zobrist key of this position.
+   * @return the position's key
+   */
+  long key() {
+    return key;
+  }
+
+  /**
+   * Computes the Zobrist key of this position from scratch.
+   * make and unmake maintain the key incrementally, and must always agree with this.
+   * @return the position's key
+   */
+  long computeKey() {
+    long result = redTurn ? Zobrist.RED_TO_MOVE : 0;
+    if (redPassed) {
+      result ^= Zobrist.RED_PASSED;
+    }
+    if (bluePassed) {
+      result ^= Zobrist.BLUE_PASSED;
+    }
+    for (int cell = 0; cell < pawns.length; cell++) {
+      if (value[cell] != 0) {
+        result ^= Zobrist.placed(cell, red[cell], placed[cell]);
+      }
+      else {
+        result ^= Zobrist.pawns(cell, red[cell], pawns[cell]);
+      }
+    }
+    for (int side = 0; side < 2; side++) {
+      for (long rest = held[side]; rest != 0; rest &= rest - 1) {
+        int slot = Long.numberOfTrailingZeros(rest);
+        result ^= Zobrist.held(side == 1, slot, cardKeys[side][slot]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns whether both players have passed consecutively, which ends the game.
+   * @return true if the game is over
+   */
+  boolean isGameOver() {
+    return redPassed && bluePassed;
+  }
+
+  /**
+   * Writes every legal move for the side to move into the buffer: all placements, followed by
+   * a pass. Cells without pawns owned by the side to move are skipped without looking at the
+   * hand.
+   * @param buffer the buffer to fill, at least maxMoves() long
+   * @return the number of moves written
+   */
+  int generateMoves(int[] buffer) {
+    int side = redTurn ? 1 : 0;
+    long hand = held[side];
+    int[] cost = costs[side];
+    int count = 0;
+    for (int index = 0; index < pawns.length; index++) {
+      int available = pawns[index];
+      if (available == 0 || red[index] != redTurn) {
+        continue;
+      }
+      for (long rest = hand; rest != 0; rest &= rest - 1) {
+        int slot = Long.numberOfTrailingZeros(rest);
+        if (cost[slot] <= available) {
+          buffer[count++] = (slot << SLOT_SHIFT) | index;
+        }
+      }
+    }
+    buffer[count++] = PASS;
+    return count;
+  }
+
+  /**
+   * Counts the placements a player could make in this position, whether or not it is their
+   * turn.
+   * @param isRed true to count red's placements, false for blue's
+   * @return the number of legal placements
+   */
+  int countPlacements(boolean isRed) {
+    int side = isRed ? 1 : 0;
+    long hand = held[side];
+    int[] cost = costs[side];
+    int count = 0;
+    for (int index = 0; index < pawns.length; index++) {
+      int available = pawns[index];
+      if (available == 0 || red[index] != isRed) {
+        continue;
+      }
+      for (long rest = hand; rest != 0; rest &= rest - 1) {
+        if (cost[Long.numberOfTrailingZeros(rest)] <= available) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Applies a move produced by generateMoves.
+   * @param move the encoded move
+   */
+  void make(int move) {
+    if (moves == history.length) {
+      history = Arrays.copyOf(history, moves * 2);
+    }
+    history[moves++] = key;
+    if (move == PASS) {
+      makePass();
+    }
+    else {
+      makePlacement(move >>> SLOT_SHIFT, move & CELL_MASK);
+    }
+  }
+
+  /**
+   * Places the card in the given hand slot of the side to move at the given cell, then
+   * applies its influence.
+   * @param slot the hand slot of the card
+   * @param cell the cell index
+   */
+  private void makePlacement(int slot, int cell) {
+    int side = redTurn ? 1 : 0;
+    int start = undoSize;
+    ensureUndo(28);
+    push(cell);
+    long cardKey = cardKeys[side][slot];
+    key ^= Zobrist.pawns(cell, red[cell], pawns[cell])
+            ^ Zobrist.placed(cell, redTurn, cardKey)
+            ^ Zobrist.held(redTurn, slot, cardKey);
+    pawns[cell] = 0;
+    red[cell] = redTurn;
+    value[cell] = values[side][slot];
+    placed[cell] = cardKey;
+    addRowScore(cell / cols, redTurn, values[side][slot]);
+
+    int row = cell / cols;
+    int col = cell - row * cols;
+    int[] pairs = offsets[side][slot];
+    for (int i = 0; i < pairs.length; i += 2) {
+      int targetRow = row + pairs[i];
+      int targetCol = col + pairs[i + 1];
+      if (targetRow < 0 || targetRow >= rows || targetCol < 0 || targetCol >= cols) {
+        continue;
+      }
+      int target = targetRow * cols + targetCol;
+      if (value[target] != 0) {
+        continue;
+      }
+      push(target);
+      key ^= Zobrist.pawns(target, red[target], pawns[target]);
+      if (pawns[target] > 0 && red[target] != redTurn) {
+        red[target] = redTurn;
+      }
+      else {
+        pawns[target] = (byte) Math.min(pawns[target] + 1, 3);
+        red[target] = redTurn;
+      }
+      key ^= Zobrist.pawns(target, redTurn, pawns[target]);
+    }
+    held[side] &= ~(1L << slot);
+    int next = deckStart[side] + drawn[side];
+    boolean draws = next < hands[side].length;
+    if (draws) {
+      held[side] |= 1L << next;
+      drawn[side]++;
+      key ^= Zobrist.held(redTurn, next, cardKeys[side][next]);
+    }
+    boolean passed = redTurn ? redPassed : bluePassed;
+    int cells = undoSize - start;
+    undo[undoSize++] = (cells << 9) | (draws ? 256 : 0) | (slot << 2) | (passed ? 2 : 0) | 1;
+    if (passed) {
+      key ^= redTurn ? Zobrist.RED_PASSED : Zobrist.BLUE_PASSED;
+    }
+    if (redTurn) {
+      redPassed = false;
+    }
+    else {
+      bluePassed = false;
+    }
+    redTurn = !redTurn;
+    key ^= Zobrist.RED_TO_MOVE;
+  }
+
+  /**
+   * Passes the turn of the side to move.
+   */
+  private void makePass() {
+    ensureUndo(1);
+    boolean passed = redTurn ? redPassed : bluePassed;
+    undo[undoSize++] = passed ? 2 : 0;
+    if (!passed) {
+      key ^= redTurn ? Zobrist.RED_PASSED : Zobrist.BLUE_PASSED;
+    }
+    if (redTurn) {
+      redPassed = true;
+    }
+    else {
+      bluePassed = true;
+    }
+    redTurn = !redTurn;
+    key ^= Zobrist.RED_TO_MOVE;
+  }
+
+  /**
+   * Reverts the most recent move that has not been reverted yet.
+   * @throws IllegalStateException if there is no move to revert
+   */
+  void unmake() {
+    if (undoSize == 0) {
+      throw new IllegalStateException("No move to undo");
+    }
+    int header = undo[--undoSize];
+    key = history[--moves];
+    redTurn = !redTurn;
+    boolean passed = (header & 2) != 0;
+    if (redTurn) {
+      redPassed = passed;
+    }
+    else {
+      bluePassed = passed;
+    }
+    if ((header & 1) == 0) {
+      return;
+    }
+    int side = redTurn ? 1 : 0;
+    int slot = (header >>> 2) & 63;
+    int cells = header >>> 9;
+    if ((header & 256) != 0) {
+      drawn[side]--;
+      held[side] &= ~(1L << (deckStart[side] + drawn[side]));
+    }
+    held[side] |= 1L << slot;
+    int cell = 0;
+    for (int i = 0; i < cells; i++) {
+      int entry = undo[--undoSize];
+      cell = entry >>> 3;
+      pawns[cell] = (byte) (entry & 3);
+      red[cell] = (entry & 4) != 0;
+    }
+    value[cell] = 0;
+    placed[cell] = 0;
+    addRowScore(cell / cols, redTurn, -values[side][slot]);
+  }
+
+  /**
+   * Records the current pawns and owner of a cell on the undo stack.
+   * @param cell the cell index
+   */
+  private void push(int cell) {
+    undo[undoSize++] = (cell << 3) | (red[cell] ? 4 : 0) | pawns[cell];
+  }
+
+  private void ensureUndo(int extra) {
+    if (undoSize + extra > undo.length) {
+      undo = Arrays.copyOf(undo, Math.max(undo.length * 2, undoSize + extra));
+    }
+  }
+
+  private void addRowScore(int row, boolean isRed, int amount) {
+    if (isRed) {
+      redRows[row] += amount;
+    }
+    else {
+      blueRows[row] += amount;
+    }
+  }
+
+  /**
+   * Returns a player's total score, the sum of the rows they lead.
+   * @param isRed true for red's score, false for blue's
+   * @return the player's score
+   */
+  int score(boolean isRed) {
+    int[] own = isRed ? redRows : blueRows;
+    int[] other = isRed ? blueRows : redRows;
+    int total = 0;
+    for (int row = 0; row < rows; row++) {
+      if (own[row] > other[row]) {
+        total += own[row];
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Returns the total value of a player's cards in each row. The array is this position's
+   * own and must not be changed.
+   * @param isRed true for red's totals, false for blue's
+   * @return the row totals
+   */
+  int[] rowTotals(boolean isRed) {
+    return isRed ? redRows : blueRows;
+  }
+
+  /**
+   * Returns the pawn count of every cell, indexed by row * cols + col, which is 0 on cells
+   * with a card. The array is this position's own and must not be changed.
+   * @return the pawn counts
+   */
+  byte[] pawnCounts() {
+    return pawns;
+  }
+
+  /**
+   * Returns whether red owns each cell, indexed by row * cols + col. The array is this
+   * position's own and must not be changed.
+   * @return the owners
+   */
+  boolean[] owners() {
+    return red;
+  }
+
+  /**
+   * Returns the bitmask of the hand slots a player still holds.
+   * @param isRed true for red's hand, false for blue's
+   * @return the held slots
+   */
+  long held(boolean isRed) {
+    return held[isRed ? 1 : 0];
+  }
+
+  /**
+   * Returns the cost of the card in each of a player's hand slots. The array is this
+   * position's own and must not be changed.
+   * @param isRed true for red's hand, false for blue's
+   * @return the costs
+   */
+  int[] handCosts(boolean isRed) {
+    return costs[isRed ? 1 : 0];
+  }
+
+  /**
+   * Returns the value of the card in each of a player's hand slots. The array is this
+   * position's own and must not be changed.
+   * @param isRed true for red's hand, false for blue's
+   * @return the values
+   */
+  int[] handValues(boolean isRed) {
+    return values[isRed ? 1 : 0];
+  }
+
+  /**
+   * Converts an encoded move of the side to move into a Move.
+   * @param move the encoded move
+   * @return the corresponding Move
+   */
+  Move toMove(int move) {
+    if (move == PASS) {
+      return Move.pass();
+    }
+    int cell = move & CELL_MASK;
+    ICard card = hands[redTurn ? 1 : 0][move >>> SLOT_SHIFT];
+    return Move.placementMove(card, cell / cols, cell % cols);
+  }
+}
@@ -0,0 +1,279 @@
+package cs3500.pawnsboard.strategy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size table of search results keyed by Zobrist position keys, shared by any number
+ * of search threads without locks.
+ * Each entry is two longs: the packed result, and the position key XORed with that result.
+ * A reader accepts an entry only if XORing the two words gives back the key it is probing for,
+ * so an entry torn by two threads writing at once is simply treated as a miss.
+ * Entries are grouped in buckets of two. A result for a position already in the bucket
+ * replaces it unless it comes from a shallower search of the current generation; otherwise it
+ * replaces an entry left from an older generation, or failing that the shallower entry.
+ * Generations are only a replacement hint, so they are tracked without synchronization.
+ * Probe, hit and store counts are kept for monitoring.
+ */
+public class TranspositionTable {
+  static final int EXACT = 0;
+  static final int LOWER = 1;
+  static final int UPPER = 2;
+
+  private static final int SCORE_BITS = 24;
+  private static final int MAX_SCORE = (1 << (SCORE_BITS - 1)) - 1;
+  private static final int MOVE_BITS = 27;
+  private static final int DEPTH_BITS = 7;
+  private static final int BOUND_BITS = 2;
+  private static final int MOVE_SHIFT = SCORE_BITS;
+  private static final int DEPTH_SHIFT = MOVE_SHIFT + MOVE_BITS;
+  private static final int BOUND_SHIFT = DEPTH_SHIFT + DEPTH_BITS;
+
+  /**
+   * The deepest search depth an entry records; deeper searches are stored at this depth.
+   */
+  static final int MAX_DEPTH = (1 << DEPTH_BITS) - 1;
+
+  private final AtomicLongArray table;
+  private final int bucketMask;
+  private final AtomicInteger generation;
+  private final int[] generations;
+
+  private final LongAdder probes;
+  private final LongAdder hits;
+  private final LongAdder stores;
+  private final LongAdder overwrites;
+
+  /**
+   * Constructs an empty table with room for at least the given number of entries.
+   * The capacity is rounded up to a power of two.
+   * @param entries the minimum number of entries
+   * @throws IllegalArgumentException if entries isn't between 2 and 2^28
+   */
+  public TranspositionTable(int entries) {
+    if (entries < 2 || entries > (1 << 28)) {
+      throw new IllegalArgumentException("entries must be between 2 and 2^28");
+    }
+    int capacity = Integer.highestOneBit(entries - 1) << 1;
+    this.table = new AtomicLongArray(capacity * 2);
+    this.bucketMask = capacity / 2 - 1;
+    this.generation = new AtomicInteger();
+    this.generations = new int[capacity];
+    this.probes = new LongAdder();
+    this.hits = new LongAdder();
+    this.stores = new LongAdder();
+    this.overwrites = new LongAdder();
+  }
+
+  /**
+   * Returns the number of entries the table can hold.
+   * @return the capacity of the table
+   */
+  public int capacity() {
+    return generations.length;
+  }
+
+  /**
+   * Starts a new search generation. Entries stored in earlier generations stay usable, but are
+   * replaced before entries of the current one.
+   */
+  public void newSearch() {
+    generation.incrementAndGet();
+  }
+
+  /**
+   * Looks up the stored result for a position.
+   * @param key the position's Zobrist key
+   * @return the packed entry, or 0 if the position isn't stored
+   */
+  long probe(long key) {
+    probes.increment();
+    int slot = (int) (key & bucketMask) * 2;
+    for (int i = slot; i < slot + 2; i++) {
+      long data = table.get(i * 2 + 1);
+      if (data != 0 && (table.get(i * 2) ^ data) == key) {
+        hits.increment();
+        return data;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Stores the result of searching a position.
+   * @param key the position's Zobrist key
+   * @param score the score of the position for the side to move, clamped to 24 bits
+   * @param move the best move found, as encoded by SearchPosition
+   * @param depth the depth the position was searched to, in plies
+   * @param bound whether the score is EXACT, a LOWER bound or an UPPER bound
+   */
+  void store(long key, int score, int move, int depth, int bound) {
+    stores.increment();
+    int current = generation.get();
+    long data = pack(score, move, depth, bound);
+    int slot = (int) (key & bucketMask) * 2;
+    int victim = -1;
+    for (int i = slot; i < slot + 2; i++) {
+      long existing = table.get(i * 2 + 1);
+      if (existing != 0 && (table.get(i * 2) ^ existing) == key) {
+        if (depth < depth(existing) && generations[i] == current && bound != EXACT) {
+          return;
+        }
+        victim = i;
+        break;
+      }
+    }
+    if (victim < 0) {
+      victim = chooseVictim(slot, current);
+      if (table.get(victim * 2 + 1) != 0) {
+        overwrites.increment();
+      }
+    }
+    generations[victim] = current;
+    table.lazySet(victim * 2, key ^ data);
+    table.lazySet(victim * 2 + 1, data);
+  }
+
+  /**
+   * Chooses which entry of a bucket a new position replaces: an empty entry, then an entry
+   * from an older generation, then the entry searched to the shallower depth.
+   * @param slot the first entry of the bucket
+   * @param current the current generation
+   * @return the entry to replace
+   */
+  private int chooseVictim(int slot, int current) {
+    long first = table.get(slot * 2 + 1);
+    long second = table.get(slot * 2 + 3);
+    if (first == 0) {
+      return slot;
+    }
+    if (second == 0) {
+      return slot + 1;
+    }
+    boolean firstStale = generations[slot] != current;
+    boolean secondStale = generations[slot + 1] != current;
+    if (firstStale != secondStale) {
+      return firstStale ? slot : slot + 1;
+    }
+    return depth(first) <= depth(second) ? slot : slot + 1;
+  }
+
+  /**
+   * Returns the number of lookups made.
+   * @return the probe count
+   */
+  public long getProbes() {
+    return probes.sum();
+  }
+
+  /**
+   * Returns the number of lookups that found their position.
+   * @return the hit count
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of lookups that did not find their position.
+   * @return the miss count
+   */
+  public long getMisses() {
+    return probes.sum() - hits.sum();
+  }
+
+  /**
+   * Returns the number of results stored.
+   * @return the store count
+   */
+  public long getStores() {
+    return stores.sum();
+  }
+
+  /**
+   * Returns the number of stores that evicted a different position.
+   * @return the overwrite count
+   */
+  public long getOverwrites() {
+    return overwrites.sum();
+  }
+
+  /**
+   * Returns the fraction of lookups that found their position.
+   * @return the hit rate, or 0 if nothing was probed yet
+   */
+  public double getHitRate() {
+    long total = probes.sum();
+    return total == 0 ? 0 : (double) hits.sum() / total;
+  }
+
+  /**
+   * Clears the counters, leaving stored entries in place.
+   */
+  public void resetStatistics() {
+    probes.reset();
+    hits.reset();
+    stores.reset();
+    overwrites.reset();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("TranspositionTable[capacity=%d, probes=%d, hits=%d, misses=%d, "
+            + "stores=%d, overwrites=%d, hitRate=%.3f]", capacity(), getProbes(), getHits(),
+            getMisses(), getStores(), getOverwrites(), getHitRate());
+  }
+
+  /**
+   * Packs a result into one non-zero long.
+   * @param score the score
+   * @param move the encoded move
+   * @param depth the search depth
+   * @param bound the bound type
+   * @return the packed entry
+   */
+  private static long pack(int score, int move, int depth, int bound) {
+    int clamped = Math.max(-MAX_SCORE, Math.min(MAX_SCORE, score));
+    return (clamped & ((1L << SCORE_BITS) - 1))
+            | ((long) (move + 1) << MOVE_SHIFT)
+            | ((long) Math.min(depth, MAX_DEPTH) << DEPTH_SHIFT)
+            | ((long) (bound + 1) << BOUND_SHIFT);
+  }
+
+  /**
+   * Returns the score of a packed entry.
+   * @param entry the packed entry
+   * @return the stored score
+   */
+  static int score(long entry) {
+    return (int) (entry << (64 - SCORE_BITS) >> (64 - SCORE_BITS));
+  }
+
+  /**
+   * Returns the best move of a packed entry.
+   * @param entry the packed entry
+   * @return the stored move, as encoded by SearchPosition
+   */
+  static int move(long entry) {
+    return (int) ((entry >>> MOVE_SHIFT) & ((1L << MOVE_BITS) - 1)) - 1;
+  }
+
+  /**
+   * Returns the search depth of a packed entry.
+   * @param entry the packed entry
+   * @return the stored depth
+   */
+  static int depth(long entry) {
+    return (int) ((entry >>> DEPTH_SHIFT) & ((1L << DEPTH_BITS) - 1));
+  }
+
+  /**
+   * Returns the bound type of a packed entry.
+   * @param entry the packed entry
+   * @return EXACT, LOWER or UPPER
+   */
+  static int bound(long entry) {
+    return (int) ((entry >>> BOUND_SHIFT) & ((1L << BOUND_BITS) - 1)) - 1;
+  }
+}
@@ -0,0 +1,86 @@
+package cs3500.pawnsboard.strategy;
+
+import cs3500.pawnsboard.model.ICard;
+
+/**
+ * Zobrist keys for Pawns Board positions.
+ * A position's key is the XOR of one key per feature: the pawns on each cell with their count
+ * and owner, each placed card with its owner and cell, each card still held in a hand slot,
+ * the side to move and each player's pass flag. Applying or reverting a move XORs out the
+ * features it removes and XORs in the ones it adds, so keys are maintained incrementally.
+ * Keys are derived from a fixed seed with a mixing function rather than a random table, so
+ * every position object, search and thread agrees on them for any board size, and two equal
+ * positions reached in different ways always share a key.
+ */
+final class Zobrist {
+  static final long RED_TO_MOVE = mix(0x5ca1ab1eL);
+  static final long RED_PASSED = mix(0xba5eba11L);
+  static final long BLUE_PASSED = mix(0xdeadbeefL);
+
+  private static final long SEED = 0x9e3779b97f4a7c15L;
+
+  private Zobrist() {
+  }
+
+  /**
+   * Returns the key of pawns on a cell.
+   * @param cell the cell index
+   * @param isRed the owner of the pawns
+   * @param count the number of pawns
+   * @return the feature key, or 0 if there are no pawns
+   */
+  static long pawns(int cell, boolean isRed, int count) {
+    if (count == 0) {
+      return 0;
+    }
+    return mix(SEED * (cell * 8L + (isRed ? 4 : 0) + count));
+  }
+
+  /**
+   * Returns the key of a card placed on a cell.
+   * @param cell the cell index
+   * @param isRed the owner of the card
+   * @param card the card's content key, from card(ICard)
+   * @return the feature key
+   */
+  static long placed(int cell, boolean isRed, long card) {
+    return mix(card ^ (SEED * (cell * 2L + (isRed ? 1 : 0) + 1)));
+  }
+
+  /**
+   * Returns the key of a card held in a hand slot.
+   * @param isRed the owner of the hand
+   * @param slot the hand slot
+   * @param card the card's content key, from card(ICard)
+   * @return the feature key
+   */
+  static long held(boolean isRed, int slot, long card) {
+    return mix(card + SEED * (slot * 2L + (isRed ? 1 : 0) + 0x10001L));
+  }
+
+  /**
+   * Returns a key identifying a card by its content: name, cost, value and influence grid.
+   * Equal cards from different deck loads share a key.
+   * @param card the card
+   * @return the card's content key
+   */
+  static long card(ICard card) {
+    long hash = card.getName().hashCode();
+    hash = hash * 31 + card.getCost();
+    hash = hash * 31 + card.getValue();
+    hash = (hash << 25) ^ card.getInfluenceGrid().getMask();
+    return mix(hash);
+  }
+
+  /**
+   * The splitmix64 finalizer, which spreads every input bit over the whole output.
+   * @param value the value to mix
+   * @return the mixed value
+   */
+  private static long mix(long value) {
+    long z = value + SEED;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,238 @@
+package cs3500.pawnsboard.tournament;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.GameState;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPawnsBoardModel;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.MachinePlayer;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.model.ReadOnlyPawnsBoardModelImpl;
+import cs3500.pawnsboard.replay.GameLogWriter;
+import cs3500.pawnsboard.replay.RecordingPawnsBoardModel;
+import cs3500.pawnsboard.strategy.IStrategy;
+import cs3500.pawnsboard.strategy.Move;
+
+/**
+ * Plays batches of games between two strategies without a view or controller.
+ * Games are played in pairs: both games of a pair deal the same shuffled decks, and the
+ * strategies swap colors between them, so neither strategy gains from moving first or from a
+ * lucky deal. Pair k's decks are shuffled by Deck from the seed (tournament seed + k), so a
+ * tournament between deterministic strategies always has the same outcome however many
+ * threads play it, and any single deal can be dealt again exactly.
+ * Strategies may keep state between moves, so each game gets fresh instances from the
+ * suppliers it is given.
+ * A tournament given a log directory writes game k's moves to game-k.pbgl there, with its
+ * pair's seed as the log's shuffle seed, so GameReplay can rebuild any game.
+ */
+public class Tournament {
+  private final List<ICard> redDeck;
+  private final List<ICard> blueDeck;
+  private final int rows;
+  private final int cols;
+  private final int handSize;
+  private final long seed;
+  private final File logDirectory;
+
+  /**
+   * Constructs a tournament played on boards of the given size with the given decks.
+   * @param redDeck the cards red's deck is shuffled from
+   * @param blueDeck the cards blue's deck is shuffled from, in the same order as red's
+   * @param rows the number of rows of each board
+   * @param cols the number of columns of each board
+   * @param handSize the number of cards each player starts with
+   * @param seed the seed every game's shuffle is derived from
+   * @throws IllegalArgumentException if a deck is null, the decks differ in size, the board
+   *     dimensions are invalid or the hand size isn't positive
+   */
+  public Tournament(List<ICard> redDeck, List<ICard> blueDeck, int rows, int cols,
+                    int handSize, long seed) {
+    this(redDeck, blueDeck, rows, cols, handSize, seed, null);
+  }
+
+  private Tournament(List<ICard> redDeck, List<ICard> blueDeck, int rows, int cols,
+                     int handSize, long seed, File logDirectory) {
+    if (redDeck == null || blueDeck == null) {
+      throw new IllegalArgumentException("decks cannot be null");
+    }
+    if (redDeck.size() != blueDeck.size()) {
+      throw new IllegalArgumentException("decks must be the same size");
+    }
+    if (rows <= 0 || cols <= 1 || cols % 2 == 0) {
+      throw new IllegalArgumentException("Invalid board dimensions");
+    }
+    if (handSize <= 0) {
+      throw new IllegalArgumentException("hand size must be positive");
+    }
+    this.redDeck = new ArrayList<>(redDeck);
+    this.blueDeck = new ArrayList<>(blueDeck);
+    this.rows = rows;
+    this.cols = cols;
+    this.handSize = handSize;
+    this.seed = seed;
+    this.logDirectory = logDirectory;
+  }
+
+  /**
+   * Returns a tournament played on the same boards with the same decks, but dealt from a
+   * different seed.
+   * @param newSeed the seed every game's shuffle is derived from
+   * @return the new tournament
+   */
+  public Tournament withSeed(long newSeed) {
+    return new Tournament(redDeck, blueDeck, rows, cols, handSize, newSeed, logDirectory);
+  }
+
+  /**
+   * Returns a tournament played like this one that also logs every game to the given
+   * directory, replacing logs already there.
+   * @param directory the existing directory to write game logs to, or null for no logs
+   * @return the new tournament
+   * @throws IllegalArgumentException if the directory isn't null and isn't a directory
+   */
+  public Tournament withLogDirectory(File directory) {
+    if (directory != null && !directory.isDirectory()) {
+      throw new IllegalArgumentException(directory + " is not a directory");
+    }
+    return new Tournament(redDeck, blueDeck, rows, cols, handSize, seed, directory);
+  }
+
+  /**
+   * Plays the given number of games between two strategies on the given number of threads.
+   * @param first supplies the first strategy, once per game
+   * @param second supplies the second strategy, once per game
+   * @param games the number of games to play
+   * @param threads the number of games to play at once
+   * @return the outcome of the games
+   * @throws IllegalArgumentException if a supplier is null, or games or threads isn't positive
+   * @throws IllegalStateException if a strategy makes an illegal move or fails, or a game
+   *     log can't be written
+   */
+  public TournamentResult play(Supplier<IStrategy> first, Supplier<IStrategy> second,
+                               int games, int threads) {
+    if (first == null || second == null) {
+      throw new IllegalArgumentException("strategies cannot be null");
+    }
+    if (games <= 0 || threads <= 0) {
+      throw new IllegalArgumentException("games and threads must be positive");
+    }
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    long start = System.nanoTime();
+    try {
+      List<Future<int[]>> results = new ArrayList<>();
+      for (int game = 0; game < games; game++) {
+        int index = game;
+        results.add(pool.submit(() -> playGame(index, first, second)));
+      }
+      int firstWins = 0;
+      int secondWins = 0;
+      int ties = 0;
+      long firstScore = 0;
+      long secondScore = 0;
+      for (Future<int[]> result : results) {
+        int[] scores = result.get();
+        firstScore += scores[0];
+        secondScore += scores[1];
+        if (scores[0] > scores[1]) {
+          firstWins++;
+        }
+        else if (scores[1] > scores[0]) {
+          secondWins++;
+        }
+        else {
+          ties++;
+        }
+      }
+      return new TournamentResult(games, firstWins, secondWins, ties, firstScore, secondScore,
+              System.nanoTime() - start);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Tournament interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Plays one game to the end. The first strategy plays red in even games and blue in odd
+   * games.
+   * @param game the index of the game
+   * @param first supplies the first strategy
+   * @param second supplies the second strategy
+   * @return the first and second strategies' final scores
+   * @throws IllegalStateException if a strategy makes an illegal move, or the game's log
+   *     can't be written
+   */
+  private int[] playGame(int game, Supplier<IStrategy> first, Supplier<IStrategy> second) {
+    boolean firstIsRed = game % 2 == 0;
+    IStrategy redStrategy = firstIsRed ? first.get() : second.get();
+    IStrategy blueStrategy = firstIsRed ? second.get() : first.get();
+    long pairSeed = seed + game / 2;
+    IPlayer red = new MachinePlayer("Red", new Deck(redDeck, pairSeed), handSize, redStrategy);
+    IPlayer blue = new MachinePlayer("Blue", new Deck(blueDeck, pairSeed), handSize,
+            blueStrategy);
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(new Board(rows, cols), red, blue,
+            handSize);
+    ReadOnlyPawnsBoardModelImpl view = new ReadOnlyPawnsBoardModelImpl(model);
+    model.startGame();
+
+    if (logDirectory == null) {
+      playOut(game, model, view, redStrategy, blueStrategy);
+    }
+    else {
+      File file = new File(logDirectory, "game-" + game + ".pbgl");
+      try (GameLogWriter log = new GameLogWriter(new FileOutputStream(file), redDeck, blueDeck,
+              rows, cols, handSize, pairSeed)) {
+        playOut(game, new RecordingPawnsBoardModel(model, log), view, redStrategy,
+                blueStrategy);
+      } catch (IOException e) {
+        throw new IllegalStateException("Game " + game + ": could not write " + file, e);
+      }
+    }
+    int redScore = model.currentScore(red);
+    int blueScore = model.currentScore(blue);
+    return firstIsRed ? new int[] {redScore, blueScore} : new int[] {blueScore, redScore};
+  }
+
+  /**
+   * Plays a started game to the end.
+   * @param game the index of the game
+   * @param model the game to play on
+   * @param view the read-only view the strategies are shown
+   * @param redStrategy red's strategy
+   * @param blueStrategy blue's strategy
+   * @throws IllegalStateException if a strategy makes an illegal move
+   */
+  private static void playOut(int game, IPawnsBoardModel model, ReadOnlyPawnsBoardModelImpl view,
+                              IStrategy redStrategy, IStrategy blueStrategy) {
+    while (model.getGameState() == GameState.ONGOING) {
+      boolean redTurn = model.isRedTurn();
+      IPlayer player = redTurn ? model.getRedPlayer() : model.getBluePlayer();
+      Move move = (redTurn ? redStrategy : blueStrategy).chooseMove(view, player);
+      if (move.isPass()) {
+        model.passTurn();
+        continue;
+      }
+      try {
+        model.placeCard(move.getRow(), move.getCol(), move.getCard());
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        throw new IllegalStateException("Game " + game + ": " + player.getName()
+                + " made an illegal move: " + e.getMessage(), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package cs3500.pawnsboard.tournament;
+
+/**
+ * The outcome of a Tournament between two strategies, the first and the second.
+ * Wins, ties and scores are totals over every game, counted the same way whichever color
+ * each strategy played.
+ */
+public final class TournamentResult {
+  private final int games;
+  private final int firstWins;
+  private final int secondWins;
+  private final int ties;
+  private final long firstScore;
+  private final long secondScore;
+  private final long elapsedNanos;
+
+  /**
+   * Constructs a result from its totals.
+   * @param games the number of games played
+   * @param firstWins the games won by the first strategy
+   * @param secondWins the games won by the second strategy
+   * @param ties the games that ended in a tie
+   * @param firstScore the first strategy's final scores summed over every game
+   * @param secondScore the second strategy's final scores summed over every game
+   * @param elapsedNanos the wall-clock time the games took in nanoseconds
+   * @throws IllegalArgumentException if the wins and ties don't add up to the games played
+   */
+  public TournamentResult(int games, int firstWins, int secondWins, int ties, long firstScore,
+                          long secondScore, long elapsedNanos) {
+    if (firstWins + secondWins + ties != games) {
+      throw new IllegalArgumentException("wins and ties must add up to the games played");
+    }
+    this.games = games;
+    this.firstWins = firstWins;
+    this.secondWins = secondWins;
+    this.ties = ties;
+    this.firstScore = firstScore;
+    this.secondScore = secondScore;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Returns the number of games played.
+   * @return the game count
+   */
+  public int getGames() {
+    return games;
+  }
+
+  /**
+   * Returns the number of games won by the first strategy.
+   * @return the first strategy's wins
+   */
+  public int getFirstWins() {
+    return firstWins;
+  }
+
+  /**
+   * Returns the number of games won by the second strategy.
+   * @return the second strategy's wins
+   */
+  public int getSecondWins() {
+    return secondWins;
+  }
+
+  /**
+   * Returns the number of tied games.
+   * @return the tie count
+   */
+  public int getTies() {
+    return ties;
+  }
+
+  /**
+   * Returns the fraction of games won by the first strategy.
+   * @return the first strategy's win rate, or 0 if no games were played
+   */
+  public double getFirstWinRate() {
+    return rate(firstWins);
+  }
+
+  /**
+   * Returns the fraction of games won by the second strategy.
+   * @return the second strategy's win rate, or 0 if no games were played
+   */
+  public double getSecondWinRate() {
+    return rate(secondWins);
+  }
+
+  /**
+   * Returns the fraction of games that were tied.
+   * @return the tie rate, or 0 if no games were played
+   */
+  public double getTieRate() {
+    return rate(ties);
+  }
+
+  /**
+   * Returns the first strategy's average final score.
+   * @return the average score, or 0 if no games were played
+   */
+  public double getFirstAverageScore() {
+    return games == 0 ? 0 : (double) firstScore / games;
+  }
+
+  /**
+   * Returns the second strategy's average final score.
+   * @return the average score, or 0 if no games were played
+   */
+  public double getSecondAverageScore() {
+    return games == 0 ? 0 : (double) secondScore / games;
+  }
+
+  /**
+   * Returns the wall-clock time the games took.
+   * @return the elapsed time in milliseconds
+   */
+  public double getElapsedMillis() {
+    return elapsedNanos / 1e6;
+  }
+
+  /**
+   * Returns how many games were completed per second of wall-clock time.
+   * @return the throughput in games per second
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+  }
+
+  private double rate(int count) {
+    return games == 0 ? 0 : (double) count / games;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("games=%d first=%d (%.1f%%) second=%d (%.1f%%) ties=%d (%.1f%%)%n"
+            + "average score first=%.2f second=%.2f%n"
+            + "%.1f ms, %.1f games/s", games, firstWins, getFirstWinRate() * 100,
+            secondWins, getSecondWinRate() * 100, ties, getTieRate() * 100,
+            getFirstAverageScore(), getSecondAverageScore(), getElapsedMillis(),
+            getGamesPerSecond());
+  }
+}
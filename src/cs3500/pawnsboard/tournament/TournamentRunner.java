@@ -0,0 +1,100 @@
+package cs3500.pawnsboard.tournament;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.strategy.AlphaBetaStrategy;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.IStrategy;
+import cs3500.pawnsboard.strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.strategy.MonteCarloStrategy;
+
+/**
+ * Command line entry point that plays a headless tournament and prints the result.
+ * Usage: deckPath first second games [rows cols handSize seed threads budgetMillis].
+ * Strategies are named as in PawnsBoardGame: strategy1 (fill first), strategy2 (maximize row
+ * score), strategy3 (alpha-beta) and strategy4 (Monte Carlo, one worker per game, all on one
+ * pool shared by every game).
+ * By default games are played on a 5x7 board with hands of 5, seed 0, one thread per
+ * processor and a 100ms budget per move for the searching strategies.
+ * Run with -Dpawnsboard.log=directory to write every game's log to that directory.
+ */
+public class TournamentRunner {
+  // workers are daemon threads started on demand, so the pool needs no shutdown
+  private static final ForkJoinPool SEARCH_POOL = new ForkJoinPool(
+          Runtime.getRuntime().availableProcessors());
+
+  /**
+   * Main Method.
+   * @param args inputs
+   */
+  public static void main(String[] args) {
+    if (args.length < 4) {
+      System.out.println("Usage: deckPath first second games "
+              + "[rows cols handSize seed threads budgetMillis]");
+      return;
+    }
+    try {
+      List<ICard>[] decks = DeckReader.readDeckFile(args[0]);
+      int games = Integer.parseInt(args[3]);
+      int rows = args.length > 4 ? Integer.parseInt(args[4]) : 5;
+      int cols = args.length > 5 ? Integer.parseInt(args[5]) : 7;
+      int handSize = args.length > 6 ? Integer.parseInt(args[6]) : 5;
+      long seed = args.length > 7 ? Long.parseLong(args[7]) : 0;
+      int threads = args.length > 8 ? Integer.parseInt(args[8])
+              : Runtime.getRuntime().availableProcessors();
+      long budget = args.length > 9 ? Long.parseLong(args[9]) : 100;
+
+      Tournament tournament = new Tournament(decks[0], decks[1], rows, cols, handSize, seed);
+      String logPath = System.getProperty("pawnsboard.log");
+      if (logPath != null) {
+        tournament = tournament.withLogDirectory(new File(logPath));
+      }
+      // both sides draw their playout seeds from the tournament seed, so a rerun replays them
+      AtomicLong searchSeeds = new AtomicLong(seed);
+      TournamentResult result = tournament.play(strategy(args[1], budget, searchSeeds),
+              strategy(args[2], budget, searchSeeds), games, threads);
+      System.out.println(args[1] + " vs " + args[2]);
+      System.out.println(result);
+    } catch (FileNotFoundException e) {
+      System.out.println("File not found");
+    } catch (NumberFormatException e) {
+      System.out.println("Invalid number: " + e.getMessage());
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      System.out.println(e.getMessage());
+    }
+  }
+
+  /**
+   * Returns a supplier of the named strategy.
+   * @param name the strategy's command line name
+   * @param budget the time allowed per move for searching strategies, in milliseconds
+   * @param seeds the source of seeds for randomized strategies, one per instance
+   * @return a supplier of new instances of the strategy
+   * @throws IllegalArgumentException if the name isn't a known strategy
+   */
+  static Supplier<IStrategy> strategy(String name, long budget, AtomicLong seeds) {
+    if (name.equalsIgnoreCase("strategy1")) {
+      return FillFirstStrategy::new;
+    }
+    else if (name.equalsIgnoreCase("strategy2")) {
+      return MaximizeRowScoreStrategy::new;
+    }
+    else if (name.equalsIgnoreCase("strategy3")) {
+      return () -> new AlphaBetaStrategy(budget);
+    }
+    else if (name.equalsIgnoreCase("strategy4")) {
+      return () -> new MonteCarloStrategy(budget, SEARCH_POOL, 1,
+              MonteCarloStrategy.Playout.RANDOM, seeds.getAndIncrement());
+    }
+    else {
+      throw new IllegalArgumentException("Unknown strategy: " + name);
+    }
+  }
+}
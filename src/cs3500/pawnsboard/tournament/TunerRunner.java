@@ -0,0 +1,64 @@
+package cs3500.pawnsboard.tournament;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.List;
+
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.ICard;
+
+/**
+ * Command line entry point that tunes evaluator weights by self-play with a WeightTuner.
+ * Usage: deckPath iterations gamesPerIteration checkpointPath weightsPath
+ * [depth threads seed step perturbation].
+ * If the checkpoint file exists the run resumes from it, otherwise it starts from the
+ * default weights. The checkpoint and a weights file for -Dpawnsboard.weights are written
+ * after every iteration, so a run can be stopped at any time.
+ * By default games are played on a 5x7 board with hands of 5, searching 2 plies deep, on one
+ * thread per processor, from seed 0 with a step of 16 and a perturbation of 2.
+ */
+public class TunerRunner {
+  /**
+   * Main Method.
+   * @param args inputs
+   */
+  public static void main(String[] args) {
+    if (args.length < 5) {
+      System.out.println("Usage: deckPath iterations gamesPerIteration checkpointPath "
+              + "weightsPath [depth threads seed step perturbation]");
+      return;
+    }
+    try {
+      List<ICard>[] decks = DeckReader.readDeckFile(args[0]);
+      int iterations = Integer.parseInt(args[1]);
+      int games = Integer.parseInt(args[2]);
+      String checkpointPath = args[3];
+      String weightsPath = args[4];
+      int depth = args.length > 5 ? Integer.parseInt(args[5]) : 2;
+      int threads = args.length > 6 ? Integer.parseInt(args[6])
+              : Runtime.getRuntime().availableProcessors();
+      long seed = args.length > 7 ? Long.parseLong(args[7]) : 0;
+      double step = args.length > 8 ? Double.parseDouble(args[8]) : 16;
+      double perturbation = args.length > 9 ? Double.parseDouble(args[9]) : 2;
+
+      Tournament tournament = new Tournament(decks[0], decks[1], 5, 7, 5, seed);
+      WeightTuner tuner = new WeightTuner(tournament, depth, games, threads, step,
+              perturbation, seed);
+      if (new File(checkpointPath).exists()) {
+        tuner.readCheckpoint(checkpointPath);
+        System.out.println("Resuming at iteration " + tuner.getIteration());
+      }
+      tuner.run(iterations, checkpointPath, weightsPath, System.out);
+      System.out.print(tuner.getEvaluator());
+    } catch (FileNotFoundException e) {
+      System.out.println("File not found");
+    } catch (IOException e) {
+      System.out.println("Could not write: " + e.getMessage());
+    } catch (NumberFormatException e) {
+      System.out.println("Invalid number: " + e.getMessage());
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      System.out.println(e.getMessage());
+    }
+  }
+}
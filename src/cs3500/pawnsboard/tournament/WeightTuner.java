@@ -0,0 +1,297 @@
+package cs3500.pawnsboard.tournament;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+import cs3500.pawnsboard.strategy.AlphaBetaStrategy;
+import cs3500.pawnsboard.strategy.Evaluator;
+import cs3500.pawnsboard.strategy.TranspositionTable;
+
+/**
+ * Tunes the weights of an Evaluator by self-play with SPSA (simultaneous perturbation
+ * stochastic approximation).
+ * Each iteration nudges every weight up or down at random, plays a Tournament between
+ * fixed-depth alpha-beta searches using the nudged-up and nudged-down weights, and moves the
+ * weights towards whichever side won more games, by an amount that shrinks as the iterations
+ * go on. One tournament per iteration estimates the whole gradient, however many weights there
+ * are, and its games are spread over a thread pool.
+ * The SCORE weight is never changed: only ratios between weights matter, so it fixes the scale
+ * the other weights are tuned against. Weights are tuned as doubles and rounded for play.
+ * Iteration k deals its games from seed + k * gamesPerIteration and draws its perturbation from
+ * seed + k, so a run gives the same weights however many threads play it, and a run resumed
+ * from a checkpoint continues exactly as if it had never stopped.
+ */
+public class WeightTuner {
+  /**
+   * The SCORE weight tuning starts from, which sets the resolution of the other weights.
+   */
+  public static final int SCORE_SCALE = 16;
+
+  private static final double STEP_DECAY = 0.602;
+  private static final double PERTURBATION_DECAY = 0.101;
+  private static final int STABILITY = 10;
+  private static final int TABLE_ENTRIES = 1 << 12;
+  private static final long BUDGET_MILLIS = TimeUnit.DAYS.toMillis(1);
+  private static final int ANCHOR = Evaluator.Feature.SCORE.ordinal();
+  private static final Evaluator.Feature[] FEATURES = Evaluator.Feature.values();
+
+  private final Tournament tournament;
+  private final int depth;
+  private final int gamesPerIteration;
+  private final int threads;
+  private final double step;
+  private final double perturbation;
+  private final long seed;
+
+  private double[] weights;
+  private int iteration;
+
+  /**
+   * Constructs a tuner that starts from the default evaluator, with its SCORE weight scaled up
+   * to SCORE_SCALE.
+   * @param tournament the tournament whose decks and boards the games are played with
+   * @param depth the depth the alpha-beta searches look ahead, in plies
+   * @param gamesPerIteration the number of games played in each iteration
+   * @param threads the number of games to play at once
+   * @param step how far the weights move in the first iterations for a clean sweep
+   * @param perturbation how far the weights are nudged in the first iterations
+   * @param seed the seed the deals and perturbations are derived from
+   * @throws IllegalArgumentException if the tournament is null, the depth, threads, step or
+   *     perturbation isn't positive, or the games per iteration isn't a positive even number
+   */
+  public WeightTuner(Tournament tournament, int depth, int gamesPerIteration, int threads,
+                     double step, double perturbation, long seed) {
+    if (tournament == null) {
+      throw new IllegalArgumentException("tournament cannot be null");
+    }
+    if (depth <= 0 || threads <= 0) {
+      throw new IllegalArgumentException("depth and threads must be positive");
+    }
+    if (gamesPerIteration <= 0 || gamesPerIteration % 2 != 0) {
+      throw new IllegalArgumentException("games per iteration must be positive and even");
+    }
+    if (!(step > 0) || !(perturbation > 0)) {
+      throw new IllegalArgumentException("step and perturbation must be positive");
+    }
+    this.tournament = tournament;
+    this.depth = depth;
+    this.gamesPerIteration = gamesPerIteration;
+    this.threads = threads;
+    this.step = step;
+    this.perturbation = perturbation;
+    this.seed = seed;
+    start(Evaluator.DEFAULT.withWeight(Evaluator.Feature.SCORE, SCORE_SCALE));
+  }
+
+  /**
+   * Restarts tuning from the given weights, at the first iteration.
+   * @param evaluator the evaluator whose weights to start from
+   * @throws IllegalArgumentException if the evaluator is null or its SCORE weight isn't
+   *     positive
+   */
+  public void start(Evaluator evaluator) {
+    if (evaluator == null) {
+      throw new IllegalArgumentException("evaluator cannot be null");
+    }
+    if (evaluator.getWeight(Evaluator.Feature.SCORE) <= 0) {
+      throw new IllegalArgumentException("score weight must be positive");
+    }
+    int[] start = evaluator.getWeights();
+    weights = new double[start.length];
+    for (int i = 0; i < start.length; i++) {
+      weights[i] = start[i];
+    }
+    iteration = 0;
+  }
+
+  /**
+   * Returns the number of iterations run since tuning started.
+   * @return the iteration count
+   */
+  public int getIteration() {
+    return iteration;
+  }
+
+  /**
+   * Returns the current weights, unrounded, one per Feature in declaration order.
+   * @return a copy of the weights
+   */
+  public double[] getWeights() {
+    return weights.clone();
+  }
+
+  /**
+   * Returns an evaluator with the current weights, rounded.
+   * @return the evaluator
+   */
+  public Evaluator getEvaluator() {
+    return round(weights);
+  }
+
+  /**
+   * Runs one iteration: plays the nudged-up weights against the nudged-down weights and moves
+   * the weights towards the winner.
+   * @return the outcome of the iteration's games, where the first strategy played the
+   *     nudged-up weights
+   * @throws IllegalStateException if a game fails
+   */
+  public TournamentResult iterate() {
+    Random random = new Random(seed + iteration);
+    double gain = step / Math.pow(iteration + 1 + STABILITY, STEP_DECAY);
+    double size = perturbation / Math.pow(iteration + 1, PERTURBATION_DECAY);
+    int[] signs = new int[weights.length];
+    double[] up = weights.clone();
+    double[] down = weights.clone();
+    for (int i = 0; i < weights.length; i++) {
+      if (i != ANCHOR) {
+        signs[i] = random.nextBoolean() ? 1 : -1;
+        up[i] += size * signs[i];
+        down[i] -= size * signs[i];
+      }
+    }
+    Evaluator first = round(up);
+    Evaluator second = round(down);
+    TournamentResult result = tournament.withSeed(seed + (long) iteration * gamesPerIteration)
+            .play(() -> search(first), () -> search(second), gamesPerIteration, threads);
+
+    double outcome = (double) (result.getFirstWins() - result.getSecondWins())
+            / gamesPerIteration;
+    for (int i = 0; i < weights.length; i++) {
+      if (i != ANCHOR) {
+        weights[i] += gain * outcome / (2 * size * signs[i]);
+      }
+    }
+    iteration++;
+    return result;
+  }
+
+  /**
+   * Runs the given number of iterations, writing a checkpoint and the rounded weights after
+   * each one.
+   * @param iterations the number of iterations to run
+   * @param checkpointPath the checkpoint file to write, or null for none
+   * @param weightsPath the weights file to write, or null for none
+   * @param log the stream each iteration's outcome and weights are printed to, or null
+   * @throws IOException if a file can't be written
+   * @throws IllegalArgumentException if iterations is negative
+   * @throws IllegalStateException if a game fails
+   */
+  public void run(int iterations, String checkpointPath, String weightsPath, PrintStream log)
+          throws IOException {
+    if (iterations < 0) {
+      throw new IllegalArgumentException("iterations cannot be negative");
+    }
+    for (int i = 0; i < iterations; i++) {
+      TournamentResult result = iterate();
+      if (checkpointPath != null) {
+        writeCheckpoint(checkpointPath);
+      }
+      if (weightsPath != null) {
+        getEvaluator().writeWeightsFile(weightsPath);
+      }
+      if (log != null) {
+        log.printf("iteration %d: up %d down %d ties %d (%.1f games/s) weights %s%n",
+                iteration, result.getFirstWins(), result.getSecondWins(), result.getTies(),
+                result.getGamesPerSecond(), Arrays.toString(getEvaluator().getWeights()));
+      }
+    }
+  }
+
+  /**
+   * Writes the iteration count and unrounded weights to a checkpoint file. The file is
+   * written beside the old one and then moved over it, so a run killed while writing leaves
+   * the previous checkpoint whole.
+   * @param filePath the path of the checkpoint file
+   * @throws IOException if the file can't be written
+   */
+  public void writeCheckpoint(String filePath) throws IOException {
+    Path target = new File(filePath).toPath();
+    Path temporary = new File(filePath + ".tmp").toPath();
+    try (Writer writer = new FileWriter(temporary.toFile())) {
+      writer.write("# SPSA checkpoint" + System.lineSeparator());
+      writer.write("iteration " + iteration + System.lineSeparator());
+      for (Evaluator.Feature feature : FEATURES) {
+        writer.write(feature.getName() + " " + weights[feature.ordinal()]
+                + System.lineSeparator());
+      }
+    }
+    try {
+      Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING,
+              StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Resumes tuning from a checkpoint file written by writeCheckpoint. Features the file
+   * doesn't name have weight 0.
+   * @param filePath the path of the checkpoint file
+   * @throws IOException if the file can't be read
+   * @throws IllegalArgumentException if the file has no iteration count, a line isn't a
+   *     known feature and a weight, or the SCORE weight isn't positive
+   */
+  public void readCheckpoint(String filePath) throws IOException {
+    double[] read = new double[FEATURES.length];
+    int readIteration = -1;
+    try (Scanner scanner = new Scanner(new File(filePath))) {
+      while (scanner.hasNextLine()) {
+        String line = scanner.nextLine();
+        int comment = line.indexOf('#');
+        if (comment >= 0) {
+          line = line.substring(0, comment);
+        }
+        line = line.trim();
+        if (line.isEmpty()) {
+          continue;
+        }
+        String[] parts = line.split("\\s+");
+        if (parts.length != 2) {
+          throw new IllegalArgumentException("Invalid checkpoint line: " + line);
+        }
+        try {
+          if (parts[0].equals("iteration")) {
+            readIteration = Integer.parseInt(parts[1]);
+          }
+          else {
+            read[Evaluator.Feature.forName(parts[0]).ordinal()] = Double.parseDouble(parts[1]);
+          }
+        } catch (NumberFormatException e) {
+          throw new IllegalArgumentException("Invalid checkpoint line: " + line);
+        }
+      }
+    }
+    if (readIteration < 0) {
+      throw new IllegalArgumentException("Checkpoint has no iteration count");
+    }
+    if (!(read[ANCHOR] > 0)) {
+      throw new IllegalArgumentException("score weight must be positive");
+    }
+    weights = read;
+    iteration = readIteration;
+  }
+
+  private AlphaBetaStrategy search(Evaluator evaluator) {
+    return new AlphaBetaStrategy(BUDGET_MILLIS, depth, new TranspositionTable(TABLE_ENTRIES),
+            evaluator);
+  }
+
+  private static Evaluator round(double[] weights) {
+    int[] rounded = new int[weights.length];
+    for (int i = 0; i < weights.length; i++) {
+      rounded[i] = (int) Math.round(weights[i]);
+    }
+    return new Evaluator(rounded);
+  }
+}
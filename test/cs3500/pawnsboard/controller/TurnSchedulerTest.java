@@ -0,0 +1,129 @@
+package cs3500.pawnsboard.controller;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.GameState;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPawnsBoardModel;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.MachinePlayer;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+
+/**
+ * Tests that machine-versus-machine games run through a TurnScheduler one turn at a time.
+ */
+public class TurnSchedulerTest {
+  private List<ICard>[] decks;
+  private IPlayer red;
+  private IPlayer blue;
+  private List<Integer> depths;
+  private Set<Thread> threads;
+  private CountDownLatch gameOver;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+    red = new MachinePlayer("Red", new Deck(decks[0]), 5, new FillFirstStrategy());
+    blue = new MachinePlayer("Blue", new Deck(decks[1]), 5, new FillFirstStrategy());
+    depths = new CopyOnWriteArrayList<>();
+    threads = ConcurrentHashMap.newKeySet();
+    gameOver = new CountDownLatch(2);
+  }
+
+  @Test
+  public void testTrampolineKeepsStackDepthConstant() {
+    TrampolineTurnScheduler scheduler = new TrampolineTurnScheduler();
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(new Board(5, 7), red, blue, 5,
+            scheduler);
+    RecordingController redController = new RecordingController(red, model);
+    new RecordingController(blue, model);
+    model.startGame();
+    scheduler.schedule(redController::onMyTurn);
+
+    Assert.assertTrue(model.isGameOver());
+    Assert.assertEquals(0, gameOver.getCount());
+    Assert.assertTrue("turns: " + depths.size(), depths.size() > 10);
+    for (int depth : depths) {
+      Assert.assertEquals(depths.get(0).intValue(), depth);
+    }
+    Assert.assertEquals(Set.of(Thread.currentThread()), threads);
+  }
+
+  @Test
+  public void testExecutorRunsTurnsOffCallingThread() throws InterruptedException {
+    ExecutorTurnScheduler scheduler = new ExecutorTurnScheduler();
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(new Board(5, 7), red, blue, 5,
+            scheduler);
+    RecordingController redController = new RecordingController(red, model);
+    new RecordingController(blue, model);
+    model.startGame();
+    scheduler.schedule(redController::onMyTurn);
+
+    Assert.assertTrue(gameOver.await(10, TimeUnit.SECONDS));
+    scheduler.shutdown();
+    Assert.assertNotEquals(GameState.ONGOING, model.getGameState());
+    Assert.assertEquals(1, threads.size());
+    Assert.assertFalse(threads.contains(Thread.currentThread()));
+    for (int depth : depths) {
+      Assert.assertEquals(depths.get(0).intValue(), depth);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullScheduler() {
+    new PawnsBoardModelImpl(new Board(3, 5), red, blue, 5, null);
+  }
+
+  @Test
+  public void testTurnScheduledDuringTurnRunsAfterIt() {
+    TrampolineTurnScheduler scheduler = new TrampolineTurnScheduler();
+    StringBuilder order = new StringBuilder();
+    scheduler.schedule(() -> {
+      scheduler.schedule(() -> order.append("second"));
+      order.append("first ");
+    });
+    Assert.assertEquals("first second", order.toString());
+  }
+
+  /**
+   * A MockController that records the stack depth and thread of each of its turns.
+   */
+  private class RecordingController extends MockController {
+    RecordingController(IPlayer player, IPawnsBoardModel model) {
+      super(player, model);
+    }
+
+    @Override
+    public void onMyTurn() {
+      depths.add(Thread.currentThread().getStackTrace().length);
+      threads.add(Thread.currentThread());
+      super.onMyTurn();
+    }
+
+    @Override
+    public void onGameOver(String msg) {
+      super.onGameOver(msg);
+      gameOver.countDown();
+    }
+  }
+}
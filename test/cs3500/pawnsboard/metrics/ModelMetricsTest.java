@@ -0,0 +1,160 @@
+package cs3500.pawnsboard.metrics;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPawnsBoardModel;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+/**
+ * Tests LatencyHistogram, ModelMetrics and the instrumented models.
+ */
+public class ModelMetricsTest {
+  private List<ICard>[] decks;
+  private long time;
+  private ModelMetrics metrics;
+  private IPawnsBoardModel model;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+    // every clock read advances the time by 100ns, so every timed call takes 100ns
+    metrics = new ModelMetrics(() -> time += 100, 1);
+    IPlayer red = new HumanPlayer("Red", new Deck(decks[0]), 5);
+    IPlayer blue = new HumanPlayer("Blue", new Deck(decks[1]), 5);
+    model = new InstrumentedPawnsBoardModel(
+            new PawnsBoardModelImpl(new Board(3, 5), red, blue, 5), metrics);
+  }
+
+  @Test
+  public void testHistogramPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+    for (long value = 1; value <= 10000; value++) {
+      histogram.record(value * 1000);
+    }
+    Assert.assertEquals(10000, histogram.getCount());
+    Assert.assertEquals(10_000_000, histogram.getMax());
+    Assert.assertEquals(5_000_500, histogram.getMean(), 0.001);
+    long median = histogram.getValueAtPercentile(50);
+    Assert.assertTrue(median >= 5_000_000 && median <= 5_000_000 * 33 / 32);
+    long p99 = histogram.getValueAtPercentile(99);
+    Assert.assertTrue(p99 >= 9_900_000 && p99 <= 9_900_000 * 33 / 32);
+    Assert.assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+    histogram.reset();
+    Assert.assertEquals(0, histogram.getCount());
+    Assert.assertEquals(0, histogram.getMax());
+  }
+
+  @Test
+  public void testBucketsCoverEveryValue() {
+    for (long value : new long[] {0, 1, 31, 32, 33, 63, 64, 65, 1000, 123456789L,
+        Long.MAX_VALUE}) {
+      int bucket = LatencyHistogram.bucket(value);
+      Assert.assertTrue(LatencyHistogram.highestInBucket(bucket) >= value);
+      Assert.assertTrue(bucket == 0 || LatencyHistogram.highestInBucket(bucket - 1) < value);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBadPercentile() {
+    new LatencyHistogram().getValueAtPercentile(101);
+  }
+
+  @Test
+  public void testInstrumentedModelCountsCalls() {
+    model.startGame();
+    IPlayer red = model.getRedPlayer();
+    model.isMoveLegal(0, 0, red.getHand().get(0), true);
+    model.isMoveLegal(0, 1, red.getHand().get(0), true);
+    model.placeCard(0, 0, red.getHand().get(1));
+    model.passTurn();
+    model.scoreAtRow(0, red);
+    model.currentScore(red);
+    model.getBoardCopy();
+    model.getPosition();
+
+    Assert.assertEquals(2, metrics.getCount(ModelOperation.IS_MOVE_LEGAL));
+    for (ModelOperation operation : ModelOperation.values()) {
+      if (operation != ModelOperation.IS_MOVE_LEGAL) {
+        Assert.assertEquals(1, metrics.getCount(operation));
+      }
+      Assert.assertEquals(metrics.getCount(operation),
+              metrics.getHistogram(operation).getCount());
+      Assert.assertEquals(100, metrics.getHistogram(operation).getMax());
+    }
+    Assert.assertTrue(metrics.dump().contains("placeCard"));
+  }
+
+  @Test
+  public void testFailedCallsAreNotRecorded() {
+    try {
+      model.passTurn();
+      Assert.fail("Expected an exception");
+    } catch (IllegalStateException e) {
+      // the game hasn't started
+    }
+    Assert.assertEquals(0, metrics.getCount(ModelOperation.PASS_TURN));
+  }
+
+  @Test
+  public void testSampling() {
+    ModelMetrics sampled = new ModelMetrics(() -> time += 100, 4);
+    IPawnsBoardModel game = new InstrumentedPawnsBoardModel(model, sampled);
+    game.startGame();
+    for (int i = 0; i < 10; i++) {
+      game.scoreAtRow(0, game.getRedPlayer());
+    }
+    game.passTurn();
+    Assert.assertEquals(10, sampled.getCount(ModelOperation.SCORE_AT_ROW));
+    Assert.assertEquals(3, sampled.getHistogram(ModelOperation.SCORE_AT_ROW).getCount());
+    Assert.assertEquals(1, sampled.getHistogram(ModelOperation.PASS_TURN).getCount());
+    try {
+      new ModelMetrics(System::nanoTime, 3);
+      Assert.fail("Expected an exception");
+    } catch (IllegalArgumentException e) {
+      // not a power of two
+    }
+  }
+
+  @Test
+  public void testMBeans() throws JMException {
+    model.startGame();
+    model.passTurn();
+    metrics.registerMBeans("test");
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(
+              "cs3500.pawnsboard:type=ModelMetrics,name=\"test\",operation=passTurn");
+      Assert.assertEquals(1L, server.getAttribute(name, "Count"));
+      Assert.assertEquals(100L, server.getAttribute(name, "P99"));
+      server.invoke(name, "reset", null, null);
+      Assert.assertEquals(0L, server.getAttribute(name, "Count"));
+    } finally {
+      metrics.unregisterMBeans();
+    }
+    metrics.registerMBeans("test");
+    metrics.unregisterMBeans();
+  }
+}
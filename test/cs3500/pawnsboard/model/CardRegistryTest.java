@@ -0,0 +1,154 @@
+package cs3500.pawnsboard.model;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests that CardRegistry hands out one canonical instance per distinct card.
+ */
+public class CardRegistryTest {
+  private List<ICard>[] decks;
+  private CardRegistry registry;
+  private InfluenceGrid cross;
+  private InfluenceGrid corner;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+    registry = new CardRegistry();
+    cross = new InfluenceGrid(new String[]{"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"});
+    corner = new InfluenceGrid(new String[]{"IXXXX", "XXXXX", "XXCXX", "XXXXX", "XXXXX"});
+  }
+
+  @Test
+  public void testLoadedDecksShareCards() throws FileNotFoundException {
+    List<ICard>[] again = DeckReader.readDeckFile("docs" + File.separator + "deck.config");
+    for (int i = 0; i < decks[0].size(); i++) {
+      Assert.assertSame(decks[0].get(i), again[0].get(i));
+      Assert.assertSame(decks[1].get(i), again[1].get(i));
+      Assert.assertSame(decks[1].get(i), CardRegistry.global().mirrored(decks[0].get(i)));
+    }
+  }
+
+  @Test
+  public void testInternReturnsCanonicalCard() {
+    ICard first = registry.intern("Guardian", 1, 3, cross);
+    ICard second = registry.intern(new Card("Guardian", 1, 3, new InfluenceGrid(
+            new String[]{"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"})));
+    Assert.assertSame(first, second);
+    Assert.assertSame(first.getInfluenceGrid(), second.getInfluenceGrid());
+    Assert.assertNotSame(first, registry.intern("Guardian", 1, 4, cross));
+    Assert.assertSame(first, registry.intern("Guardian", 1, 3, cross.getMask()));
+  }
+
+  @Test
+  public void testMirroredVariants() {
+    ICard symmetric = registry.intern("Guardian", 1, 3, cross);
+    Assert.assertSame(symmetric, registry.mirrored(symmetric));
+
+    ICard card = registry.intern("Corner", 2, 2, corner);
+    ICard mirror = registry.mirrored(card);
+    Assert.assertTrue(mirror.getInfluenceGrid().isInfluenced(0, 4));
+    Assert.assertFalse(mirror.getInfluenceGrid().isInfluenced(0, 0));
+    Assert.assertSame(card, registry.mirrored(mirror));
+    Assert.assertEquals(3, registry.size());
+  }
+
+  @Test
+  public void testIds() {
+    ICard card = registry.intern("Corner", 2, 2, corner);
+    ICard mirror = registry.mirrored(card);
+    Assert.assertNotEquals(registry.id(card), registry.id(mirror));
+    Assert.assertSame(card, registry.card(registry.id(card)));
+    Assert.assertSame(mirror, registry.card(registry.id(mirror)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownId() {
+    registry.card(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidCard() {
+    registry.intern("Broken", 4, 1, cross);
+  }
+
+  @Test
+  public void testConcurrentInternsAgree() throws InterruptedException, ExecutionException {
+    ExecutorService pool = Executors.newFixedThreadPool(4);
+    List<Future<List<ICard>>> results = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      results.add(pool.submit(() -> {
+        List<ICard> interned = new ArrayList<>();
+        for (ICard card : decks[0]) {
+          interned.add(registry.intern(card));
+        }
+        return interned;
+      }));
+    }
+    List<ICard> first = results.get(0).get();
+    for (Future<List<ICard>> result : results) {
+      List<ICard> interned = result.get();
+      for (int i = 0; i < first.size(); i++) {
+        Assert.assertSame(first.get(i), interned.get(i));
+      }
+    }
+    pool.shutdown();
+  }
+
+  @Test
+  public void testCardsCarryTheirIds() {
+    ICard canonical = registry.intern("Guardian", 1, 3, cross);
+    ICard copy = new Card("Guardian", 1, 3,
+            new InfluenceGrid(new String[]{"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"}));
+    Assert.assertEquals(canonical.hashCode(), copy.hashCode());
+    Assert.assertEquals(cross.hashCode(), copy.getInfluenceGrid().hashCode());
+    Assert.assertEquals(registry.id(canonical), registry.id(copy));
+    Assert.assertNotEquals(copy, new Card("Guardian", 1, 3, corner));
+
+    // ids belong to the registry, so a card from one registry gets a new id in another
+    ICard loaded = decks[0].get(0);
+    Assert.assertEquals(CardRegistry.global().id(loaded), loaded.getId());
+    Assert.assertEquals(loaded.getId(), CardRegistry.global().intern(copyOf(loaded)).getId());
+    Assert.assertEquals(registry.id(registry.intern(loaded)), registry.id(loaded));
+  }
+
+  @Test
+  public void testHandLookupsById() {
+    IPlayer player = new HumanPlayer("Red", new Deck(decks[0]), 5);
+    for (int i = 0; i < 5; i++) {
+      player.drawCard();
+    }
+    for (int i = 0; i < 5; i++) {
+      ICard held = player.getHand().get(i);
+      Assert.assertEquals(player.getHand().indexOf(held), player.indexOfCard(held));
+      Assert.assertEquals(player.getHand().indexOf(held), player.indexOfCard(copyOf(held)));
+    }
+    Assert.assertEquals(-1, player.indexOfCard(new Card("Nobody", 1, 1, corner)));
+    Assert.assertEquals(-1, player.indexOfCard(null));
+    // looking a card up doesn't register it
+    Assert.assertEquals(-1, CardRegistry.global().find(new Card("Nobody", 1, 1, corner)));
+    Assert.assertEquals(player.getHandCardId(0),
+            CardRegistry.global().find(copyOf(player.getHand().get(0))));
+  }
+
+  private static ICard copyOf(ICard card) {
+    return new Card(card.getName(), card.getCost(), card.getValue(),
+            InfluenceGrid.fromMask(card.getInfluenceGrid().getMask()));
+  }
+}
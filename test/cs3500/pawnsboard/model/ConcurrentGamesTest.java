@@ -0,0 +1,150 @@
+package cs3500.pawnsboard.model;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.IStrategy;
+import cs3500.pawnsboard.strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.strategy.Move;
+
+/**
+ * Stress tests for running many independent PawnsBoardModelImpl games in one JVM.
+ * Each game is first played alone on the test thread, then all games are played again in
+ * parallel on a shared thread pool, and every parallel result must match its solo result.
+ */
+public class ConcurrentGamesTest {
+  private static final int GAMES = 400;
+  private static final int THREADS = 8;
+
+  private List<ICard>[] decks;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+  }
+
+  @Test
+  public void testModelsHaveIndependentTurns() {
+    PawnsBoardModelImpl first = newModel(new Board(3, 5));
+    PawnsBoardModelImpl second = newModel(new Board(3, 5));
+    first.startGame();
+    Assert.assertEquals(GameState.NOT_STARTED, second.getGameState());
+
+    first.passTurn();
+    Assert.assertFalse(first.isRedTurn());
+    Assert.assertTrue(second.isRedTurn());
+
+    second.startGame();
+    second.passTurn();
+    second.passTurn();
+    Assert.assertTrue(second.isGameOver());
+    Assert.assertFalse(first.isGameOver());
+    Assert.assertEquals(GameState.ONGOING, first.getGameState());
+  }
+
+  @Test
+  public void testReadOnlyViewSharesTurnState() {
+    PawnsBoardModelImpl model = newModel(new Board(3, 5));
+    ReadOnlyPawnsBoardModel view = new ReadOnlyPawnsBoardModelImpl(model);
+    ReadOnlyPawnsBoardModel other =
+            new ReadOnlyPawnsBoardModelImpl(model.getBoard(), model.getRedPlayer(),
+                    model.getBluePlayer(), 5);
+    model.startGame();
+    model.passTurn();
+    Assert.assertEquals(GameState.ONGOING, view.getGameState());
+    Assert.assertFalse(view.isRedTurn());
+    Assert.assertEquals(GameState.NOT_STARTED, other.getGameState());
+    Assert.assertTrue(other.isRedTurn());
+  }
+
+  @Test
+  public void testParallelGamesMatchSoloGames() throws Exception {
+    List<String> expected = new ArrayList<>();
+    for (int game = 0; game < GAMES; game++) {
+      expected.add(playGame(game));
+    }
+
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int game = 0; game < GAMES; game++) {
+        int id = game;
+        results.add(pool.submit(() -> {
+          start.await();
+          return playGame(id);
+        }));
+      }
+      start.countDown();
+      for (int game = 0; game < GAMES; game++) {
+        Assert.assertEquals("game " + game, expected.get(game),
+                results.get(game).get(30, TimeUnit.SECONDS));
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Plays one machine-vs-machine game to completion. The board size and strategies are derived
+   * from the game number so the pool runs a mix of differently shaped games.
+   * @param game the game number
+   * @return a summary of the final game state, scores and board
+   */
+  private String playGame(int game) {
+    IStrategy[] strategies = {new FillFirstStrategy(), new MaximizeRowScoreStrategy()};
+    IBoard board = new Board(3 + game % 4, 5 + 2 * (game % 3));
+    PawnsBoardModelImpl model = newModel(board);
+    IStrategy redStrategy = strategies[game % 2];
+    IStrategy blueStrategy = strategies[(game / 2) % 2];
+
+    model.startGame();
+    while (!model.isGameOver()) {
+      IPlayer current = model.isRedTurn() ? model.getRedPlayer() : model.getBluePlayer();
+      IStrategy strategy = model.isRedTurn() ? redStrategy : blueStrategy;
+      Move move = strategy.chooseMove(model, current);
+      if (move.isPass()) {
+        model.passTurn();
+      }
+      else {
+        model.placeCard(move.getRow(), move.getCol(), move.getCard());
+      }
+    }
+
+    StringBuilder summary = new StringBuilder(model.getGameState().toString())
+            .append(' ').append(model.currentScore(model.getRedPlayer()))
+            .append(' ').append(model.currentScore(model.getBluePlayer()));
+    for (int row = 0; row < board.getRows(); row++) {
+      summary.append('\n');
+      for (int col = 0; col < board.getCols(); col++) {
+        ICell cell = board.getCell(row, col);
+        summary.append(cell.isOwnedByRed() ? 'r' : 'b').append(cell)
+                .append(cell.hasCard() ? cell.getCard().getName() : "").append(' ');
+      }
+    }
+    return summary.toString();
+  }
+
+  private PawnsBoardModelImpl newModel(IBoard board) {
+    IPlayer red = new HumanPlayer("Red", new Deck(decks[0]), 5);
+    IPlayer blue = new HumanPlayer("Blue", new Deck(decks[1]), 5);
+    return new PawnsBoardModelImpl(board, red, blue, 5);
+  }
+}
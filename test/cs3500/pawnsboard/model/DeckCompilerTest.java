@@ -0,0 +1,100 @@
+package cs3500.pawnsboard.model;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests that decks compiled by DeckCompiler load back into the same cards as the text deck.
+ */
+public class DeckCompilerTest {
+  private List<ICard>[] decks;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+  }
+
+  private byte[] compiled() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    DeckCompiler.write(decks[0], out);
+    return out.toByteArray();
+  }
+
+  @Test
+  public void testCompiledFileMatchesTextDeck() throws IOException {
+    File file = File.createTempFile("deck", ".pbdk");
+    try {
+      DeckCompiler.compile("docs" + File.separator + "deck.config", file.getPath());
+      List<ICard>[] loaded = DeckReader.readCompiledDeckFile(file.getPath());
+      Assert.assertEquals(decks[0], loaded[0]);
+      Assert.assertEquals(decks[1], loaded[1]);
+    } finally {
+      Assert.assertTrue(file.delete());
+    }
+  }
+
+  @Test
+  public void testEqualPatternsShareOneGrid() throws IOException {
+    List<ICard>[] loaded = DeckReader.readCompiledDeck(ByteBuffer.wrap(compiled()));
+    for (ICard first : loaded[0]) {
+      for (ICard second : loaded[1]) {
+        if (first.getInfluenceGrid().equals(second.getInfluenceGrid())) {
+          Assert.assertSame(first.getInfluenceGrid(), second.getInfluenceGrid());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testMirrorMaskMatchesReversedRows() {
+    for (int i = 0; i < decks[0].size(); i++) {
+      Assert.assertEquals(decks[1].get(i).getInfluenceGrid().getMask(),
+              InfluenceGrid.mirrorMask(decks[0].get(i).getInfluenceGrid().getMask()));
+      Assert.assertEquals(decks[0].get(i).getInfluenceGrid(),
+              InfluenceGrid.fromMask(decks[0].get(i).getInfluenceGrid().getMask()));
+    }
+  }
+
+  @Test
+  public void testBadMagic() throws IOException {
+    byte[] bytes = compiled();
+    bytes[0] = 0;
+    try {
+      DeckReader.readCompiledDeck(ByteBuffer.wrap(bytes));
+      Assert.fail("Expected an exception");
+    } catch (IllegalArgumentException e) {
+      Assert.assertEquals("Invalid compiled deck: bad magic number", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testTruncated() throws IOException {
+    byte[] bytes = compiled();
+    try {
+      DeckReader.readCompiledDeck(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 3)));
+      Assert.fail("Expected an exception");
+    } catch (IllegalArgumentException e) {
+      Assert.assertEquals("Invalid compiled deck: truncated", e.getMessage());
+    }
+  }
+
+  @Test(expected = FileNotFoundException.class)
+  public void testMissingTextDeck() throws IOException {
+    DeckCompiler.compile("docs" + File.separator + "missing.config",
+            "target" + File.separator + "missing.pbdk");
+  }
+}
@@ -0,0 +1,196 @@
+package cs3500.pawnsboard.model;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import cs3500.pawnsboard.controller.PlayerListener;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.IStrategy;
+import cs3500.pawnsboard.strategy.Move;
+
+/**
+ * Tests the deadline, fallback and statistics of MachinePlayer.
+ */
+public class MachinePlayerTest {
+  private List<ICard>[] decks;
+  private ExecutorService executor;
+  private CountDownLatch release;
+  private List<String> calls;
+  private PlayerListener listener;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+    executor = Executors.newSingleThreadExecutor();
+    release = new CountDownLatch(1);
+    calls = new ArrayList<>();
+    listener = new PlayerListener() {
+      @Override
+      public void onCardSelected(int index) {
+        calls.add("card " + index);
+      }
+
+      @Override
+      public void onCellSelected(int row, int col) {
+        calls.add("cell " + row + " " + col);
+      }
+
+      @Override
+      public void onConfirm() {
+        calls.add("confirm");
+      }
+
+      @Override
+      public void onPass() {
+        calls.add("pass");
+      }
+    };
+  }
+
+  @After
+  public void tearDown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  /**
+   * Builds a started game whose red player is the given machine player.
+   */
+  private PawnsBoardModelImpl newGame(MachinePlayer red) {
+    IPlayer blue = new HumanPlayer("Blue", new Deck(decks[1]), 5);
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(new Board(3, 5), red, blue, 5);
+    model.startGame();
+    return model;
+  }
+
+  /**
+   * A strategy that doesn't choose until the test releases it.
+   */
+  private IStrategy blocked() {
+    return (model, player) -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return Move.pass();
+    };
+  }
+
+  @Test
+  public void testStatsWithoutDeadline() {
+    MachinePlayer red = new MachinePlayer("Red", new Deck(decks[0]), 5,
+            new FillFirstStrategy());
+    red.move(newGame(red), listener);
+    Assert.assertEquals(List.of("card 0", "cell 0 0", "confirm"), calls);
+    Assert.assertEquals(1, red.getStats().getMoves());
+    Assert.assertEquals(0, red.getStats().getMisses());
+  }
+
+  @Test
+  public void testMissedDeadlineUsesFallback() throws InterruptedException {
+    MachinePlayer red = new MachinePlayer("Red", new Deck(decks[0]), 5, blocked(),
+            new FillFirstStrategy(), 20, executor);
+    PawnsBoardModelImpl model = newGame(red);
+    red.move(model, listener);
+    Assert.assertEquals(List.of("card 0", "cell 0 0", "confirm"), calls);
+    Assert.assertEquals(1, red.getStats().getMisses());
+    Assert.assertEquals(0, red.getStats().getMoves());
+
+    // the strategy is still running, so the next move goes straight to the fallback
+    red.move(model, listener);
+    Assert.assertEquals(2, red.getStats().getMisses());
+
+    release.countDown();
+    executor.shutdown();
+    Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    Assert.assertEquals(1, red.getStats().getMoves());
+  }
+
+  @Test
+  public void testLateStrategyReadsSnapshot() throws InterruptedException {
+    AtomicReference<Position> seenPosition = new AtomicReference<>();
+    AtomicReference<List<ICard>> seenHand = new AtomicReference<>();
+    AtomicReference<IPlayer> seenPlayer = new AtomicReference<>();
+    MachinePlayer red = new MachinePlayer("Red", new Deck(decks[0]), 5, (model, player) -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      // by now the game has moved on without this strategy
+      seenPosition.set(model.getPosition());
+      seenHand.set(model.getPlayerHand(player));
+      seenPlayer.set(player);
+      return Move.pass();
+    }, new FillFirstStrategy(), 20, executor);
+    PawnsBoardModelImpl model = newGame(red);
+    Position asked = model.getPosition();
+    List<ICard> hand = red.getHand();
+    int deckSize = red.getDeck().size();
+
+    red.move(model, listener);
+    Assert.assertEquals(1, red.getStats().getMisses());
+    model.placeCard(0, 0, red.getHand().get(0));
+    model.placeCard(0, 4, model.getBluePlayer().getHand().get(0));
+    model.passTurn();
+
+    release.countDown();
+    executor.shutdown();
+    Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    Assert.assertEquals(asked, seenPosition.get());
+    Assert.assertNotEquals(asked, model.getPosition());
+    Assert.assertEquals(hand, seenHand.get());
+    Assert.assertNotSame(red, seenPlayer.get());
+    Assert.assertEquals("Red", seenPlayer.get().getName());
+    Assert.assertEquals(deckSize, seenPlayer.get().getDeck().size());
+  }
+
+  @Test
+  public void testMissedDeadlineWithoutFallbackPasses() {
+    MachinePlayer red = new MachinePlayer("Red", new Deck(decks[0]), 5, blocked(), null, 20,
+            executor);
+    red.move(newGame(red), listener);
+    Assert.assertEquals(List.of("pass"), calls);
+  }
+
+  @Test
+  public void testStrategyWithinDeadline() {
+    MachinePlayer red = new MachinePlayer("Red", new Deck(decks[0]), 5,
+            new FillFirstStrategy(), null, 5000, executor);
+    red.move(newGame(red), listener);
+    Assert.assertEquals(List.of("card 0", "cell 0 0", "confirm"), calls);
+    Assert.assertEquals(1, red.getStats().getMoves());
+    Assert.assertEquals(0, red.getStats().getMisses());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testStrategyFailureIsRethrown() {
+    MachinePlayer red = new MachinePlayer("Red", new Deck(decks[0]), 5, (model, player) -> {
+      throw new IllegalStateException("no move");
+    }, null, 5000, executor);
+    red.move(newGame(red), listener);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDeadlineNeedsExecutor() {
+    new MachinePlayer("Red", new Deck(decks[0]), 5, new FillFirstStrategy(), null, 10, null);
+  }
+}
@@ -0,0 +1,156 @@
+package cs3500.pawnsboard.model;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.IStrategy;
+import cs3500.pawnsboard.strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.strategy.Move;
+
+/**
+ * Tests that PackedBoard behaves exactly like Board, both for single operations and for
+ * whole games played through PawnsBoardModelImpl.
+ */
+public class PackedBoardTest {
+  private List<ICard>[] decks;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEvenColumns() {
+    new PackedBoard(3, 4);
+  }
+
+  @Test
+  public void testAddPawnsAndPlaceCard() {
+    IBoard board = new PackedBoard(3, 5);
+    ICell cell = board.getCell(1, 2);
+    Assert.assertTrue(cell.isEmpty());
+    cell.addPawns(2, true);
+    Assert.assertEquals(2, cell.getPawnCount());
+    Assert.assertTrue(cell.isOwnedByRed());
+    cell.addPawns(5, true);
+    Assert.assertEquals(3, cell.getPawnCount());
+    cell.switchPawnsOwnership();
+    Assert.assertFalse(cell.isOwnedByRed());
+
+    ICard card = decks[1].get(4);
+    board.placeCard(1, 2, card, false);
+    Assert.assertTrue(cell.hasCard());
+    Assert.assertFalse(cell.hasPawns());
+    Assert.assertEquals(card, cell.getCard());
+    Assert.assertEquals("B", cell.toString());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPlaceOnOccupiedCell() {
+    IBoard board = new PackedBoard(3, 5);
+    board.getCell(0, 0).addPawns(1, true);
+    board.placeCard(0, 0, decks[0].get(0), true);
+    board.getCell(0, 0).addPawns(1, true);
+    board.placeCard(0, 0, decks[0].get(0), true);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPlaceOnEnemyPawns() {
+    IBoard board = new PackedBoard(3, 5);
+    board.getCell(0, 0).addPawns(1, false);
+    board.placeCard(0, 0, decks[0].get(0), true);
+  }
+
+  @Test
+  public void testRandomOperationsMatchBoard() {
+    Random random = new Random(3500);
+    int[][] sizes = {{3, 5}, {5, 7}, {4, 63}, {3, 65}, {5, 129}, {7, 131}};
+    for (int[] size : sizes) {
+      IBoard expected = new Board(size[0], size[1]);
+      IBoard actual = new PackedBoard(size[0], size[1]);
+      for (int step = 0; step < 4000; step++) {
+        int row = random.nextInt(size[0]);
+        int col = random.nextInt(size[1]);
+        boolean isRed = random.nextBoolean();
+        ICard card = decks[isRed ? 0 : 1].get(random.nextInt(decks[0].size()));
+        int op = random.nextInt(10);
+        if (op < 3) {
+          expected.getCell(row, col).addPawns(1, isRed);
+          actual.getCell(row, col).addPawns(1, isRed);
+        }
+        else if (op < 5) {
+          ICell cell = expected.getCell(row, col);
+          if (!cell.hasCard() && cell.hasPawns() && cell.getPawnCount() >= card.getCost()) {
+            expected.placeCard(row, col, card, cell.isOwnedByRed());
+            actual.placeCard(row, col, card, actual.getCell(row, col).isOwnedByRed());
+          }
+        }
+        else {
+          expected.applyInfluence(row, col, card, isRed);
+          actual.applyInfluence(row, col, card, isRed);
+        }
+      }
+      assertSameBoard(expected, actual);
+    }
+  }
+
+  @Test
+  public void testGamesMatchBoard() {
+    IStrategy[] strategies = {new FillFirstStrategy(), new MaximizeRowScoreStrategy()};
+    for (int game = 0; game < 24; game++) {
+      int rows = 3 + game % 4;
+      int cols = 5 + 2 * (game % 3);
+      IBoard expected = new Board(rows, cols);
+      IBoard actual = new PackedBoard(rows, cols);
+      IStrategy strategy = strategies[game % 2];
+      PawnsBoardModelImpl expectedModel = playGame(expected, strategy);
+      PawnsBoardModelImpl actualModel = playGame(actual, strategy);
+      assertSameBoard(expected, actual);
+      Assert.assertEquals(expectedModel.getGameState(), actualModel.getGameState());
+    }
+  }
+
+  private PawnsBoardModelImpl playGame(IBoard board, IStrategy strategy) {
+    IPlayer red = new HumanPlayer("Red", new Deck(decks[0]), 5);
+    IPlayer blue = new HumanPlayer("Blue", new Deck(decks[1]), 5);
+    PawnsBoardModelImpl model = new PawnsBoardModelImpl(board, red, blue, 5);
+    model.startGame();
+    while (!model.isGameOver()) {
+      Move move = strategy.chooseMove(model, model.isRedTurn() ? red : blue);
+      if (move.isPass()) {
+        model.passTurn();
+      }
+      else {
+        model.placeCard(move.getRow(), move.getCol(), move.getCard());
+      }
+    }
+    return model;
+  }
+
+  private void assertSameBoard(IBoard expected, IBoard actual) {
+    for (int row = 0; row < expected.getRows(); row++) {
+      for (int col = 0; col < expected.getCols(); col++) {
+        ICell e = expected.getCell(row, col);
+        ICell a = actual.getCell(row, col);
+        String at = row + "," + col;
+        Assert.assertEquals(at, e.hasCard(), a.hasCard());
+        Assert.assertEquals(at, e.getPawnCount(), a.getPawnCount());
+        Assert.assertEquals(at, e.getCard(), a.getCard());
+        Assert.assertEquals(at, e.isOwnedByRed(), a.isOwnedByRed());
+        Assert.assertEquals(at, e.toString(), a.toString());
+      }
+    }
+  }
+}
@@ -8,6 +8,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * A test class for the model portion of the Pawns Board game.
@@ -43,7 +44,7 @@ public class PawnsBoardModelTest {
 
     model = new PawnsBoardModelImpl(board, redPlayer, bluePlayer, 5);
 
-    readOnlyModel = new ReadOnlyPawnsBoardModelImpl(board, redPlayer, bluePlayer, 5);
+    readOnlyModel = new ReadOnlyPawnsBoardModelImpl(model);
 
     card1 = new Card(
             "Guardian",
@@ -661,6 +662,70 @@ public class PawnsBoardModelTest {
     Assert.assertTrue(board.getCell(0, 0).hasCard());
   }
 
+  /**
+   * Checks the board's row totals against a scan of every cell.
+   */
+  private void assertRowScoresMatchScan() {
+    for (int row = 0; row < board.getRows(); row++) {
+      int red = 0;
+      int blue = 0;
+      for (int col = 0; col < board.getCols(); col++) {
+        ICell cell = board.getCell(row, col);
+        if (cell.hasCard() && cell.isOwnedByRed()) {
+          red += cell.getCard().getValue();
+        }
+        else if (cell.hasCard()) {
+          blue += cell.getCard().getValue();
+        }
+      }
+      Assert.assertEquals(red, board.getRowScore(row, true));
+      Assert.assertEquals(blue, board.getRowScore(row, false));
+    }
+  }
+
+  @Test
+  public void testRowScoresFollowEveryChange() {
+    checkRowScoresFollowEveryChange();
+  }
+
+  @Test
+  public void testPackedRowScoresFollowEveryChange() {
+    redPlayer = new HumanPlayer("Red", new Deck(decks[0]), 5);
+    bluePlayer = new HumanPlayer("Blue", new Deck(decks[1]), 5);
+    board = new PackedBoard(3, 5);
+    model = new PawnsBoardModelImpl(board, redPlayer, bluePlayer, 5);
+    checkRowScoresFollowEveryChange();
+  }
+
+  /**
+   * Changes cells through the model, the board and the cells themselves, checking the row
+   * totals against a scan after each change.
+   */
+  private void checkRowScoresFollowEveryChange() {
+    model.startGame();
+    model.placeCard(0, 0, redPlayer.getHand().get(0));
+    assertRowScoresMatchScan();
+
+    // a card placed on the cell directly rather than through the board
+    board.getCell(1, 4).placeCard(bluePlayer.getHand().get(0), false);
+    assertRowScoresMatchScan();
+    Assert.assertEquals(bluePlayer.getHand().get(0).getValue(), model.scoreAtRow(1, bluePlayer));
+
+    board.getCell(0, 0).switchPawnsOwnership();
+    assertRowScoresMatchScan();
+    board.getCell(0, 0).addPawns(1, true);
+    assertRowScoresMatchScan();
+
+    board.restoreCell(1, 4, 1, false);
+    assertRowScoresMatchScan();
+    Assert.assertEquals(0, model.scoreAtRow(1, bluePlayer));
+
+    model.makeMove(MoveEncoding.encode(0, 2, 4));
+    assertRowScoresMatchScan();
+    model.unmakeMove();
+    assertRowScoresMatchScan();
+  }
+
   @Test
   public void testValidBoardCreation() {
     IBoard board = new Board(3, 5);
@@ -877,4 +942,339 @@ public class PawnsBoardModelTest {
     }
   }
 
+  @Test
+  public void testBoardCopyKeepsPlacedCards() {
+    model.startGame();
+    model.placeCard(0, 0, redPlayer.getHand().get(0));
+    model.placeCard(1, 4, bluePlayer.getHand().get(0));
+    IBoard copy = model.getBoardCopy();
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 5; col++) {
+        ICell original = board.getCell(row, col);
+        ICell copied = copy.getCell(row, col);
+        Assert.assertEquals(original.hasCard(), copied.hasCard());
+        Assert.assertEquals(original.getCard(), copied.getCard());
+        Assert.assertEquals(original.getPawnCount(), copied.getPawnCount());
+        if (original.hasCard() || original.hasPawns()) {
+          Assert.assertEquals(original.isOwnedByRed(), copied.isOwnedByRed());
+        }
+      }
+      Assert.assertEquals(board.getRowScore(row, true), copy.getRowScore(row, true));
+      Assert.assertEquals(board.getRowScore(row, false), copy.getRowScore(row, false));
+    }
+  }
+
+  @Test
+  public void testLegalMovesMatchIsMoveLegal() {
+    model.startGame();
+    model.placeCard(0, 0, redPlayer.getHand().get(0));
+    model.placeCard(1, 4, bluePlayer.getHand().get(0));
+    for (boolean isRed : new boolean[] {true, false}) {
+      List<ICard> hand = (isRed ? redPlayer : bluePlayer).getHand();
+      int[] moves = new int[MoveEncoding.bufferSize(hand.size(), 3, 5)];
+      int count = readOnlyModel.legalMoves(isRed, moves);
+
+      List<Integer> expected = new ArrayList<>();
+      for (int row = 0; row < 3; row++) {
+        for (int col = 0; col < 5; col++) {
+          for (int i = 0; i < hand.size(); i++) {
+            if (readOnlyModel.isMoveLegal(row, col, hand.get(i), isRed)) {
+              expected.add(MoveEncoding.encode(i, row, col));
+            }
+          }
+        }
+      }
+      Assert.assertFalse(expected.isEmpty());
+      Assert.assertEquals(expected.size(), count);
+      for (int i = 0; i < count; i++) {
+        Assert.assertEquals(expected.get(i).intValue(), moves[i]);
+        Assert.assertTrue(readOnlyModel.isMoveLegal(MoveEncoding.row(moves[i]),
+                MoveEncoding.col(moves[i]), hand.get(MoveEncoding.cardIndex(moves[i])), isRed));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLegalMovesBufferTooSmall() {
+    model.startGame();
+    readOnlyModel.legalMoves(true, new int[1]);
+  }
+
+  @Test
+  public void testMoveEncodingRoundTrip() {
+    int move = MoveEncoding.encode(127, 4095, 4095);
+    Assert.assertEquals(127, MoveEncoding.cardIndex(move));
+    Assert.assertEquals(4095, MoveEncoding.row(move));
+    Assert.assertEquals(4095, MoveEncoding.col(move));
+    Assert.assertTrue(move > 0);
+    Assert.assertTrue(MoveEncoding.encode(0, 2, 0) < MoveEncoding.encode(1, 0, 0));
+  }
+
+  @Test
+  public void testInfluenceGridCompiledOffsets() {
+    InfluenceGrid bee = new InfluenceGrid(new String[]{
+        "XXIXX", "XXXXX", "XXCXX", "XXXXX", "XXIXX"});
+    Assert.assertEquals(2, bee.getInfluenceCount());
+    Assert.assertEquals(-2, bee.getRowOffset(0));
+    Assert.assertEquals(0, bee.getColOffset(0));
+    Assert.assertEquals(2, bee.getRowOffset(1));
+    Assert.assertEquals(0, bee.getColOffset(1));
+    Assert.assertEquals((1 << 2) | (1 << 22), bee.getMask());
+    Assert.assertEquals(0b00100, bee.getRowMask(0));
+    Assert.assertEquals(0, bee.getRowMask(2));
+    Assert.assertTrue(bee.isInfluenced(4, 2));
+    Assert.assertFalse(bee.isInfluenced(2, 2));
+    Assert.assertFalse(bee.isInfluenced(5, 2));
+  }
+
+  @Test
+  public void testInfluenceGridEqualsAndHashCode() {
+    String[] rows = {"XXXXX", "XXIXX", "XICIX", "XXIXX", "XXXXX"};
+    InfluenceGrid first = new InfluenceGrid(rows);
+    InfluenceGrid second = new InfluenceGrid(rows);
+    Assert.assertEquals(first, second);
+    Assert.assertEquals(first.hashCode(), second.hashCode());
+    first.getGrid()[1][2] = 'X';
+    Assert.assertTrue(first.isInfluenced(1, 2));
+    Assert.assertEquals(first, second);
+  }
+
+  @Test
+  public void testSeededShuffleIsReproducible() {
+    Deck first = new Deck(decks[0], 42);
+    Deck second = new Deck(decks[0], 42);
+    Deck other = new Deck(decks[0], 43);
+    List<ICard> drawn = new ArrayList<>();
+    boolean differs = false;
+    while (first.size() > 0) {
+      ICard card = first.drawCard();
+      Assert.assertSame(card, second.drawCard());
+      differs |= card != other.drawCard();
+      drawn.add(card);
+    }
+    Assert.assertTrue(differs);
+    Assert.assertEquals(decks[0].size(), drawn.size());
+    Assert.assertTrue(drawn.containsAll(decks[0]));
+    Assert.assertNull(first.drawCard());
+  }
+
+  @Test
+  public void testShuffleKeepsDrawnCardsOut() {
+    Deck deck = new Deck(decks[0]);
+    ICard top = deck.drawCard();
+    deck.shuffle(new SplittableRandom(7));
+    Assert.assertEquals(decks[0].size() - 1, deck.size());
+    List<ICard> rest = new ArrayList<>();
+    while (deck.size() > 0) {
+      rest.add(deck.drawCard());
+    }
+    Assert.assertSame(decks[0].get(0), top);
+    List<ICard> remaining = decks[0].subList(1, decks[0].size());
+    Assert.assertEquals(remaining.size(), rest.size());
+    Assert.assertTrue(rest.containsAll(remaining));
+  }
+
+  @Test
+  public void testHandViewCachedUntilHandChanges() {
+    model.startGame();
+    List<ICard> hand = redPlayer.getHand();
+    Assert.assertSame(hand, redPlayer.getHand());
+    Assert.assertSame(hand, readOnlyModel.getPlayerHand(redPlayer));
+
+    model.placeCard(0, 0, hand.get(0));
+    List<ICard> after = redPlayer.getHand();
+    Assert.assertNotSame(hand, after);
+    Assert.assertEquals(decks[0].subList(0, 5), hand);
+    Assert.assertEquals(decks[0].subList(1, 6), after);
+  }
+
+  @Test
+  public void testMakeUnmakeKeepsHandView() {
+    model.startGame();
+    List<ICard> redHand = redPlayer.getHand();
+    List<ICard> blueHand = bluePlayer.getHand();
+    model.makeMove(MoveEncoding.encode(0, 0, 0));
+    model.makeMove(MoveEncoding.encode(0, 1, 4));
+    model.unmakeMove();
+    model.unmakeMove();
+    // the hands are back to the cards they held, so the same snapshots are handed out
+    Assert.assertSame(redHand, redPlayer.getHand());
+    Assert.assertSame(blueHand, bluePlayer.getHand());
+
+    model.makeMove(MoveEncoding.encode(0, 0, 0));
+    Assert.assertEquals(decks[0].subList(1, 6), redPlayer.getHand());
+    model.unmakeMove();
+    Assert.assertEquals(redHand, redPlayer.getHand());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testHandViewUnmodifiable() {
+    model.startGame();
+    redPlayer.getHand().clear();
+  }
+
+  @Test
+  public void testHandCardIds() {
+    model.startGame();
+    redPlayer.removeCard(redPlayer.getHand().get(2));
+    Assert.assertEquals(4, redPlayer.getHandSize());
+    for (int i = 0; i < redPlayer.getHandSize(); i++) {
+      Assert.assertEquals(CardRegistry.global().id(redPlayer.getHand().get(i)),
+              redPlayer.getHandCardId(i));
+      Assert.assertSame(redPlayer.getHand().get(i),
+              CardRegistry.global().card(redPlayer.getHandCardId(i)));
+    }
+  }
+
+  @Test
+  public void testPositionSnapshot() {
+    model.startGame();
+    Position start = model.getPosition();
+    Assert.assertEquals(3, start.getRows());
+    Assert.assertEquals(5, start.getCols());
+    Assert.assertTrue(start.isRedTurn());
+    Assert.assertEquals(1, start.getPawnCount(0, 0));
+    Assert.assertTrue(start.isOwnedByRed(0, 0));
+    Assert.assertFalse(start.isOwnedByRed(0, 4));
+    Assert.assertEquals(0, start.getPawnCount(0, 2));
+    Assert.assertEquals(CardRegistry.global().id(redPlayer.getHand().get(1)),
+            start.getHandCardId(true, 1));
+
+    ICard card = redPlayer.getHand().get(0);
+    model.placeCard(0, 0, card);
+    model.passTurn();
+    Position after = model.getPosition();
+    Assert.assertNotEquals(start, after);
+    Assert.assertEquals(1, start.getPawnCount(0, 0));
+    Assert.assertFalse(start.hasCard(0, 0));
+    Assert.assertEquals(card, after.getCard(0, 0));
+    Assert.assertEquals(-1, after.getCardId(0, 1));
+    Assert.assertTrue(after.isRedTurn());
+    Assert.assertTrue(after.hasBluePassed());
+    Assert.assertFalse(after.hasRedPassed());
+
+    Position again = model.getPosition();
+    Assert.assertNotSame(after, again);
+    Assert.assertEquals(after, again);
+    Assert.assertEquals(after.hashCode(), again.hashCode());
+  }
+
+  @Test
+  public void testPositionToBoard() {
+    model.startGame();
+    model.placeCard(0, 0, redPlayer.getHand().get(0));
+    Position position = model.getPosition();
+    IBoard copy = position.toBoard();
+    for (int row = 0; row < board.getRows(); row++) {
+      for (int col = 0; col < board.getCols(); col++) {
+        Assert.assertEquals(board.getCell(row, col).getPawnCount(),
+                copy.getCell(row, col).getPawnCount());
+        Assert.assertEquals(board.getCell(row, col).getCard(), copy.getCell(row, col).getCard());
+        Assert.assertEquals(position.isOwnedByRed(row, col),
+                copy.getCell(row, col).isOwnedByRed() && (copy.getCell(row, col).hasPawns()
+                        || copy.getCell(row, col).hasCard()));
+      }
+    }
+  }
+
+  /**
+   * Makes moves with makeMove until the game ends, then takes them all back, checking that
+   * every position, deck and row total comes back.
+   */
+  private void checkMakeUnmake(IBoard gameBoard) {
+    IPlayer red = new HumanPlayer("Red", new Deck(decks[0], 7), 5);
+    IPlayer blue = new HumanPlayer("Blue", new Deck(decks[1], 7), 5);
+    PawnsBoardModelImpl game = new PawnsBoardModelImpl(gameBoard, red, blue, 5);
+    game.startGame();
+    List<Position> positions = new ArrayList<>();
+    List<String> decksAndScores = new ArrayList<>();
+    int[] moves = new int[MoveEncoding.bufferSize(5, gameBoard.getRows(), gameBoard.getCols())];
+    int turn = 0;
+    while (game.getGameState() == GameState.ONGOING) {
+      positions.add(game.getPosition());
+      decksAndScores.add(describeDecksAndScores(game));
+      int count = game.legalMoves(game.isRedTurn(), moves);
+      game.makeMove(count == 0 ? MoveEncoding.PASS : moves[(turn * 31) % count]);
+      turn++;
+    }
+    Assert.assertTrue(turn > 2);
+    for (int i = positions.size() - 1; i >= 0; i--) {
+      game.unmakeMove();
+      Assert.assertEquals(GameState.ONGOING, game.getGameState());
+      Assert.assertEquals(positions.get(i), game.getPosition());
+      Assert.assertEquals(decksAndScores.get(i), describeDecksAndScores(game));
+    }
+  }
+
+  private static String describeDecksAndScores(PawnsBoardModelImpl game) {
+    StringBuilder text = new StringBuilder();
+    text.append(game.getRedPlayer().getDeck().size()).append(' ')
+            .append(game.getBluePlayer().getDeck().size()).append(game.getRedPlayer().getHand())
+            .append(game.getBluePlayer().getHand());
+    for (int row = 0; row < game.getBoard().getRows(); row++) {
+      text.append(' ').append(game.getBoard().getRowScore(row, true)).append('/')
+              .append(game.getBoard().getRowScore(row, false));
+    }
+    return text.toString();
+  }
+
+  @Test
+  public void testMakeUnmakeRestoresEveryPosition() {
+    checkMakeUnmake(new Board(5, 7));
+    checkMakeUnmake(new PackedBoard(5, 7));
+  }
+
+  @Test
+  public void testMakeMovePassesEndGame() {
+    model.startGame();
+    model.makeMove(MoveEncoding.PASS);
+    model.makeMove(MoveEncoding.PASS);
+    Assert.assertNotEquals(GameState.ONGOING, model.getGameState());
+    model.unmakeMove();
+    Assert.assertEquals(GameState.ONGOING, model.getGameState());
+    Assert.assertFalse(model.isRedTurn());
+    Assert.assertTrue(model.getPosition().hasRedPassed());
+    model.unmakeMove();
+    Assert.assertTrue(model.isRedTurn());
+    Assert.assertFalse(model.getPosition().hasRedPassed());
+  }
+
+  @Test
+  public void testMakeMoveErrors() {
+    try {
+      model.makeMove(MoveEncoding.PASS);
+      Assert.fail("Expected an exception");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("Game hasn't started", e.getMessage());
+    }
+    model.startGame();
+    Position start = model.getPosition();
+    try {
+      model.makeMove(MoveEncoding.encode(0, 0, 2));
+      Assert.fail("Expected an exception");
+    } catch (IllegalArgumentException e) {
+      // the cell has no pawns
+    }
+    try {
+      model.makeMove(MoveEncoding.encode(5, 0, 0));
+      Assert.fail("Expected an exception");
+    } catch (IllegalArgumentException e) {
+      // the hand only has 5 cards
+    }
+    Assert.assertEquals(start, model.getPosition());
+    try {
+      model.unmakeMove();
+      Assert.fail("Expected an exception");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("No move to take back", e.getMessage());
+    }
+    model.makeMove(MoveEncoding.encode(1, 0, 0));
+    model.placeCard(0, 4, bluePlayer.getHand().get(0));
+    try {
+      model.unmakeMove();
+      Assert.fail("Expected an exception");
+    } catch (IllegalStateException e) {
+      // placeCard can't be taken back
+    }
+  }
 }
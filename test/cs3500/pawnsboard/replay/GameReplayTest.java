@@ -0,0 +1,170 @@
+package cs3500.pawnsboard.replay;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.GameState;
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.ICell;
+import cs3500.pawnsboard.model.IPawnsBoardModel;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.IStrategy;
+import cs3500.pawnsboard.strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.strategy.Move;
+
+/**
+ * Tests that games recorded through RecordingPawnsBoardModel replay to the same positions.
+ */
+public class GameReplayTest {
+  private List<ICard>[] decks;
+  private ByteArrayOutputStream bytes;
+  private List<String> positions;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+    bytes = new ByteArrayOutputStream();
+    positions = new ArrayList<>();
+  }
+
+  /**
+   * Plays a recorded game between FillFirst and MaximizeRowScore, noting every position.
+   */
+  private void playRecordedGame(long seed) throws IOException {
+    IPlayer red = new HumanPlayer("Red", new Deck(decks[0], seed), 5);
+    IPlayer blue = new HumanPlayer("Blue", new Deck(decks[1], seed), 5);
+    GameLogWriter writer = new GameLogWriter(bytes, decks[0], decks[1], 5, 7, 5, seed);
+    IPawnsBoardModel model = new RecordingPawnsBoardModel(
+            new PawnsBoardModelImpl(new Board(5, 7), red, blue, 5), writer);
+    model.startGame();
+    IStrategy redStrategy = new FillFirstStrategy();
+    IStrategy blueStrategy = new MaximizeRowScoreStrategy();
+    positions.add(describe(model));
+    while (model.getGameState() == GameState.ONGOING) {
+      IPlayer player = model.isRedTurn() ? red : blue;
+      Move move = (model.isRedTurn() ? redStrategy : blueStrategy).chooseMove(model, player);
+      if (move.isPass()) {
+        model.passTurn();
+      }
+      else {
+        model.placeCard(move.getRow(), move.getCol(), move.getCard());
+      }
+      positions.add(describe(model));
+    }
+    writer.close();
+  }
+
+  private static String describe(IPawnsBoardModel model) {
+    StringBuilder text = new StringBuilder();
+    for (int row = 0; row < model.getBoard().getRows(); row++) {
+      for (int col = 0; col < model.getBoard().getCols(); col++) {
+        ICell cell = model.getBoard().getCell(row, col);
+        text.append(cell.hasCard() ? cell.getCard().getName() : cell.getPawnCount())
+                .append(cell.isOwnedByRed() ? 'r' : 'b').append(' ');
+      }
+      text.append('\n');
+    }
+    return text.append(model.getRedPlayer().getHand()).append(model.getBluePlayer().getHand())
+            .append(model.isRedTurn()).append(model.getGameState()).toString();
+  }
+
+  @Test
+  public void testReplayRebuildsEveryPosition() throws IOException {
+    playRecordedGame(11);
+    GameLog log = GameLog.read(new ByteArrayInputStream(bytes.toByteArray()));
+    Assert.assertEquals(positions.size() - 1, log.getMoveCount());
+    Assert.assertEquals(11, log.getSeed());
+    Assert.assertEquals(5, log.getRows());
+    Assert.assertEquals(7, log.getCols());
+
+    GameReplay replay = new GameReplay(log, decks[0], decks[1]);
+    for (int moves = 0; moves <= log.getMoveCount(); moves++) {
+      Assert.assertEquals(positions.get(moves), describe(replay.replay(moves)));
+    }
+    Assert.assertNotEquals(GameState.ONGOING, replay.replay().getGameState());
+  }
+
+  @Test
+  public void testIllegalMovesAreNotLogged() throws IOException {
+    IPlayer red = new HumanPlayer("Red", new Deck(decks[0]), 5);
+    IPlayer blue = new HumanPlayer("Blue", new Deck(decks[1]), 5);
+    GameLogWriter writer = new GameLogWriter(bytes, decks[0], decks[1], 3, 5, 5);
+    IPawnsBoardModel model = new RecordingPawnsBoardModel(
+            new PawnsBoardModelImpl(new Board(3, 5), red, blue, 5), writer);
+    model.startGame();
+    try {
+      model.placeCard(0, 2, red.getHand().get(0));
+      Assert.fail("Expected an exception");
+    } catch (IllegalArgumentException e) {
+      // the cell has no pawns
+    }
+    model.placeCard(0, 0, red.getHand().get(1));
+    model.passTurn();
+
+    GameLog log = GameLog.read(new ByteArrayInputStream(bytes.toByteArray()));
+    Assert.assertFalse(log.isShuffled());
+    Assert.assertEquals(2, log.getMoveCount());
+    Assert.assertEquals(GameLog.placement(1, 0, 0), log.getMove(0));
+    Assert.assertEquals(GameLog.PASS, log.getMove(1));
+    Assert.assertEquals(describe(model),
+            describe(new GameReplay(log, decks[0], decks[1]).replay()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongDecks() throws IOException {
+    playRecordedGame(3);
+    GameLog log = GameLog.read(new ByteArrayInputStream(bytes.toByteArray()));
+    new GameReplay(log, decks[1], decks[0]);
+  }
+
+  @Test
+  public void testIllegalLoggedMove() {
+    GameLog log = new GameLog(GameLog.deckHash(decks[0], decks[1]), 3, 5, 5, false, 0,
+            new int[] {GameLog.placement(0, 0, 2)});
+    try {
+      new GameReplay(log, decks[0], decks[1]).replay();
+      Assert.fail("Expected an exception");
+    } catch (IllegalStateException e) {
+      Assert.assertTrue(e.getMessage().startsWith("Move 0 of the log is illegal"));
+    }
+  }
+
+  @Test
+  public void testTruncatedLog() throws IOException {
+    playRecordedGame(5);
+    byte[] log = bytes.toByteArray();
+    try {
+      GameLog.read(new ByteArrayInputStream(Arrays.copyOf(log, log.length - 1)));
+      Assert.fail("Expected an exception");
+    } catch (IllegalArgumentException e) {
+      Assert.assertEquals("Invalid game log: truncated move", e.getMessage());
+    }
+    try {
+      GameLog.read(new ByteArrayInputStream(Arrays.copyOf(log, 10)));
+      Assert.fail("Expected an exception");
+    } catch (IllegalArgumentException e) {
+      Assert.assertEquals("Invalid game log: truncated header", e.getMessage());
+    }
+  }
+}
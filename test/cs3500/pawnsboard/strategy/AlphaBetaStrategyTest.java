@@ -0,0 +1,251 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.GameState;
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.MoveEncoding;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+/**
+ * Tests for AlphaBetaStrategy and the SearchPosition it searches on.
+ */
+public class AlphaBetaStrategyTest {
+  private List<ICard>[] decks;
+  private IPlayer red;
+  private IPlayer blue;
+  private PawnsBoardModelImpl model;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+    model = newGame(5, 7);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBudget() {
+    new AlphaBetaStrategy(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidDepth() {
+    new AlphaBetaStrategy(100, 0);
+  }
+
+  @Test
+  public void testMakeUnmakeRestoresPosition() {
+    Random random = new Random(7);
+    SearchPosition position = new SearchPosition(model, true);
+    int[] moves = new int[position.maxMoves()];
+    int count = position.generateMoves(moves);
+    int[] rootMoves = Arrays.copyOf(moves, count);
+    int redScore = position.score(true);
+    int blueScore = position.score(false);
+    long key = position.key();
+
+    int made = 0;
+    while (made < 12 && !position.isGameOver()) {
+      count = position.generateMoves(moves);
+      position.make(moves[random.nextInt(count)]);
+      Assert.assertEquals(position.computeKey(), position.key());
+      made++;
+    }
+    for (int i = 0; i < made; i++) {
+      position.unmake();
+    }
+
+    count = position.generateMoves(moves);
+    Assert.assertArrayEquals(rootMoves, Arrays.copyOf(moves, count));
+    Assert.assertEquals(redScore, position.score(true));
+    Assert.assertEquals(blueScore, position.score(false));
+    Assert.assertTrue(position.isRedTurn());
+    Assert.assertFalse(position.isGameOver());
+    Assert.assertEquals(key, position.key());
+  }
+
+  @Test
+  public void testTranspositionsShareKey() {
+    SearchPosition position = new SearchPosition(model, true);
+    int[] moves = new int[position.maxMoves()];
+    position.generateMoves(moves);
+    int redFirst = moves[0];
+
+    position.make(redFirst);
+    position.make(SearchPosition.PASS);
+    int count = position.generateMoves(moves);
+    int redSecond = moves[count - 2];
+    position.make(redSecond);
+    long key = position.key();
+    position.unmake();
+    position.unmake();
+    position.unmake();
+
+    position.make(redSecond);
+    position.make(SearchPosition.PASS);
+    position.make(redFirst);
+    Assert.assertEquals(key, position.key());
+    Assert.assertEquals(position.computeKey(), position.key());
+  }
+
+  @Test
+  public void testSharedTableIsUsed() {
+    TranspositionTable table = new TranspositionTable(1 << 12);
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(100000, 4, table);
+    Move move = strategy.chooseMove(model, red);
+    Assert.assertTrue(table.getStores() > 0);
+    Assert.assertTrue(table.getHits() > 0);
+    Assert.assertEquals(table.getProbes(), table.getHits() + table.getMisses());
+    Assert.assertTrue(model.isMoveLegal(move.getRow(), move.getCol(), move.getCard(), true));
+  }
+
+  @Test
+  public void testGeneratedMovesMatchIsMoveLegal() {
+    playTurns(new FillFirstStrategy(), 6);
+    SearchPosition position = new SearchPosition(model, model.isRedTurn());
+    int[] moves = new int[position.maxMoves()];
+    int count = position.generateMoves(moves);
+    IPlayer current = model.isRedTurn() ? red : blue;
+
+    int legal = 0;
+    for (ICard card : current.getHand()) {
+      for (int row = 0; row < 5; row++) {
+        for (int col = 0; col < 7; col++) {
+          if (model.isMoveLegal(row, col, card, model.isRedTurn())) {
+            legal++;
+          }
+        }
+      }
+    }
+    Assert.assertEquals(legal + 1, count);
+    Assert.assertEquals(SearchPosition.PASS, moves[count - 1]);
+    for (int i = 0; i < count - 1; i++) {
+      Move move = position.toMove(moves[i]);
+      Assert.assertTrue(model.isMoveLegal(move.getRow(), move.getCol(), move.getCard(),
+              model.isRedTurn()));
+    }
+  }
+
+  @Test
+  public void testChoosesLegalMove() {
+    Move move = new AlphaBetaStrategy(1000, 3).chooseMove(model, red);
+    Assert.assertFalse(move.isPass());
+    Assert.assertTrue(model.isMoveLegal(move.getRow(), move.getCol(), move.getCard(), true));
+  }
+
+  @Test
+  public void testRespectsBudget() {
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(50);
+    long start = System.nanoTime();
+    Move move = strategy.chooseMove(model, red);
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+    Assert.assertTrue("took " + elapsedMillis + "ms", elapsedMillis < 250);
+    Assert.assertFalse(move.isPass());
+    Assert.assertTrue(strategy.getNodesSearched() > 0);
+  }
+
+  @Test
+  public void testBeatsMaximizeRowScore() {
+    IStrategy search = new AlphaBetaStrategy(100000, 3);
+    IStrategy greedy = new MaximizeRowScoreStrategy();
+    playGame(search, greedy);
+    Assert.assertEquals(GameState.RED_WINS, model.getGameState());
+
+    model = newGame(5, 7);
+    playGame(greedy, search);
+    Assert.assertEquals(GameState.BLUE_WINS, model.getGameState());
+  }
+
+  @Test
+  public void testPassesToWinAfterOpponentPass() {
+    model = newGame(3, 5);
+    int[] opening = {MoveEncoding.encode(0, 2, 0), MoveEncoding.encode(1, 2, 4),
+        MoveEncoding.encode(4, 2, 1), MoveEncoding.encode(2, 0, 4), MoveEncoding.encode(4, 1, 0),
+        MoveEncoding.encode(1, 1, 4), MoveEncoding.encode(0, 1, 1), MoveEncoding.encode(0, 1, 3),
+        MoveEncoding.encode(0, 2, 2)};
+    for (int move : opening) {
+      model.makeMove(move);
+    }
+    model.makeMove(MoveEncoding.PASS);
+    Assert.assertTrue(model.currentScore(red) > model.currentScore(blue));
+    // red is ahead and blue has just passed, so passing wins the game on the spot
+    Assert.assertTrue(new AlphaBetaStrategy(100000, 4).chooseMove(model, red).isPass());
+  }
+
+  @Test
+  public void testDoesNotPassFromBehindAfterOpponentPass() {
+    model = newGame(3, 5);
+    IStrategy search = new AlphaBetaStrategy(100000, 3);
+    IStrategy fill = new FillFirstStrategy();
+    IStrategy greedy = new MaximizeRowScoreStrategy();
+    int[] moves = new int[MoveEncoding.bufferSize(5, 3, 5)];
+    int checked = 0;
+    while (!model.isGameOver()) {
+      if (!model.isRedTurn()) {
+        // if blue passes here, a red pass ends the game, which red loses while behind
+        model.makeMove(MoveEncoding.PASS);
+        int passResult = model.currentScore(red) - model.currentScore(blue);
+        if (passResult < 0 && model.legalMoves(true, moves) > 0) {
+          EndgameSolver solver = new EndgameSolver(64, 1 << 24, new TranspositionTable(1 << 16),
+                  fill);
+          solver.chooseMove(model, red);
+          // losing by less can be the best red can do, so only check when a placement is better
+          if (solver.isLastMoveSolved() && solver.getLastScore() > passResult) {
+            Assert.assertFalse(search.chooseMove(model, red).isPass());
+            checked++;
+          }
+        }
+        model.unmakeMove();
+      }
+      play(model.isRedTurn() ? fill : greedy);
+    }
+    Assert.assertTrue(checked > 0);
+  }
+
+  private PawnsBoardModelImpl newGame(int rows, int cols) {
+    red = new HumanPlayer("Red", new Deck(decks[0]), 5);
+    blue = new HumanPlayer("Blue", new Deck(decks[1]), 5);
+    PawnsBoardModelImpl game = new PawnsBoardModelImpl(new Board(rows, cols), red, blue, 5);
+    game.startGame();
+    return game;
+  }
+
+  private void playGame(IStrategy redStrategy, IStrategy blueStrategy) {
+    while (!model.isGameOver()) {
+      play(model.isRedTurn() ? redStrategy : blueStrategy);
+    }
+  }
+
+  private void playTurns(IStrategy strategy, int turns) {
+    for (int i = 0; i < turns && !model.isGameOver(); i++) {
+      play(strategy);
+    }
+  }
+
+  private void play(IStrategy strategy) {
+    Move move = strategy.chooseMove(model, model.isRedTurn() ? red : blue);
+    if (move.isPass()) {
+      model.passTurn();
+    }
+    else {
+      model.placeCard(move.getRow(), move.getCol(), move.getCard());
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.MoveEncoding;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+/**
+ * Tests for EndgameSolver, against a plain minimax over the model itself.
+ */
+public class EndgameSolverTest {
+  private List<ICard>[] decks;
+  private IPlayer red;
+  private IPlayer blue;
+  private PawnsBoardModelImpl model;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+  }
+
+  private void newGame(long seed) {
+    red = new HumanPlayer("Red", new Deck(decks[0], seed), 5);
+    blue = new HumanPlayer("Blue", new Deck(decks[1], seed), 5);
+    model = new PawnsBoardModelImpl(new Board(3, 5), red, blue, 5);
+    model.startGame();
+  }
+
+  /**
+   * Returns the final score difference for the player to move under perfect play, trying
+   * every move on the model itself, draws included.
+   */
+  private int minimax() {
+    if (model.isGameOver()) {
+      int difference = model.currentScore(red) - model.currentScore(blue);
+      return model.isRedTurn() ? difference : -difference;
+    }
+    IPlayer current = model.isRedTurn() ? red : blue;
+    int[] moves = new int[MoveEncoding.bufferSize(current.getHandSize(), 3, 5) + 1];
+    int count = model.legalMoves(model.isRedTurn(), moves);
+    moves[count++] = MoveEncoding.PASS;
+    int best = Integer.MIN_VALUE;
+    for (int i = 0; i < count; i++) {
+      model.makeMove(moves[i]);
+      best = Math.max(best, -minimax());
+      model.unmakeMove();
+    }
+    return best;
+  }
+
+  private int encode(Move move, IPlayer player) {
+    return move.isPass() ? MoveEncoding.PASS
+            : MoveEncoding.encode(player.indexOfCard(move.getCard()), move.getRow(),
+            move.getCol());
+  }
+
+  /**
+   * Plays random moves until both players have at most the given number of placements.
+   */
+  private void playUntil(Random random, int placements) {
+    int[] moves = new int[MoveEncoding.bufferSize(16, 3, 5)];
+    while (!model.isGameOver()) {
+      int redCount = model.legalMoves(true, moves);
+      int blueCount = model.legalMoves(false, moves);
+      if (redCount + blueCount <= placements) {
+        return;
+      }
+      int count = model.legalMoves(model.isRedTurn(), moves);
+      if (count == 0 || random.nextInt(8) == 0) {
+        model.passTurn();
+      }
+      else {
+        int move = moves[random.nextInt(count)];
+        IPlayer current = model.isRedTurn() ? red : blue;
+        model.placeCard(MoveEncoding.row(move), MoveEncoding.col(move),
+                current.getHand().get(MoveEncoding.cardIndex(move)));
+      }
+    }
+  }
+
+  @Test
+  public void testSolvedMovesAreOptimal() {
+    Random random = new Random(5);
+    int solved = 0;
+    for (long seed = 0; seed < 12; seed++) {
+      newGame(seed);
+      playUntil(random, 6);
+      if (model.isGameOver()) {
+        continue;
+      }
+      EndgameSolver solver = new EndgameSolver(6, new FillFirstStrategy());
+      IPlayer current = model.isRedTurn() ? red : blue;
+      Move move = solver.chooseMove(model, current);
+      if (!solver.isLastMoveSolved()) {
+        // the tree was over the node limit
+        continue;
+      }
+
+      int optimal = minimax();
+      Assert.assertEquals(optimal, solver.getLastScore());
+      model.makeMove(encode(move, current));
+      Assert.assertEquals(optimal, -minimax());
+      model.unmakeMove();
+      solved++;
+    }
+    Assert.assertTrue(solved > 6);
+  }
+
+  @Test
+  public void testOpponentPassIsRespected() {
+    newGame(1);
+    playUntil(new Random(9), 4);
+    if (!model.isGameOver()) {
+      model.passTurn();
+    }
+    Assert.assertFalse(model.isGameOver());
+    EndgameSolver solver = new EndgameSolver(8, new FillFirstStrategy());
+    solver.chooseMove(model, model.isRedTurn() ? red : blue);
+    Assert.assertTrue(solver.isLastMoveSolved());
+    // passing now would end the game, which the solver has to see
+    Assert.assertEquals(minimax(), solver.getLastScore());
+  }
+
+  @Test
+  public void testFallsBackAboveThreshold() {
+    newGame(0);
+    IStrategy fallback = new FillFirstStrategy();
+    EndgameSolver solver = new EndgameSolver(2, fallback);
+    Move move = solver.chooseMove(model, red);
+    Assert.assertFalse(solver.isLastMoveSolved());
+    Assert.assertEquals(fallback.chooseMove(model, red).getCard(), move.getCard());
+  }
+
+  @Test
+  public void testFallsBackWhenOverNodeLimit() {
+    newGame(3);
+    playUntil(new Random(1), 6);
+    EndgameSolver solver = new EndgameSolver(6, 3, new TranspositionTable(1 << 10),
+            new FillFirstStrategy());
+    solver.chooseMove(model, model.isRedTurn() ? red : blue);
+    Assert.assertFalse(solver.isLastMoveSolved());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidThreshold() {
+    new EndgameSolver(-1, new FillFirstStrategy());
+  }
+}
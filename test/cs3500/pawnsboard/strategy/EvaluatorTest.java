@@ -0,0 +1,232 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Random;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.IBoard;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.ICell;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+/**
+ * Tests for Evaluator, against features computed directly from the model.
+ */
+public class EvaluatorTest {
+  private List<ICard>[] decks;
+  private IPlayer red;
+  private IPlayer blue;
+  private PawnsBoardModelImpl model;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+    red = new HumanPlayer("Red", new Deck(decks[0]), 5);
+    blue = new HumanPlayer("Blue", new Deck(decks[1]), 5);
+    model = new PawnsBoardModelImpl(new Board(5, 7), red, blue, 5);
+    model.startGame();
+  }
+
+  /**
+   * Computes every feature from red's point of view through the model's public methods.
+   */
+  private int[] features() {
+    IBoard board = model.getBoard();
+    int score = model.currentScore(red) - model.currentScore(blue);
+    int margin = 0;
+    int contested = 0;
+    for (int row = 0; row < board.getRows(); row++) {
+      int lead = 0;
+      for (int col = 0; col < board.getCols(); col++) {
+        ICell cell = board.getCell(row, col);
+        if (cell.hasCard()) {
+          lead += cell.isOwnedByRed() ? cell.getCard().getValue() : -cell.getCard().getValue();
+        }
+      }
+      margin += Math.max(-Evaluator.MARGIN_CAP, Math.min(Evaluator.MARGIN_CAP, lead));
+      if (lead != 0 && Math.abs(lead) <= Evaluator.NARROW_LEAD) {
+        contested += Integer.signum(lead);
+      }
+    }
+    int mobility = 0;
+    int redMost = 0;
+    int blueMost = 0;
+    for (int row = 0; row < board.getRows(); row++) {
+      for (int col = 0; col < board.getCols(); col++) {
+        ICell cell = board.getCell(row, col);
+        if (!cell.hasCard() && cell.hasPawns()) {
+          if (cell.isOwnedByRed()) {
+            mobility += cell.getPawnCount();
+            redMost = Math.max(redMost, cell.getPawnCount());
+          }
+          else {
+            mobility -= cell.getPawnCount();
+            blueMost = Math.max(blueMost, cell.getPawnCount());
+          }
+        }
+      }
+    }
+    int handValue = 0;
+    int playable = 0;
+    for (ICard card : red.getHand()) {
+      handValue += card.getValue();
+      playable += card.getCost() <= redMost ? card.getCost() : 0;
+    }
+    for (ICard card : blue.getHand()) {
+      handValue -= card.getValue();
+      playable -= card.getCost() <= blueMost ? card.getCost() : 0;
+    }
+    return new int[] {score, margin, contested, mobility, handValue, playable};
+  }
+
+  @Test
+  public void testFeaturesMatchModel() {
+    Random random = new Random(3);
+    IStrategy strategy = new FillFirstStrategy();
+    for (int turn = 0; turn < 40 && !model.isGameOver(); turn++) {
+      int[] expected = features();
+      for (Evaluator.Feature feature : Evaluator.Feature.values()) {
+        int[] weights = new int[expected.length];
+        weights[feature.ordinal()] = 1;
+        Evaluator evaluator = new Evaluator(weights);
+        Assert.assertEquals(feature.getName(), expected[feature.ordinal()],
+                evaluator.evaluate(model, true));
+        Assert.assertEquals(feature.getName(), -expected[feature.ordinal()],
+                evaluator.evaluate(model, false));
+      }
+
+      Move move = random.nextInt(4) == 0 ? Move.pass()
+              : strategy.chooseMove(model, model.isRedTurn() ? red : blue);
+      if (move.isPass()) {
+        model.passTurn();
+      }
+      else {
+        model.placeCard(move.getRow(), move.getCol(), move.getCard());
+      }
+    }
+  }
+
+  @Test
+  public void testWeightsCombineLinearly() {
+    for (int turn = 0; turn < 6; turn++) {
+      Move move = new MaximizeRowScoreStrategy().chooseMove(model,
+              model.isRedTurn() ? red : blue);
+      if (move.isPass()) {
+        model.passTurn();
+      }
+      else {
+        model.placeCard(move.getRow(), move.getCol(), move.getCard());
+      }
+    }
+    int[] weights = {5, 2, -3, 1, 1, 2};
+    int[] features = features();
+    int expected = 0;
+    for (int i = 0; i < weights.length; i++) {
+      expected += weights[i] * features[i];
+    }
+    Assert.assertEquals(expected, new Evaluator(weights).evaluate(model, true));
+    Assert.assertEquals(features[0], Evaluator.DEFAULT.evaluate(model, true));
+  }
+
+  @Test
+  public void testFinishedGameCountsOnlyScore() {
+    for (int turn = 0; turn < 5; turn++) {
+      Move move = new FillFirstStrategy().chooseMove(model, model.isRedTurn() ? red : blue);
+      model.placeCard(move.getRow(), move.getCol(), move.getCard());
+    }
+    model.passTurn();
+    model.passTurn();
+    Assert.assertTrue(model.isGameOver());
+    int[] features = features();
+    Evaluator evaluator = new Evaluator(3, 2, 5, 1, 1, 2);
+    Assert.assertEquals(3 * features[0], evaluator.evaluate(model, true));
+    Assert.assertEquals(-3 * features[0], evaluator.evaluate(model, false));
+  }
+
+  @Test
+  public void testLargeWeightsDoNotOverflow() {
+    for (int turn = 0; turn < 6; turn++) {
+      Move move = new MaximizeRowScoreStrategy().chooseMove(model,
+              model.isRedTurn() ? red : blue);
+      model.placeCard(move.getRow(), move.getCol(), move.getCard());
+    }
+    int[] features = features();
+    int[] weights = new int[features.length];
+    long expected = 0;
+    for (int i = 0; i < weights.length; i++) {
+      weights[i] = features[i] < 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+      expected += (long) weights[i] * features[i];
+    }
+    Assert.assertTrue(expected > Integer.MAX_VALUE);
+    Evaluator evaluator = new Evaluator(weights);
+    Assert.assertEquals(Evaluator.LIMIT, evaluator.evaluate(model, true));
+    Assert.assertEquals(-Evaluator.LIMIT, evaluator.evaluate(model, false));
+  }
+
+  @Test
+  public void testWeightsFileRoundTrip() throws IOException {
+    Evaluator evaluator = new Evaluator(4, -1, 0, 2, 0, 7);
+    File file = File.createTempFile("weights", ".config");
+    try {
+      evaluator.writeWeightsFile(file.getPath());
+      Evaluator read = Evaluator.readWeightsFile(file.getPath());
+      Assert.assertArrayEquals(evaluator.getWeights(), read.getWeights());
+    } finally {
+      Assert.assertTrue(file.delete());
+    }
+    Evaluator shipped = Evaluator.readWeightsFile("docs" + File.separator + "weights.config");
+    Assert.assertArrayEquals(Evaluator.DEFAULT.getWeights(), shipped.getWeights());
+    Assert.assertEquals(3, evaluator.withWeight(Evaluator.Feature.MOBILITY, 3)
+            .getWeight(Evaluator.Feature.MOBILITY));
+  }
+
+  @Test
+  public void testInvalidWeightsFiles() throws IOException {
+    String[] invalid = {"score", "score one", "speed 1", "score 1\nscore 2", "score 1 2"};
+    for (String contents : invalid) {
+      File file = File.createTempFile("weights", ".config");
+      try {
+        try (Writer writer = new FileWriter(file)) {
+          writer.write(contents);
+        }
+        Evaluator.readWeightsFile(file.getPath());
+        Assert.fail("Expected an exception for " + contents);
+      } catch (IllegalArgumentException e) {
+        // malformed
+      } finally {
+        Assert.assertTrue(file.delete());
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongNumberOfWeights() {
+    new Evaluator(1, 2);
+  }
+
+  @Test
+  public void testSearchWithEvaluator() {
+    Evaluator evaluator = new Evaluator(4, 1, -1, 1, 0, 1);
+    Move move = new AlphaBetaStrategy(100000, 3, new TranspositionTable(1 << 12), evaluator)
+            .chooseMove(model, red);
+    Assert.assertTrue(model.isMoveLegal(move.getRow(), move.getCol(), move.getCard(), true));
+  }
+}
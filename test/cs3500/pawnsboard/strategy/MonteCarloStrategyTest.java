@@ -0,0 +1,132 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.GameState;
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.MoveEncoding;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+/**
+ * Tests for MonteCarloStrategy.
+ */
+public class MonteCarloStrategyTest {
+  private List<ICard>[] decks;
+  private IPlayer red;
+  private IPlayer blue;
+  private PawnsBoardModelImpl model;
+  private ForkJoinPool pool;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+    red = new HumanPlayer("Red", new Deck(decks[0]), 5);
+    blue = new HumanPlayer("Blue", new Deck(decks[1]), 5);
+    model = new PawnsBoardModelImpl(new Board(5, 7), red, blue, 5);
+    model.startGame();
+    pool = new ForkJoinPool(4);
+  }
+
+  @After
+  public void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBudget() {
+    new MonteCarloStrategy(0, pool, 1, MonteCarloStrategy.Playout.RANDOM, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidWorkers() {
+    new MonteCarloStrategy(100, pool, 0, MonteCarloStrategy.Playout.RANDOM, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidThreads() {
+    new MonteCarloStrategy(100, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullPool() {
+    new MonteCarloStrategy(100, null, 1, MonteCarloStrategy.Playout.RANDOM, 1);
+  }
+
+  @Test
+  public void testParallelSearchChoosesLegalMove() {
+    MonteCarloStrategy strategy =
+            new MonteCarloStrategy(100, pool, 4, MonteCarloStrategy.Playout.RANDOM, 1);
+    long start = System.nanoTime();
+    Move move = strategy.chooseMove(model, red);
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+    Assert.assertTrue("took " + elapsedMillis + "ms", elapsedMillis < 400);
+    Assert.assertFalse(move.isPass());
+    Assert.assertTrue(model.isMoveLegal(move.getRow(), move.getCol(), move.getCard(), true));
+    Assert.assertTrue(strategy.getPlayouts() >= 4);
+  }
+
+  @Test
+  public void testGuidedPlayoutsChooseLegalMove() {
+    MonteCarloStrategy strategy =
+            new MonteCarloStrategy(50, pool, 2, MonteCarloStrategy.Playout.FILL_FIRST, 1);
+    model.placeCard(0, 0, red.getHand().get(0));
+    Move move = strategy.chooseMove(model, blue);
+    Assert.assertFalse(move.isPass());
+    Assert.assertTrue(model.isMoveLegal(move.getRow(), move.getCol(), move.getCard(), false));
+  }
+
+  @Test
+  public void testPassesToWinAfterOpponentPass() {
+    model = new PawnsBoardModelImpl(new Board(3, 5), red, blue, 5);
+    model.startGame();
+    int[] opening = {MoveEncoding.encode(0, 2, 0), MoveEncoding.encode(1, 2, 4),
+        MoveEncoding.encode(4, 2, 1), MoveEncoding.encode(2, 0, 4), MoveEncoding.encode(4, 1, 0),
+        MoveEncoding.encode(1, 1, 4), MoveEncoding.encode(0, 1, 1), MoveEncoding.encode(0, 1, 3),
+        MoveEncoding.encode(0, 2, 2)};
+    for (int move : opening) {
+      model.makeMove(move);
+    }
+    model.makeMove(MoveEncoding.PASS);
+    Assert.assertTrue(model.currentScore(red) > model.currentScore(blue));
+    // passing ends the game with red ahead, so every playout through the pass is a win
+    MonteCarloStrategy strategy =
+            new MonteCarloStrategy(100, pool, 4, MonteCarloStrategy.Playout.RANDOM, 1);
+    Assert.assertTrue(strategy.chooseMove(model, red).isPass());
+  }
+
+  @Test
+  public void testBeatsMaximizeRowScore() {
+    IStrategy search =
+            new MonteCarloStrategy(100, pool, 4, MonteCarloStrategy.Playout.FILL_FIRST, 1);
+    IStrategy greedy = new MaximizeRowScoreStrategy();
+    while (!model.isGameOver()) {
+      IStrategy strategy = model.isRedTurn() ? search : greedy;
+      Move move = strategy.chooseMove(model, model.isRedTurn() ? red : blue);
+      if (move.isPass()) {
+        model.passTurn();
+      }
+      else {
+        model.placeCard(move.getRow(), move.getCol(), move.getCard());
+      }
+    }
+    Assert.assertEquals(GameState.RED_WINS, model.getGameState());
+  }
+}
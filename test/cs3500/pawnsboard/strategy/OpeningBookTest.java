@@ -0,0 +1,171 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+import cs3500.pawnsboard.model.Board;
+import cs3500.pawnsboard.model.Deck;
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.HumanPlayer;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPlayer;
+import cs3500.pawnsboard.model.MoveEncoding;
+import cs3500.pawnsboard.model.PawnsBoardModelImpl;
+
+/**
+ * Tests for OpeningBook, OpeningBookBuilder and OpeningBookStrategy.
+ */
+public class OpeningBookTest {
+  private List<ICard>[] decks;
+  private OpeningBook book;
+  private IPlayer red;
+  private IPlayer blue;
+  private PawnsBoardModelImpl model;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+    book = new OpeningBookBuilder(decks[0], decks[1], 3, 5, 5).build(3,
+            new AlphaBetaStrategy(100000, 2),
+            List.of(new FillFirstStrategy(), new MaximizeRowScoreStrategy()));
+    red = new HumanPlayer("Red", new Deck(decks[0]), 5);
+    blue = new HumanPlayer("Blue", new Deck(decks[1]), 5);
+    model = new PawnsBoardModelImpl(new Board(3, 5), red, blue, 5);
+    model.startGame();
+  }
+
+  private void play(Move move) {
+    if (move.isPass()) {
+      model.passTurn();
+    }
+    else {
+      model.placeCard(move.getRow(), move.getCol(), move.getCard());
+    }
+  }
+
+  @Test
+  public void testBookFollowsStrategiesLines() {
+    Assert.assertTrue(book.size() > 1);
+    Move expected = new AlphaBetaStrategy(100000, 2).chooseMove(model, red);
+    Move stored = book.probe(model, red);
+    Assert.assertEquals(expected.getCard(), stored.getCard());
+    Assert.assertEquals(expected.getRow(), stored.getRow());
+    Assert.assertEquals(expected.getCol(), stored.getCol());
+
+    // a fill first game stays in book for the plies the book covers
+    IStrategy fill = new FillFirstStrategy();
+    for (int ply = 0; ply < 3; ply++) {
+      Assert.assertNotNull(book.probe(model, model.isRedTurn() ? red : blue));
+      play(fill.chooseMove(model, model.isRedTurn() ? red : blue));
+    }
+    Assert.assertNull(book.probe(model, model.isRedTurn() ? red : blue));
+  }
+
+  @Test
+  public void testStrategyFallsThroughOutOfBook() {
+    IStrategy fallback = new FillFirstStrategy();
+    OpeningBookStrategy strategy = new OpeningBookStrategy(book, fallback);
+    strategy.chooseMove(model, red);
+    Assert.assertTrue(strategy.isLastMoveFromBook());
+    Assert.assertEquals(0, strategy.getNodesSearched());
+
+    OpeningBookStrategy empty = new OpeningBookStrategy(new OpeningBook(3, 5, new TreeMap<>()),
+            fallback);
+    Move move = empty.chooseMove(model, red);
+    Assert.assertFalse(empty.isLastMoveFromBook());
+    Assert.assertEquals(fallback.chooseMove(model, red).getCard(), move.getCard());
+  }
+
+  @Test
+  public void testPassesAreKeyedAndFollowed() {
+    model.passTurn();
+    // blue to move after red's pass is a different position from blue to move with no pass
+    Assert.assertNotEquals(new SearchPosition(model, false).key(), OpeningBook.key(model));
+
+    IStrategy pass = (view, player) -> Move.pass();
+    OpeningBook withPasses = new OpeningBookBuilder(decks[0], decks[1], 3, 5, 5).build(2,
+            new AlphaBetaStrategy(100000, 2), List.of(pass));
+    Assert.assertNotNull(withPasses.probe(model, blue));
+  }
+
+  @Test
+  public void testBookPassAfterOpponentPassIsPlayed() {
+    model.passTurn();
+    TreeMap<Long, Integer> entries = new TreeMap<>();
+    entries.put(OpeningBook.key(model), MoveEncoding.PASS);
+    OpeningBook passing = new OpeningBook(3, 5, entries);
+    // the entry was stored for this exact position, pass included, so its pass is trusted
+    Assert.assertTrue(passing.probe(model, blue).isPass());
+  }
+
+  @Test
+  public void testOtherBoardSizeIsOutOfBook() {
+    IPlayer bigRed = new HumanPlayer("Red", new Deck(decks[0]), 5);
+    IPlayer bigBlue = new HumanPlayer("Blue", new Deck(decks[1]), 5);
+    PawnsBoardModelImpl big = new PawnsBoardModelImpl(new Board(5, 7), bigRed, bigBlue, 5);
+    big.startGame();
+    Assert.assertNull(book.probe(big, bigRed));
+  }
+
+  @Test
+  public void testBookRoundTrip() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    book.write(out);
+    byte[] bytes = out.toByteArray();
+    Assert.assertEquals(20 + 12 * book.size(), bytes.length);
+    OpeningBook read = OpeningBook.read(ByteBuffer.wrap(bytes));
+    Assert.assertEquals(book.size(), read.size());
+    Assert.assertEquals(3, read.getRows());
+    Assert.assertEquals(5, read.getCols());
+    long key = OpeningBook.key(model);
+    Assert.assertEquals(book.lookup(key), read.lookup(key));
+    Assert.assertEquals(OpeningBook.NOT_FOUND, read.lookup(key + 1));
+
+    File file = File.createTempFile("book", ".pbbk");
+    try {
+      book.writeBookFile(file.getPath());
+      Assert.assertEquals(book.lookup(key), OpeningBook.readBookFile(file.getPath())
+              .lookup(key));
+    } finally {
+      Assert.assertTrue(file.delete());
+    }
+  }
+
+  @Test
+  public void testInvalidBooks() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    book.write(out);
+    byte[] bytes = out.toByteArray();
+
+    byte[] badMagic = bytes.clone();
+    badMagic[0] = 0;
+    byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+    byte[] unsorted = bytes.clone();
+    // swap the first two entries
+    System.arraycopy(bytes, 20, unsorted, 32, 12);
+    System.arraycopy(bytes, 32, unsorted, 20, 12);
+    for (byte[] invalid : new byte[][] {badMagic, truncated, unsorted}) {
+      try {
+        OpeningBook.read(ByteBuffer.wrap(invalid));
+        Assert.fail("Expected an invalid book to be rejected");
+      } catch (IllegalArgumentException e) {
+        Assert.assertTrue(e.getMessage().startsWith("Invalid opening book"));
+      }
+    }
+  }
+}
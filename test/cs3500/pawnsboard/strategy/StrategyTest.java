@@ -74,12 +74,8 @@ public class StrategyTest {
 
     List<String> log = model.getLog();
     assertTrue(log.contains("getPlayerHand for Blue"));
-    assertTrue(log.contains("checked isMoveLegal at 0,0 for card A for player Blue"));
-    assertTrue(log.contains("checked isMoveLegal at 0,1 for card A for player Blue"));
-    assertTrue(log.contains("checked isMoveLegal at 0,2 for card A for player Blue"));
-    assertTrue(log.contains("checked isMoveLegal at 0,3 for card A for player Blue"));
-    assertTrue(log.contains("checked isMoveLegal at 0,4 for card A for player Blue"));
-    assertFalse(log.contains("checked isMoveLegal at 1,0 for card A for player Blue"));
+    assertTrue(log.contains("generated legal moves for player Blue"));
+    assertFalse(log.stream().anyMatch(entry -> entry.startsWith("checked isMoveLegal")));
     assertEquals("Place card: A on (0, 4)", move.toString());
   }
 
@@ -91,21 +87,8 @@ public class StrategyTest {
 
     List<String> log = model.getLog();
     assertTrue(log.contains("getPlayerHand for Red"));
-    assertTrue(log.contains("checked isMoveLegal at 0,0 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 0,1 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 0,2 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 0,3 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 0,4 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 1,0 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 1,1 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 1,2 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 1,3 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 1,4 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 2,0 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 2,1 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 2,2 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 2,3 for card A for player Red"));
-    assertTrue(log.contains("checked isMoveLegal at 2,4 for card A for player Red"));
+    assertTrue(log.contains("generated legal moves for player Red"));
+    assertFalse(log.stream().anyMatch(entry -> entry.startsWith("checked isMoveLegal")));
     assertEquals("Pass", move.toString());
   }
 
@@ -135,7 +118,7 @@ public class StrategyTest {
     assertTrue(log.contains("checked scoreAtRow for Blue at row 0"));
     assertTrue(log.contains("checked scoreAtRow for Red at row 1"));
     assertTrue(log.contains("checked scoreAtRow for Blue at row 1"));
-    assertTrue(log.contains("checked isMoveLegal at 1,0 for card A for player Red"));
+    assertTrue(log.contains("generated legal moves for player Red"));
     assertFalse(log.contains("checked scoreAtRow for Red at row 2"));
     assertFalse(log.contains("checked scoreAtRow for Blue at row 2"));
     assertEquals("Place card: A on (1, 0)", move.toString());
@@ -0,0 +1,116 @@
+package cs3500.pawnsboard.strategy;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for TranspositionTable.
+ */
+public class TranspositionTableTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooSmall() {
+    new TranspositionTable(1);
+  }
+
+  @Test
+  public void testCapacityRoundsUp() {
+    Assert.assertEquals(1024, new TranspositionTable(1000).capacity());
+    Assert.assertEquals(1024, new TranspositionTable(1024).capacity());
+  }
+
+  @Test
+  public void testStoreAndProbe() {
+    TranspositionTable table = new TranspositionTable(64);
+    Assert.assertEquals(0, table.probe(42L));
+    table.store(42L, -1234, (3 << SearchPosition.SLOT_SHIFT) | 17, 5, TranspositionTable.LOWER);
+    long entry = table.probe(42L);
+    Assert.assertEquals(-1234, TranspositionTable.score(entry));
+    Assert.assertEquals((3 << SearchPosition.SLOT_SHIFT) | 17, TranspositionTable.move(entry));
+    Assert.assertEquals(5, TranspositionTable.depth(entry));
+    Assert.assertEquals(TranspositionTable.LOWER, TranspositionTable.bound(entry));
+
+    table.store(43L, 0, SearchPosition.PASS, 0, TranspositionTable.EXACT);
+    entry = table.probe(43L);
+    Assert.assertEquals(SearchPosition.PASS, TranspositionTable.move(entry));
+    Assert.assertEquals(TranspositionTable.EXACT, TranspositionTable.bound(entry));
+    Assert.assertEquals(0, table.probe(44L));
+
+    Assert.assertEquals(4, table.getProbes());
+    Assert.assertEquals(2, table.getHits());
+    Assert.assertEquals(2, table.getMisses());
+    Assert.assertEquals(2, table.getStores());
+  }
+
+  @Test
+  public void testShallowerResultDoesNotReplaceDeeper() {
+    TranspositionTable table = new TranspositionTable(64);
+    table.store(7L, 10, 1, 6, TranspositionTable.LOWER);
+    table.store(7L, 20, 2, 3, TranspositionTable.UPPER);
+    Assert.assertEquals(10, TranspositionTable.score(table.probe(7L)));
+
+    table.newSearch();
+    table.store(7L, 20, 2, 3, TranspositionTable.UPPER);
+    Assert.assertEquals(20, TranspositionTable.score(table.probe(7L)));
+  }
+
+  @Test
+  public void testBucketReplacesShallowerEntry() {
+    TranspositionTable table = new TranspositionTable(2);
+    table.store(1L, 1, 1, 8, TranspositionTable.EXACT);
+    table.store(2L, 2, 2, 2, TranspositionTable.EXACT);
+    table.store(3L, 3, 3, 5, TranspositionTable.EXACT);
+    Assert.assertEquals(1, TranspositionTable.score(table.probe(1L)));
+    Assert.assertEquals(0, table.probe(2L));
+    Assert.assertEquals(3, TranspositionTable.score(table.probe(3L)));
+    Assert.assertEquals(1, table.getOverwrites());
+  }
+
+  @Test
+  public void testConcurrentAccessNeverReturnsForeignEntries() throws Exception {
+    TranspositionTable table = new TranspositionTable(256);
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Long>> results = new ArrayList<>();
+      for (int thread = 0; thread < 8; thread++) {
+        long seed = thread;
+        results.add(pool.submit(() -> {
+          SplittableRandom random = new SplittableRandom(seed);
+          long hits = 0;
+          for (int i = 0; i < 200_000; i++) {
+            long key = random.nextLong(4096) * 0x9e3779b97f4a7c15L;
+            long entry = table.probe(key);
+            if (entry != 0) {
+              Assert.assertEquals(expectedScore(key), TranspositionTable.score(entry));
+              hits++;
+            }
+            else {
+              table.store(key, expectedScore(key), 0, random.nextInt(10),
+                      TranspositionTable.EXACT);
+            }
+          }
+          return hits;
+        }));
+      }
+      long hits = 0;
+      for (Future<Long> result : results) {
+        hits += result.get();
+      }
+      Assert.assertTrue(hits > 0);
+      Assert.assertEquals(hits, table.getHits());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static int expectedScore(long key) {
+    return (int) (key >>> 45) - (1 << 18);
+  }
+}
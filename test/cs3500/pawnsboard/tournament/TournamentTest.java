@@ -0,0 +1,138 @@
+package cs3500.pawnsboard.tournament;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.model.IPawnsBoardModel;
+import cs3500.pawnsboard.replay.GameLog;
+import cs3500.pawnsboard.replay.GameReplay;
+import cs3500.pawnsboard.strategy.FillFirstStrategy;
+import cs3500.pawnsboard.strategy.MaximizeRowScoreStrategy;
+import cs3500.pawnsboard.strategy.Move;
+
+/**
+ * Tests for Tournament and TournamentResult.
+ */
+public class TournamentTest {
+  private List<ICard>[] decks;
+  private Tournament tournament;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      decks = DeckReader.readDeckFile(filePath);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+    tournament = new Tournament(decks[0], decks[1], 5, 7, 5, 42);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBoard() {
+    new Tournament(decks[0], decks[1], 5, 6, 5, 42);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMismatchedDecks() {
+    new Tournament(decks[0], decks[1].subList(1, decks[1].size()), 5, 7, 5, 42);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidGames() {
+    tournament.play(FillFirstStrategy::new, FillFirstStrategy::new, 0, 1);
+  }
+
+  @Test
+  public void testGamesAreLogged() throws IOException {
+    File directory = Files.createTempDirectory("games").toFile();
+    try {
+      TournamentResult result = tournament.withLogDirectory(directory)
+              .play(MaximizeRowScoreStrategy::new, FillFirstStrategy::new, 4, 2);
+      double firstTotal = 0;
+      for (int game = 0; game < 4; game++) {
+        GameLog log;
+        try (InputStream in = new FileInputStream(new File(directory, "game-" + game + ".pbgl"))) {
+          log = GameLog.read(in);
+        }
+        Assert.assertEquals(42 + game / 2, log.getSeed());
+        IPawnsBoardModel model = new GameReplay(log, decks[0], decks[1]).replay();
+        Assert.assertTrue(model.isGameOver());
+        boolean firstIsRed = game % 2 == 0;
+        firstTotal += model.currentScore(firstIsRed ? model.getRedPlayer()
+                : model.getBluePlayer());
+      }
+      Assert.assertEquals(result.getFirstAverageScore(), firstTotal / 4, 1e-9);
+    } finally {
+      for (File file : directory.listFiles()) {
+        Assert.assertTrue(file.delete());
+      }
+      Assert.assertTrue(directory.delete());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidLogDirectory() {
+    tournament.withLogDirectory(new File("docs" + File.separator + "deck.config"));
+  }
+
+  @Test
+  public void testTotalsAddUp() {
+    TournamentResult result =
+            tournament.play(MaximizeRowScoreStrategy::new, FillFirstStrategy::new, 20, 4);
+    Assert.assertEquals(20, result.getGames());
+    Assert.assertEquals(20, result.getFirstWins() + result.getSecondWins() + result.getTies());
+    Assert.assertEquals(1.0, result.getFirstWinRate() + result.getSecondWinRate()
+            + result.getTieRate(), 1e-9);
+    Assert.assertTrue(result.getGamesPerSecond() > 0);
+  }
+
+  @Test
+  public void testSameOutcomeOnAnyNumberOfThreads() {
+    TournamentResult serial =
+            tournament.play(MaximizeRowScoreStrategy::new, FillFirstStrategy::new, 24, 1);
+    TournamentResult parallel =
+            tournament.play(MaximizeRowScoreStrategy::new, FillFirstStrategy::new, 24, 8);
+    Assert.assertEquals(serial.getFirstWins(), parallel.getFirstWins());
+    Assert.assertEquals(serial.getSecondWins(), parallel.getSecondWins());
+    Assert.assertEquals(serial.getTies(), parallel.getTies());
+    Assert.assertEquals(serial.getFirstAverageScore(), parallel.getFirstAverageScore(), 0);
+    Assert.assertEquals(serial.getSecondAverageScore(), parallel.getSecondAverageScore(), 0);
+  }
+
+  @Test
+  public void testMirrorMatchIsSymmetric() {
+    TournamentResult result =
+            tournament.play(FillFirstStrategy::new, FillFirstStrategy::new, 10, 2);
+    Assert.assertEquals(result.getFirstWins(), result.getSecondWins());
+    Assert.assertEquals(result.getFirstAverageScore(), result.getSecondAverageScore(), 0);
+  }
+
+  @Test
+  public void testIllegalMoveIsReported() {
+    try {
+      tournament.play(() -> (model, player) -> Move.placementMove(player.getHand().get(0), 0, 3),
+              FillFirstStrategy::new, 2, 1);
+      Assert.fail("Expected an illegal move to be reported");
+    } catch (IllegalStateException e) {
+      Assert.assertTrue(e.getMessage().contains("illegal move"));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownStrategy() {
+    TournamentRunner.strategy("strategy9", 100, new AtomicLong());
+  }
+}
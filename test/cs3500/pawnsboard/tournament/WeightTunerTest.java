@@ -0,0 +1,104 @@
+package cs3500.pawnsboard.tournament;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import cs3500.pawnsboard.model.DeckReader;
+import cs3500.pawnsboard.model.ICard;
+import cs3500.pawnsboard.strategy.Evaluator;
+
+/**
+ * Tests for WeightTuner.
+ */
+public class WeightTunerTest {
+  private Tournament tournament;
+
+  @Before
+  public void setUp() {
+    try {
+      String filePath = "docs" + File.separator + "deck.config";
+      List<ICard>[] decks = DeckReader.readDeckFile(filePath);
+      tournament = new Tournament(decks[0], decks[1], 3, 5, 5, 0);
+    } catch (FileNotFoundException e) {
+      Assert.fail("Deck file not found.");
+    }
+  }
+
+  private WeightTuner newTuner(int threads) {
+    return new WeightTuner(tournament, 1, 8, threads, 4, 2, 11);
+  }
+
+  @Test
+  public void testResumedRunMatchesUninterruptedRun() throws IOException {
+    WeightTuner uninterrupted = newTuner(2);
+    uninterrupted.run(3, null, null, null);
+
+    File checkpoint = File.createTempFile("tuner", ".checkpoint");
+    try {
+      WeightTuner stopped = newTuner(2);
+      stopped.run(1, checkpoint.getPath(), null, null);
+      WeightTuner resumed = newTuner(2);
+      resumed.readCheckpoint(checkpoint.getPath());
+      Assert.assertEquals(1, resumed.getIteration());
+      resumed.run(2, null, null, null);
+
+      Assert.assertEquals(3, resumed.getIteration());
+      Assert.assertArrayEquals(uninterrupted.getWeights(), resumed.getWeights(), 0);
+    } finally {
+      Assert.assertTrue(checkpoint.delete());
+    }
+  }
+
+  @Test
+  public void testSameWeightsOnAnyNumberOfThreads() throws IOException {
+    WeightTuner serial = newTuner(1);
+    serial.run(2, null, null, null);
+    WeightTuner parallel = newTuner(4);
+    parallel.run(2, null, null, null);
+    Assert.assertArrayEquals(serial.getWeights(), parallel.getWeights(), 0);
+  }
+
+  @Test
+  public void testScoreWeightIsFixed() throws IOException {
+    WeightTuner tuner = newTuner(2);
+    tuner.start(new Evaluator(10, 1, 1, 1, 1, 1));
+    File weights = File.createTempFile("tuner", ".config");
+    try {
+      tuner.run(2, null, weights.getPath(), null);
+      Assert.assertEquals(10, tuner.getWeights()[Evaluator.Feature.SCORE.ordinal()], 0);
+      Assert.assertArrayEquals(tuner.getEvaluator().getWeights(),
+              Evaluator.readWeightsFile(weights.getPath()).getWeights());
+    } finally {
+      Assert.assertTrue(weights.delete());
+    }
+  }
+
+  @Test
+  public void testInvalidCheckpoint() throws IOException {
+    File checkpoint = File.createTempFile("tuner", ".checkpoint");
+    try {
+      try (Writer writer = new FileWriter(checkpoint)) {
+        writer.write("score 16.0\n");
+      }
+      newTuner(1).readCheckpoint(checkpoint.getPath());
+      Assert.fail("Expected a missing iteration count to be reported");
+    } catch (IllegalArgumentException e) {
+      Assert.assertTrue(e.getMessage().contains("iteration"));
+    } finally {
+      Assert.assertTrue(checkpoint.delete());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOddGamesPerIteration() {
+    new WeightTuner(tournament, 1, 7, 1, 4, 2, 0);
+  }
+}